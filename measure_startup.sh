@@ -0,0 +1,25 @@
+#!/bin/bash
+# Measures the time until the application answers its first request and its resident memory afterwards.
+# Usage: ./measure_startup.sh <command starting the application...>
+# Example: ./measure_startup.sh ./target/product-order-service
+#          ./measure_startup.sh java -Dspring.profiles.active=fast -jar target/casestudy-0.0.1-SNAPSHOT.jar
+
+URL=${URL:-http://localhost:8080/api/products?size=1}
+
+start=$(date +%s%N)
+"$@" > startup.log 2>&1 &
+pid=$!
+until curl -sf -o /dev/null "$URL"; do
+  if ! kill -0 "$pid" 2>/dev/null; then
+    echo "Application exited before answering, see startup.log"
+    exit 1
+  fi
+  sleep 0.05
+done
+end=$(date +%s%N)
+
+echo "First request after $(( (end - start) / 1000000 )) ms"
+echo "Resident memory $(( $(ps -o rss= -p "$pid") / 1024 )) MB"
+
+kill "$pid"
+wait "$pid" 2>/dev/null
@@ -0,0 +1,108 @@
+package com.vserdiuk.casestudy.admission;
+
+import lombok.Getter;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Adaptive concurrency limiter using the AIMD (additive increase, multiplicative decrease) algorithm.
+ * <p>
+ * The limit grows by {@code 1 / limit} for every request that completes within the latency threshold
+ * while the limiter is at least half utilized, and is multiplied by the backoff ratio whenever a
+ * request is slower than the threshold or fails. Requests arriving while the number of in-flight
+ * requests has reached the limit are rejected, so latency stays bounded when a downstream
+ * dependency such as the database slows down.
+ * </p>
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double BACKOFF_RATIO = 0.9;
+
+    @Getter
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+    private volatile double limit;
+
+    /**
+     * Creates a new limiter.
+     *
+     * @param name               the name of the endpoint group guarded by this limiter
+     * @param initialLimit       the initial concurrency limit
+     * @param minLimit           the lower bound of the concurrency limit
+     * @param maxLimit           the upper bound of the concurrency limit
+     * @param latencyThresholdMs the latency above which a request is treated as a congestion signal
+     */
+    public AdaptiveConcurrencyLimiter(String name, int initialLimit, int minLimit, int maxLimit, long latencyThresholdMs) {
+        if (minLimit < 1 || minLimit > maxLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Invalid limits for limiter " + name);
+        }
+        this.name = name;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = TimeUnit.MILLISECONDS.toNanos(latencyThresholdMs);
+        this.limit = initialLimit;
+    }
+
+    /**
+     * Tries to admit a request.
+     *
+     * @return {@code true} if the request may proceed and {@link #release(long, boolean)} must be called
+     * once it completes, {@code false} if the request must be rejected
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= getLimit()) {
+                rejected.increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Releases an admitted request and adjusts the limit based on its outcome.
+     *
+     * @param latencyNanos the time the request took, in nanoseconds
+     * @param failed       whether the request failed in a way that indicates overload
+     */
+    public void release(long latencyNanos, boolean failed) {
+        int current = inFlight.getAndDecrement();
+        synchronized (this) {
+            if (failed || latencyNanos > latencyThresholdNanos) {
+                limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+            } else if (current * 2 >= limit) {
+                limit = Math.min(maxLimit, limit + 1 / limit);
+            }
+        }
+    }
+
+    /**
+     * @return the current concurrency limit
+     */
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    /**
+     * @return the number of requests currently admitted
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * @return the total number of requests rejected by this limiter
+     */
+    public long getRejected() {
+        return rejected.sum();
+    }
+}
@@ -0,0 +1,83 @@
+package com.vserdiuk.casestudy.admission;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Servlet filter applying admission control to the Order and Product APIs.
+ * <p>
+ * Each request is assigned to an endpoint group with its own {@link AdaptiveConcurrencyLimiter}:
+ * Order operations, catalog reads and catalog writes. When a group is at its limit the request is
+ * rejected immediately with HTTP 503 (Service Unavailable) and a {@code Retry-After} header instead of
+ * queuing in the servlet container, so catalog reads keep flowing while Order writes are shed.
+ * The status is the same as for a full Order intake queue ({@link com.vserdiuk.casestudy.exception.ServiceOverloadedException}),
+ * as both mean the service is at capacity rather than that a client exceeded a quota.
+ * Requests to other paths are not limited.
+ * </p>
+ */
+@RequiredArgsConstructor
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    private final AdaptiveConcurrencyLimiter ordersLimiter;
+    private final AdaptiveConcurrencyLimiter catalogReadsLimiter;
+    private final AdaptiveConcurrencyLimiter catalogWritesLimiter;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        AdaptiveConcurrencyLimiter limiter = resolveLimiter(request);
+        if (limiter == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+        if (!limiter.tryAcquire()) {
+            reject(response, limiter);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            chain.doFilter(request, response);
+            failed = response.getStatus() >= HttpStatus.INTERNAL_SERVER_ERROR.value();
+        } finally {
+            limiter.release(System.nanoTime() - start, failed);
+        }
+    }
+
+    /**
+     * Resolves the limiter of the endpoint group the request belongs to.
+     *
+     * @param request the incoming request
+     * @return the limiter to apply, or {@code null} if the request is not subject to admission control
+     */
+    AdaptiveConcurrencyLimiter resolveLimiter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (path.startsWith("/api/orders")) {
+            return ordersLimiter;
+        }
+        if (path.startsWith("/api/products")) {
+            return HttpMethod.GET.matches(request.getMethod()) ? catalogReadsLimiter : catalogWritesLimiter;
+        }
+        return null;
+    }
+
+    private void reject(HttpServletResponse response, AdaptiveConcurrencyLimiter limiter) throws IOException {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+        response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+        response.getWriter().write("Too many concurrent requests for " + limiter.getName() + ", retry later");
+    }
+}
@@ -0,0 +1,183 @@
+package com.vserdiuk.casestudy.analytics;
+
+import com.vserdiuk.casestudy.dto.DailyOrderStatsDTO;
+import com.vserdiuk.casestudy.dto.OrderProductDTO;
+import com.vserdiuk.casestudy.dto.ProductSalesDTO;
+import com.vserdiuk.casestudy.entity.OrderStatus;
+import com.vserdiuk.casestudy.event.OrderStatusChangedEvent;
+import com.vserdiuk.casestudy.money.Money;
+import com.vserdiuk.casestudy.repository.ArchivedOrderRepository;
+import com.vserdiuk.casestudy.repository.OrderRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory read model of Order analytics, maintained incrementally so reports never scan the
+ * transactional tables.
+ * <p>
+ * Two aggregates are kept: the units of each Product that are reserved, sold and released, and the
+ * number and value of Orders per creation day and current status. Both are built with grouped queries
+ * over the live and the archived Orders while the application starts, before the web server and the Kafka listeners accept work, and are
+ * then updated from {@link OrderStatusChangedEvent} after the changing transaction commits. Every update
+ * replaces the totals of one key atomically. Order values are summed as {@link Money} and only converted
+ * to {@link java.math.BigDecimal} when a report is built.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OrderAnalytics implements SmartLifecycle {
+
+    private static final Comparator<DailyOrderStatsDTO> BY_DATE_AND_STATUS =
+            Comparator.comparing(DailyOrderStatsDTO::getDate).thenComparing(DailyOrderStatsDTO::getStatus);
+
+    private final OrderRepository orderRepository;
+    private final ArchivedOrderRepository archivedOrderRepository;
+
+    private final Map<Long, ProductUnits> productUnits = new ConcurrentHashMap<>();
+    private final Map<DayAndStatus, DailyTotals> dailyTotals = new ConcurrentHashMap<>();
+    private volatile boolean running;
+
+    /**
+     * Builds the aggregates from the live and the archived Orders in the database.
+     */
+    @Override
+    public void start() {
+        loadProductUnits(orderRepository.summarizeByProductAndStatus());
+        loadProductUnits(archivedOrderRepository.summarizeByProductAndStatus());
+        loadDailyTotals(orderRepository.summarizeByDayAndStatus());
+        loadDailyTotals(archivedOrderRepository.summarizeByDayAndStatus());
+        running = true;
+        log.info("Order analytics loaded for {} products and {} day/status pairs", productUnits.size(), dailyTotals.size());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Starts before the web server and the Kafka listener containers, so no Order can change between
+     * the initial queries and the first event.
+     */
+    @Override
+    public int getPhase() {
+        return DEFAULT_PHASE - 4096;
+    }
+
+    /**
+     * Applies an Order transition once the changing transaction has committed.
+     * <p>
+     * The units and value of the Order move from the previous status to the new one; a new Order
+     * only adds them to its status.
+     * </p>
+     *
+     * @param event the event describing the transition
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        for (OrderProductDTO item : event.items()) {
+            long quantity = item.getQuantity();
+            ProductUnits delta = ProductUnits.of(event.status(), quantity);
+            if (event.previousStatus() != null) {
+                delta = delta.plus(ProductUnits.of(event.previousStatus(), -quantity));
+            }
+            productUnits.merge(item.getProductId(), delta, ProductUnits::plus);
+        }
+        dailyTotals.merge(new DayAndStatus(event.createdOn(), event.status()),
+                new DailyTotals(1, event.amount()), DailyTotals::plus);
+        if (event.previousStatus() != null) {
+            dailyTotals.merge(new DayAndStatus(event.createdOn(), event.previousStatus()),
+                    new DailyTotals(-1, event.amount().negate()), DailyTotals::plus);
+        }
+    }
+
+    /**
+     * @return the units moved by Orders for every Product that has been ordered, ordered by Product ID
+     */
+    public List<ProductSalesDTO> getProductSales() {
+        return productUnits.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(entry -> entry.getValue().toDTO(entry.getKey()))
+                .toList();
+    }
+
+    /**
+     * Returns the number and value of Orders per creation day and current status.
+     *
+     * @param from the first creation day to include
+     * @param to   the last creation day to include
+     * @return the totals of every day and status with at least one Order, ordered by day and status
+     */
+    public List<DailyOrderStatsDTO> getDailyStats(LocalDate from, LocalDate to) {
+        return dailyTotals.entrySet().stream()
+                .filter(entry -> entry.getValue().orderCount() > 0)
+                .filter(entry -> !entry.getKey().day().isBefore(from) && !entry.getKey().day().isAfter(to))
+                .map(entry -> DailyOrderStatsDTO.builder()
+                        .date(entry.getKey().day())
+                        .status(entry.getKey().status())
+                        .orderCount(entry.getValue().orderCount())
+                        .revenue(entry.getValue().revenue().toBigDecimal())
+                        .build())
+                .sorted(BY_DATE_AND_STATUS)
+                .toList();
+    }
+
+    private void loadProductUnits(List<OrderRepository.ProductUnits> rows) {
+        rows.forEach(row -> productUnits.merge(row.getProductId(),
+                ProductUnits.of(row.getStatus(), row.getUnits()), ProductUnits::plus));
+    }
+
+    private void loadDailyTotals(List<OrderRepository.DailyTotals> rows) {
+        rows.forEach(row -> dailyTotals.merge(new DayAndStatus(row.getDay(), row.getStatus()),
+                new DailyTotals(row.getOrderCount(), Money.of(row.getRevenue())), DailyTotals::plus));
+    }
+
+    private record DayAndStatus(LocalDate day, OrderStatus status) {
+    }
+
+    private record DailyTotals(long orderCount, Money revenue) {
+
+        DailyTotals plus(DailyTotals other) {
+            return new DailyTotals(orderCount + other.orderCount, revenue.plus(other.revenue));
+        }
+    }
+
+    private record ProductUnits(long reserved, long sold, long released) {
+
+        static ProductUnits of(OrderStatus status, long units) {
+            return switch (status) {
+                case CREATED -> new ProductUnits(units, 0, 0);
+                case PAID -> new ProductUnits(0, units, 0);
+                case CANCELLED, EXPIRED -> new ProductUnits(0, 0, units);
+            };
+        }
+
+        ProductUnits plus(ProductUnits other) {
+            return new ProductUnits(reserved + other.reserved, sold + other.sold, released + other.released);
+        }
+
+        ProductSalesDTO toDTO(Long productId) {
+            return ProductSalesDTO.builder()
+                    .productId(productId)
+                    .unitsReserved(reserved)
+                    .unitsSold(sold)
+                    .unitsReleased(released)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.vserdiuk.casestudy.archive;
+
+import com.vserdiuk.casestudy.service.OrderArchivalService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Background job archiving closed Orders older than the retention window.
+ * <p>
+ * Each run archives bounded batches, each in its own transaction, so locks are held briefly and
+ * a run never competes with Order traffic for long. A run stops when no eligible Orders are left
+ * or after the configured number of batches; the next run continues where it stopped.
+ * </p>
+ */
+@Component
+@Slf4j
+public class OrderArchivalJob {
+
+    private final OrderArchivalService orderArchivalService;
+    private final int retentionDays;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+
+    public OrderArchivalJob(OrderArchivalService orderArchivalService,
+                            @Value("${order.archive.retention-days:90}") int retentionDays,
+                            @Value("${order.archive.batch-size:500}") int batchSize,
+                            @Value("${order.archive.max-batches-per-run:20}") int maxBatchesPerRun) {
+        this.orderArchivalService = orderArchivalService;
+        this.retentionDays = retentionDays;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+    }
+
+    /**
+     * Archives closed Orders created before the retention window.
+     *
+     * @return the number of Orders archived by this run
+     */
+    @Scheduled(initialDelayString = "${order.archive.initial-delay-ms:300000}",
+            fixedDelayString = "${order.archive.interval-ms:3600000}")
+    public int archive() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        int total = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            int archived = orderArchivalService.archiveClosedOrders(cutoff, batchSize);
+            total += archived;
+            if (archived < batchSize) {
+                break;
+            }
+        }
+        if (total > 0) {
+            log.info("Archived {} closed orders created before {}", total, cutoff);
+        }
+        return total;
+    }
+}
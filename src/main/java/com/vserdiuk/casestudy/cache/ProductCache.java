@@ -0,0 +1,109 @@
+package com.vserdiuk.casestudy.cache;
+
+import com.vserdiuk.casestudy.dto.ProductDTO;
+import com.vserdiuk.casestudy.event.ProductsChangedEvent;
+import com.vserdiuk.casestudy.event.ProductsDeletedEvent;
+import com.vserdiuk.casestudy.mapper.ProductMapper;
+import com.vserdiuk.casestudy.repository.ProductRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory cache of Product snapshots used to serve multi-ID reads.
+ * <p>
+ * Products missing from the cache are loaded together with a single query and evicted when a transaction
+ * that changed or deleted them commits, so stock reserved or released by Orders is never served stale
+ * after the commit. Like {@link ProductVersionCache}, loaded Products are only cached if no invalidation
+ * happened while they were being loaded. Once the cache holds its maximum number of Products, further
+ * misses are served from the database without being cached.
+ * </p>
+ */
+@Component
+public class ProductCache {
+
+    private final ProductRepository productRepository;
+    private final int maxEntries;
+    private final Map<Long, ProductDTO> products = new ConcurrentHashMap<>();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    /**
+     * Creates a cache holding at most the given number of Products.
+     *
+     * @param productRepository the repository missing Products are loaded from
+     * @param maxEntries        the maximum number of cached Products
+     */
+    public ProductCache(ProductRepository productRepository,
+                        @Value("${product.cache.max-entries:100000}") int maxEntries) {
+        this.productRepository = productRepository;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Returns the Products with the given IDs, loading all cache misses with a single query.
+     *
+     * @param productIds the IDs of the Products
+     * @return the existing Products by their IDs; IDs of missing Products have no entry
+     */
+    public Map<Long, ProductDTO> getProducts(Collection<Long> productIds) {
+        Map<Long, ProductDTO> found = new HashMap<>();
+        List<Long> misses = new ArrayList<>();
+        for (Long productId : productIds) {
+            ProductDTO cached = products.get(productId);
+            if (cached != null) {
+                found.put(productId, cached);
+            } else {
+                misses.add(productId);
+            }
+        }
+        if (misses.isEmpty()) {
+            return found;
+        }
+
+        long invalidationsBeforeLoad = invalidations.get();
+        List<ProductDTO> loaded = productRepository.findAllById(misses).stream()
+                .map(ProductMapper::toDTO)
+                .toList();
+        boolean cacheable = invalidations.get() == invalidationsBeforeLoad;
+        for (ProductDTO product : loaded) {
+            found.put(product.getId(), product);
+            if (cacheable && products.size() < maxEntries) {
+                products.putIfAbsent(product.getId(), product);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Evicts changed Products once the changing transaction has committed.
+     *
+     * @param event the event describing the changed Products
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductsChanged(ProductsChangedEvent event) {
+        invalidate(event.products().stream().map(ProductDTO::getId).toList());
+    }
+
+    /**
+     * Evicts deleted Products once the deleting transaction has committed.
+     *
+     * @param event the event describing the deleted Products
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductsDeleted(ProductsDeletedEvent event) {
+        invalidate(event.productIds());
+    }
+
+    private void invalidate(Collection<Long> productIds) {
+        invalidations.incrementAndGet();
+        productIds.forEach(products::remove);
+    }
+}
@@ -0,0 +1,201 @@
+package com.vserdiuk.casestudy.cache;
+
+import com.vserdiuk.casestudy.repository.ProductRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * In-memory counting Bloom filter over the names of existing Products.
+ * <p>
+ * Used to skip the database query of a name uniqueness check when the name is definitely not taken.
+ * A negative answer is authoritative, a positive one must be confirmed against the database.
+ * To keep negatives authoritative, names are added before the creating transaction writes them and
+ * only removed after the deleting or renaming transaction has committed; a rolled-back creation
+ * merely leaves a false positive behind. Counters that reach their maximum are never decremented.
+ * Access to the counters is serialized, which is negligible next to the query a check replaces.
+ * </p>
+ * <p>
+ * The filter is built from the database when the application is ready. Until then every name is
+ * reported as possibly taken, so all checks go to the database.
+ * </p>
+ */
+@Component
+@Slf4j
+public class ProductNameFilter {
+
+    private static final int MAX_COUNT = 0xFF;
+
+    private final ProductRepository productRepository;
+    private final byte[] counters;
+    private final int hashCount;
+    private final AtomicLong skippedQueries = new AtomicLong();
+    private volatile boolean ready;
+
+    /**
+     * Creates a filter sized for the expected number of names and the target false-positive rate.
+     *
+     * @param productRepository the repository the filter is built from
+     * @param meterRegistry     the registry the number of skipped queries is published to
+     * @param expectedNames     the number of names the filter is sized for
+     * @param falsePositiveRate the target rate of false positives at the expected number of names
+     */
+    public ProductNameFilter(ProductRepository productRepository,
+                             MeterRegistry meterRegistry,
+                             @Value("${product.name-filter.expected-names:1000000}") int expectedNames,
+                             @Value("${product.name-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.productRepository = productRepository;
+        long size = (long) Math.ceil(-expectedNames * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.counters = new byte[(int) Math.min(Math.max(size, 64), Integer.MAX_VALUE - 8)];
+        this.hashCount = Math.max(1, (int) Math.round((double) counters.length / expectedNames * Math.log(2)));
+        FunctionCounter.builder("product.name.filter.skipped.queries", skippedQueries, AtomicLong::doubleValue)
+                .description("Name uniqueness checks answered without a database query")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Builds the filter from the names of all Products once the application has started.
+     * Names added or released while loading are applied on top of the loaded names.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        AtomicLong count = new AtomicLong();
+        try (Stream<String> names = productRepository.streamAllNames()) {
+            names.forEach(name -> {
+                increment(name);
+                count.incrementAndGet();
+            });
+        }
+        ready = true;
+        log.info("Product name filter loaded with {} names ({} counters, {} hashes)", count, counters.length, hashCount);
+    }
+
+    /**
+     * Checks whether a Product with the given name may exist.
+     *
+     * @param name the Product name
+     * @return {@code false} if no Product has this name, {@code true} if one may have it
+     */
+    public synchronized boolean mightContain(String name) {
+        if (!ready) {
+            return true;
+        }
+        long hash = hash(name);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < hashCount; i++) {
+            if (counters[index(h1 + i * h2)] == 0) {
+                skippedQueries.incrementAndGet();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Adds the name of a Product about to be created or renamed.
+     * <p>
+     * Must be called before the name is written, so no check can miss a committed name.
+     * </p>
+     *
+     * @param name the Product name
+     */
+    public void add(String name) {
+        increment(name);
+    }
+
+    /**
+     * Releases the names of deleted or renamed Products once the current transaction has committed,
+     * or immediately if no transaction is active.
+     * <p>
+     * Names released before the filter is loaded are kept, since the load may not have counted them
+     * yet and decrementing would clear counters shared with other names.
+     * </p>
+     *
+     * @param names the released Product names
+     */
+    public void releaseAfterCommit(Collection<String> names) {
+        if (!ready) {
+            return;
+        }
+        List<String> released = List.copyOf(names);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    released.forEach(ProductNameFilter.this::decrement);
+                }
+            });
+        } else {
+            released.forEach(this::decrement);
+        }
+    }
+
+    /**
+     * @return the number of checks answered as definitely absent, each saving a database query
+     */
+    public long getSkippedQueries() {
+        return skippedQueries.get();
+    }
+
+    private synchronized void increment(String name) {
+        long hash = hash(name);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < hashCount; i++) {
+            int index = index(h1 + i * h2);
+            if (Byte.toUnsignedInt(counters[index]) < MAX_COUNT) {
+                counters[index]++;
+            }
+        }
+    }
+
+    private synchronized void decrement(String name) {
+        long hash = hash(name);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < hashCount; i++) {
+            int index = index(h1 + i * h2);
+            int count = Byte.toUnsignedInt(counters[index]);
+            if (count > 0 && count < MAX_COUNT) {
+                counters[index]--;
+            }
+        }
+    }
+
+    private int index(int combinedHash) {
+        return Math.floorMod(combinedHash, counters.length);
+    }
+
+    /**
+     * Computes a 64-bit FNV-1a hash of the UTF-8 bytes of a name, finalized with the MurmurHash3 mixer.
+     * The two 32-bit halves seed the double hashing of the counter indexes.
+     */
+    private static long hash(String name) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : name.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
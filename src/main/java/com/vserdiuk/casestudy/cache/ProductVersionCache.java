@@ -0,0 +1,93 @@
+package com.vserdiuk.casestudy.cache;
+
+import com.vserdiuk.casestudy.dto.ProductDTO;
+import com.vserdiuk.casestudy.event.ProductsChangedEvent;
+import com.vserdiuk.casestudy.event.ProductsDeletedEvent;
+import com.vserdiuk.casestudy.repository.ProductRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory cache of Product versions used to answer conditional GET requests.
+ * <p>
+ * Versions are loaded lazily with a single-column query and evicted when a transaction that
+ * changed or deleted the Product commits, so an unchanged Product can be revalidated without
+ * loading the entity. The cache also keeps a catalog version that advances on every Product
+ * change and is used to revalidate paged listings. The catalog version starts from the current
+ * time so values handed out before a restart are never reused.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductVersionCache {
+
+    private final ProductRepository productRepository;
+    private final Map<Long, Long> versions = new ConcurrentHashMap<>();
+    private final AtomicLong invalidations = new AtomicLong();
+    private final AtomicLong catalogVersion = new AtomicLong(System.currentTimeMillis());
+
+    /**
+     * Returns the current version of a Product, loading it from the database on a cache miss.
+     * <p>
+     * A loaded version is only cached if no invalidation happened while it was being loaded,
+     * so a concurrent commit cannot leave a stale version behind.
+     * </p>
+     *
+     * @param productId the ID of the Product
+     * @return the version of the Product
+     * @throws EntityNotFoundException if the Product does not exist
+     */
+    public long getVersion(Long productId) {
+        Long cached = versions.get(productId);
+        if (cached != null) {
+            return cached;
+        }
+        long invalidationsBeforeLoad = invalidations.get();
+        Long loaded = productRepository.findVersionById(productId)
+                .orElseThrow(() -> new EntityNotFoundException("Product not found with id: " + productId));
+        if (invalidations.get() == invalidationsBeforeLoad) {
+            versions.putIfAbsent(productId, loaded);
+        }
+        return loaded;
+    }
+
+    /**
+     * @return the version of the catalog as a whole, advanced on every Product change
+     */
+    public long getCatalogVersion() {
+        return catalogVersion.get();
+    }
+
+    /**
+     * Evicts the versions of changed Products once the changing transaction has committed.
+     *
+     * @param event the event describing the changed Products
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductsChanged(ProductsChangedEvent event) {
+        invalidate(event.products().stream().map(ProductDTO::getId).toList());
+    }
+
+    /**
+     * Evicts the versions of deleted Products once the deleting transaction has committed.
+     *
+     * @param event the event describing the deleted Products
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductsDeleted(ProductsDeletedEvent event) {
+        invalidate(event.productIds());
+    }
+
+    private void invalidate(Collection<Long> productIds) {
+        invalidations.incrementAndGet();
+        catalogVersion.incrementAndGet();
+        productIds.forEach(versions::remove);
+    }
+}
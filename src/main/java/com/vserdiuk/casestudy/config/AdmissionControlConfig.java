@@ -0,0 +1,71 @@
+package com.vserdiuk.casestudy.config;
+
+import com.vserdiuk.casestudy.admission.AdaptiveConcurrencyLimiter;
+import com.vserdiuk.casestudy.admission.AdmissionControlFilter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.util.List;
+
+@Configuration
+@ConditionalOnProperty(name = "admission.enabled", havingValue = "true", matchIfMissing = true)
+public class AdmissionControlConfig {
+
+    @Value("${admission.latency-threshold-ms:500}")
+    private long latencyThresholdMs;
+
+    @Bean
+    public AdaptiveConcurrencyLimiter ordersLimiter(@Value("${admission.orders.initial-limit:20}") int initialLimit,
+                                                    @Value("${admission.orders.max-limit:200}") int maxLimit) {
+        return new AdaptiveConcurrencyLimiter("orders", initialLimit, 1, maxLimit, latencyThresholdMs);
+    }
+
+    @Bean
+    public AdaptiveConcurrencyLimiter catalogReadsLimiter(@Value("${admission.catalog-reads.initial-limit:100}") int initialLimit,
+                                                          @Value("${admission.catalog-reads.max-limit:1000}") int maxLimit) {
+        return new AdaptiveConcurrencyLimiter("catalog-reads", initialLimit, 1, maxLimit, latencyThresholdMs);
+    }
+
+    @Bean
+    public AdaptiveConcurrencyLimiter catalogWritesLimiter(@Value("${admission.catalog-writes.initial-limit:20}") int initialLimit,
+                                                           @Value("${admission.catalog-writes.max-limit:200}") int maxLimit) {
+        return new AdaptiveConcurrencyLimiter("catalog-writes", initialLimit, 1, maxLimit, latencyThresholdMs);
+    }
+
+    @Bean
+    public FilterRegistrationBean<AdmissionControlFilter> admissionControlFilter(AdaptiveConcurrencyLimiter ordersLimiter,
+                                                                                 AdaptiveConcurrencyLimiter catalogReadsLimiter,
+                                                                                 AdaptiveConcurrencyLimiter catalogWritesLimiter,
+                                                                                 MeterRegistry meterRegistry) {
+        List.of(ordersLimiter, catalogReadsLimiter, catalogWritesLimiter)
+                .forEach(limiter -> bindMetrics(limiter, meterRegistry));
+
+        FilterRegistrationBean<AdmissionControlFilter> registration = new FilterRegistrationBean<>(
+                new AdmissionControlFilter(ordersLimiter, catalogReadsLimiter, catalogWritesLimiter));
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+
+    private void bindMetrics(AdaptiveConcurrencyLimiter limiter, MeterRegistry meterRegistry) {
+        Gauge.builder("admission.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .description("Current adaptive concurrency limit")
+                .tag("group", limiter.getName())
+                .register(meterRegistry);
+        Gauge.builder("admission.inflight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                .description("Requests currently admitted")
+                .tag("group", limiter.getName())
+                .register(meterRegistry);
+        FunctionCounter.builder("admission.rejected", limiter, AdaptiveConcurrencyLimiter::getRejected)
+                .description("Requests rejected with 503 Service Unavailable")
+                .tag("group", limiter.getName())
+                .register(meterRegistry);
+    }
+}
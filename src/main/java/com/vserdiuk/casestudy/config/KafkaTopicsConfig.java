@@ -9,11 +9,18 @@ import org.springframework.kafka.core.KafkaAdmin;
 public class KafkaTopicsConfig {
 
     public static final String ORDER_EXPIRATION_TOPIC = "order-expiration-topic";
+    public static final String ORDER_EXPIRATION_DLQ_TOPIC = "order-expiration-dlq";
+    public static final String PARKING_LOT_SUFFIX = "-parking-lot";
+    public static final String ORDER_EXPIRATION_PARKING_LOT_TOPIC = ORDER_EXPIRATION_DLQ_TOPIC + PARKING_LOT_SUFFIX;
 
     @Bean
     public KafkaAdmin.NewTopics topics() {
         return new KafkaAdmin.NewTopics(
                 TopicBuilder.name(ORDER_EXPIRATION_TOPIC)
+                        .partitions(1)
+                        .replicas(1)
+                        .build(),
+                TopicBuilder.name(ORDER_EXPIRATION_DLQ_TOPIC)
                         .partitions(1)
                         .replicas(1)
                         .build()
@@ -0,0 +1,29 @@
+package com.vserdiuk.casestudy.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Registers a binary CBOR encoding next to JSON for the Order and Product APIs.
+ * <p>
+ * Clients opt in with {@code Accept: application/cbor} and, for request bodies,
+ * {@code Content-Type: application/cbor}. The CBOR mapper is built from the application's
+ * {@link Jackson2ObjectMapperBuilder}, so it applies the same {@code spring.jackson.*} settings
+ * and modules as the JSON mapper and both encodings carry the same DTO fields.
+ * </p>
+ */
+@Configuration
+public class MessageConvertersConfig {
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        ObjectMapper cborMapper = builder
+                .factory(new CBORFactory())
+                .build();
+        return new MappingJackson2CborHttpMessageConverter(cborMapper);
+    }
+}
@@ -0,0 +1,93 @@
+package com.vserdiuk.casestudy.config;
+
+import com.vserdiuk.casestudy.dto.DailyOrderStatsDTO;
+import com.vserdiuk.casestudy.dto.ExpirationReplayDTO;
+import com.vserdiuk.casestudy.dto.OrderCreationResultDTO;
+import com.vserdiuk.casestudy.dto.OrderDTO;
+import com.vserdiuk.casestudy.dto.OrderLineDTO;
+import com.vserdiuk.casestudy.dto.OrderLineRejectionDTO;
+import com.vserdiuk.casestudy.dto.OrderQuoteDTO;
+import com.vserdiuk.casestudy.dto.OrderQuoteLineDTO;
+import com.vserdiuk.casestudy.dto.OrderRejectionDTO;
+import com.vserdiuk.casestudy.dto.OrderRequestDTO;
+import com.vserdiuk.casestudy.dto.OrderTransitionDTO;
+import com.vserdiuk.casestudy.dto.ProductDTO;
+import com.vserdiuk.casestudy.dto.ProductLookupDTO;
+import com.vserdiuk.casestudy.dto.ProductSalesDTO;
+import com.vserdiuk.casestudy.dto.ProductWindowDTO;
+import com.vserdiuk.casestudy.entity.ArchivedOrder;
+import com.vserdiuk.casestudy.entity.ArchivedOrderProduct;
+import com.vserdiuk.casestudy.entity.Order;
+import com.vserdiuk.casestudy.entity.OrderExpirationTask;
+import com.vserdiuk.casestudy.entity.OrderProduct;
+import com.vserdiuk.casestudy.entity.OrderStatus;
+import com.vserdiuk.casestudy.entity.Product;
+import com.vserdiuk.casestudy.entity.TaskStatus;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+import java.util.List;
+
+/**
+ * Reachability metadata for the GraalVM native image build.
+ * <p>
+ * Covers what is only reached reflectively or by resource lookup at runtime: the JPA entities and their
+ * enums, the Lombok builders and the DTOs built with them, the Kafka serializers configured by class name
+ * and the Liquibase changelogs.
+ * </p>
+ */
+@Configuration
+@ImportRuntimeHints(NativeHintsConfig.ApplicationRuntimeHints.class)
+public class NativeHintsConfig {
+
+    static class ApplicationRuntimeHints implements RuntimeHintsRegistrar {
+
+        private static final List<Class<?>> ENTITIES = List.of(
+                Product.class, Order.class, OrderProduct.class, OrderExpirationTask.class,
+                ArchivedOrder.class, ArchivedOrderProduct.class,
+                OrderStatus.class, TaskStatus.class);
+
+        private static final List<Class<?>> BUILT_TYPES = List.of(
+                Product.ProductBuilder.class, Order.OrderBuilder.class, OrderProduct.OrderProductBuilder.class,
+                OrderExpirationTask.OrderExpirationTaskBuilder.class,
+                ArchivedOrder.ArchivedOrderBuilder.class, ArchivedOrderProduct.ArchivedOrderProductBuilder.class,
+                ProductDTO.class, ProductDTO.ProductDTOBuilder.class,
+                ProductLookupDTO.class, ProductLookupDTO.ProductLookupDTOBuilder.class,
+                ProductWindowDTO.class, ProductWindowDTO.ProductWindowDTOBuilder.class,
+                ProductSalesDTO.class, ProductSalesDTO.ProductSalesDTOBuilder.class,
+                OrderDTO.class, OrderDTO.OrderDTOBuilder.class,
+                OrderLineDTO.class, OrderLineDTO.OrderLineDTOBuilder.class,
+                OrderCreationResultDTO.class, OrderCreationResultDTO.OrderCreationResultDTOBuilder.class,
+                OrderRejectionDTO.class, OrderRejectionDTO.OrderRejectionDTOBuilder.class,
+                OrderLineRejectionDTO.class, OrderLineRejectionDTO.OrderLineRejectionDTOBuilder.class,
+                OrderQuoteDTO.class, OrderQuoteDTO.OrderQuoteDTOBuilder.class,
+                OrderQuoteLineDTO.class, OrderQuoteLineDTO.OrderQuoteLineDTOBuilder.class,
+                OrderRequestDTO.class, OrderRequestDTO.OrderRequestDTOBuilder.class,
+                OrderTransitionDTO.class, OrderTransitionDTO.OrderTransitionDTOBuilder.class,
+                DailyOrderStatsDTO.class, DailyOrderStatsDTO.DailyOrderStatsDTOBuilder.class,
+                ExpirationReplayDTO.class, ExpirationReplayDTO.ExpirationReplayDTOBuilder.class);
+
+        private static final List<Class<?>> KAFKA_SERIALIZERS = List.of(
+                StringSerializer.class, StringDeserializer.class);
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            ENTITIES.forEach(type -> hints.reflection().registerType(type,
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                    MemberCategory.INVOKE_DECLARED_METHODS,
+                    MemberCategory.DECLARED_FIELDS));
+            BUILT_TYPES.forEach(type -> hints.reflection().registerType(type,
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                    MemberCategory.INVOKE_PUBLIC_METHODS,
+                    MemberCategory.DECLARED_FIELDS));
+            KAFKA_SERIALIZERS.forEach(type -> hints.reflection().registerType(type,
+                    MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS));
+            hints.resources().registerPattern("db/changelog/*.yaml");
+        }
+    }
+}
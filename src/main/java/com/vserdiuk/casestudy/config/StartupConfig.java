@@ -0,0 +1,25 @@
+package com.vserdiuk.casestudy.config;
+
+import com.vserdiuk.casestudy.archive.OrderArchivalJob;
+import com.vserdiuk.casestudy.messaging.ExpirationTaskPurgeJob;
+import com.vserdiuk.casestudy.messaging.OrderExpirationConsumer;
+import com.vserdiuk.casestudy.messaging.OrderExpirationDlqProcessor;
+import com.vserdiuk.casestudy.messaging.OrderExpirationProducer;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class StartupConfig {
+
+    /**
+     * Keeps the messaging components and background jobs eager when lazy initialization is enabled, since their
+     * listener and scheduled methods are only registered once the bean has been created.
+     */
+    @Bean
+    static LazyInitializationExcludeFilter eagerMessagingBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+                OrderExpirationConsumer.class, OrderExpirationDlqProcessor.class, OrderExpirationProducer.class,
+                OrderArchivalJob.class, ExpirationTaskPurgeJob.class);
+    }
+}
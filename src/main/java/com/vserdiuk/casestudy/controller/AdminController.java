@@ -0,0 +1,44 @@
+package com.vserdiuk.casestudy.controller;
+
+import com.vserdiuk.casestudy.dto.ExpirationReplayDTO;
+import com.vserdiuk.casestudy.service.ExpirationRecoveryService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller for operational tasks.
+ * <p>
+ * All endpoints are prefixed with "/api/admin".
+ * </p>
+ */
+@RestController
+@RequestMapping("/api/admin")
+@Tag(name = "Admin API", description = "Operational tasks")
+@RequiredArgsConstructor
+public class AdminController {
+
+    private final ExpirationRecoveryService expirationRecoveryService;
+
+    /**
+     * Requeues failed expiration tasks and replays parked expiration events, so the stock reserved by
+     * their Orders is released.
+     *
+     * @param maxMessages the maximum number of parked events to replay, 1000 by default
+     * @return a {@link ResponseEntity} containing the {@link ExpirationReplayDTO} with HTTP status 200 (OK)
+     */
+    @Operation(summary = "Replay failed and parked order expirations")
+    @PostMapping("/order-expirations/replay")
+    public ResponseEntity<ExpirationReplayDTO> replayOrderExpirations(
+            @RequestParam(defaultValue = "1000") int maxMessages) {
+        if (maxMessages < 1) {
+            throw new IllegalArgumentException("maxMessages must be positive");
+        }
+        return ResponseEntity.ok(expirationRecoveryService.replay(maxMessages));
+    }
+}
@@ -1,10 +1,20 @@
 package com.vserdiuk.casestudy.controller;
 
 import com.vserdiuk.casestudy.dto.CreateOrderDTO;
+import com.vserdiuk.casestudy.dto.OrderCreationResultDTO;
 import com.vserdiuk.casestudy.dto.OrderDTO;
+import com.vserdiuk.casestudy.dto.OrderQuoteDTO;
+import com.vserdiuk.casestudy.dto.OrderRejectionDTO;
+import com.vserdiuk.casestudy.dto.OrderRequestDTO;
+import com.vserdiuk.casestudy.dto.OrderTransitionDTO;
 import com.vserdiuk.casestudy.exception.BusinessException;
+import com.vserdiuk.casestudy.service.OrderBulkService;
+import com.vserdiuk.casestudy.service.OrderIntakeService;
 import com.vserdiuk.casestudy.service.OrderService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -12,10 +22,14 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.net.URI;
+import java.util.List;
+
 /**
  * REST controller for managing Order-related operations.
  * <p>
- * This controller provides endpoints for creating, paying, and canceling orders.
+ * This controller provides endpoints for creating, retrieving, paying, and canceling orders, one at a time or in batches.
+ * Orders can also be submitted asynchronously and their outcome polled by request reference.
  * All endpoints are prefixed with "/api/orders".
  * </p>
  */
@@ -26,17 +40,84 @@ import org.springframework.web.bind.annotation.*;
 public class OrderController {
 
     private final OrderService orderService;
+    private final OrderIntakeService orderIntakeService;
+    private final OrderBulkService orderBulkService;
 
     /**
      * Creates a new order with the specified products and quantities.
      *
      * @param dto the data transfer object containing the details required to create an order
-     * @return a {@link ResponseEntity} containing the created {@link OrderDTO} with HTTP status 201 (Created)
+     * @return a {@link ResponseEntity} containing the created {@link OrderDTO} with HTTP status 201 (Created),
+     * or the {@link OrderRejectionDTO} with HTTP status 400 (Bad Request) if some Products are missing or out of stock.
+     * The body type depends on the status, so both are declared for the API documentation.
      */
     @Operation(summary = "Create a new order with products and quantities")
+    @ApiResponse(responseCode = "201", description = "The Order was created and its stock reserved",
+            content = @Content(schema = @Schema(implementation = OrderDTO.class)))
+    @ApiResponse(responseCode = "400", description = "Some Products are missing or out of stock; nothing was reserved",
+            content = @Content(schema = @Schema(implementation = OrderRejectionDTO.class)))
     @PostMapping
-    public ResponseEntity<OrderDTO> createOrder(@Valid @RequestBody CreateOrderDTO dto) {
-        return new ResponseEntity<>(orderService.createOrder(dto), HttpStatus.CREATED);
+    public ResponseEntity<Object> createOrder(@Valid @RequestBody CreateOrderDTO dto) {
+        OrderCreationResultDTO result = orderService.createOrder(dto);
+        if (!result.isCreated()) {
+            return ResponseEntity.badRequest().body(result.getRejection());
+        }
+        return new ResponseEntity<>(result.getOrder(), HttpStatus.CREATED);
+    }
+
+    /**
+     * Prices an order and checks the availability of its products without creating it or reserving stock.
+     *
+     * @param dto the data transfer object containing the order items to quote
+     * @return a {@link ResponseEntity} containing the {@link OrderQuoteDTO} with HTTP status 200 (OK)
+     */
+    @Operation(summary = "Quote an order without creating it")
+    @PostMapping("/quote")
+    public ResponseEntity<OrderQuoteDTO> quoteOrder(@Valid @RequestBody CreateOrderDTO dto) {
+        return ResponseEntity.ok(orderService.quoteOrder(dto));
+    }
+
+    /**
+     * Accepts an order for asynchronous creation.
+     * <p>
+     * The request is validated and queued; stock is reserved later by the intake workers.
+     * The outcome can be polled at the URI returned in the {@code Location} header.
+     * </p>
+     *
+     * @param dto the data transfer object containing the details required to create an order
+     * @return a {@link ResponseEntity} containing the accepted {@link OrderRequestDTO} with HTTP status 202 (Accepted)
+     */
+    @Operation(summary = "Submit an order for asynchronous creation")
+    @PostMapping("/async")
+    public ResponseEntity<OrderRequestDTO> submitOrder(@Valid @RequestBody CreateOrderDTO dto) {
+        OrderRequestDTO request = orderIntakeService.submit(dto);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/orders/requests/" + request.getReference()))
+                .body(request);
+    }
+
+    /**
+     * Retrieves the status of an order submitted for asynchronous creation.
+     *
+     * @param reference the reference of the order request
+     * @return a {@link ResponseEntity} containing the {@link OrderRequestDTO} with HTTP status 200 (OK)
+     */
+    @Operation(summary = "Get the status of an asynchronously submitted order")
+    @GetMapping("/requests/{reference}")
+    public ResponseEntity<OrderRequestDTO> getOrderRequest(@PathVariable String reference) {
+        return ResponseEntity.ok(orderIntakeService.getStatus(reference));
+    }
+
+    /**
+     * Retrieves an order by its ID. Orders that have been archived are served from the archive.
+     *
+     * @param id the ID of the order to retrieve
+     * @return a {@link ResponseEntity} containing the {@link OrderDTO} with HTTP status 200 (OK)
+     */
+    @Operation(summary = "Get an order by ID")
+    @GetMapping("/{id}")
+    public ResponseEntity<OrderDTO> getOrder(@PathVariable Long id) {
+        return ResponseEntity.ok(orderService.getOrder(id));
     }
 
     /**
@@ -65,6 +146,30 @@ public class OrderController {
         return ResponseEntity.ok().build();
     }
 
+    /**
+     * Marks a batch of orders as paid, for example from the settlement callback of a payment provider.
+     *
+     * @param ids a list of order IDs to mark as paid
+     * @return a {@link ResponseEntity} containing the {@link OrderTransitionDTO} per order ID with HTTP status 200 (OK)
+     */
+    @Operation(summary = "Mark a batch of orders as paid")
+    @PostMapping("/batch/pay")
+    public ResponseEntity<List<OrderTransitionDTO>> payOrders(@RequestBody List<Long> ids) {
+        return ResponseEntity.ok(orderBulkService.payOrders(ids));
+    }
+
+    /**
+     * Cancels a batch of orders and releases their associated stock.
+     *
+     * @param ids a list of order IDs to cancel
+     * @return a {@link ResponseEntity} containing the {@link OrderTransitionDTO} per order ID with HTTP status 200 (OK)
+     */
+    @Operation(summary = "Cancel a batch of orders and release stock")
+    @PostMapping("/batch/cancel")
+    public ResponseEntity<List<OrderTransitionDTO>> cancelOrders(@RequestBody List<Long> ids) {
+        return ResponseEntity.ok(orderBulkService.cancelOrders(ids));
+    }
+
     /**
      * Handles BusinessException and returns a 400 Bad Request response with the error message.
      *
@@ -2,6 +2,9 @@ package com.vserdiuk.casestudy.controller;
 
 import com.vserdiuk.casestudy.dto.CreateProductDTO;
 import com.vserdiuk.casestudy.dto.ProductDTO;
+import com.vserdiuk.casestudy.dto.ProductFilterDTO;
+import com.vserdiuk.casestudy.dto.ProductLookupDTO;
+import com.vserdiuk.casestudy.dto.ProductWindowDTO;
 import com.vserdiuk.casestudy.dto.UpdateProductDTO;
 import com.vserdiuk.casestudy.service.ProductService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -13,6 +16,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -21,6 +25,8 @@ import java.util.List;
  * <p>
  * This controller provides endpoints for creating, updating, deleting, and retrieving Products.
  * It supports both single and batch operations for product management, as well as paginated retrieval of products.
+ * Product reads carry an {@code ETag} and answer {@code If-None-Match} revalidations with 304 (Not Modified)
+ * without loading the Products. Products can be searched by name through an in-memory index.
  * All endpoints are prefixed with "/api/products".
  * </p>
  */
@@ -106,27 +112,94 @@ public class ProductController {
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * Retrieves products matching price and stock criteria, sorted by price or stock quantity.
+     * <p>
+     * Results are keyset-paginated: the response carries a {@code nextCursor} to pass as the {@code cursor}
+     * parameter for the next page, so deep pages cost the same as the first one.
+     * </p>
+     *
+     * @param filter the filter criteria, sort order, page size and cursor, bound from query parameters
+     * @return a {@link ResponseEntity} containing a {@link ProductWindowDTO} with HTTP status 200 (OK)
+     */
+    @Operation(summary = "Filter Products by price and stock with keyset pagination")
+    @GetMapping("/filter")
+    public ResponseEntity<ProductWindowDTO> filterProducts(@Valid ProductFilterDTO filter) {
+        return ResponseEntity.ok(productService.filterProducts(filter));
+    }
+
+    /**
+     * Searches products by name, tolerating prefixes and small typos.
+     *
+     * @param q        the free-text search query
+     * @param pageable pagination information; results are always ordered by relevance
+     * @return a {@link ResponseEntity} containing a {@link Page} of matching {@link ProductDTO} objects with HTTP status 200 (OK)
+     */
+    @Operation(summary = "Search Products by name")
+    @GetMapping("/search")
+    public ResponseEntity<Page<ProductDTO>> searchProducts(@RequestParam String q, Pageable pageable) {
+        return ResponseEntity.ok(productService.searchProducts(q, pageable));
+    }
+
     /**
      * Retrieves a product by its ID.
+     * <p>
+     * The response carries a strong {@code ETag} derived from the Product version. If the request's
+     * {@code If-None-Match} header matches the current version, HTTP status 304 (Not Modified) is returned
+     * without loading the Product.
+     * </p>
      *
-     * @param id the ID of the product to retrieve
-     * @return a {@link ResponseEntity} containing the {@link ProductDTO} with HTTP status 200 (OK)
+     * @param id      the ID of the product to retrieve
+     * @param request the current request, used to evaluate conditional headers
+     * @return a {@link ResponseEntity} containing the {@link ProductDTO} with HTTP status 200 (OK),
+     * or {@code null} if the response has been completed as 304 (Not Modified)
      */
     @Operation(summary = "Get a Product by its ID")
     @GetMapping("/{id}")
-    public ResponseEntity<ProductDTO> getProduct(@PathVariable Long id) {
-        return ResponseEntity.ok(productService.getProduct(id));
+    public ResponseEntity<ProductDTO> getProduct(@PathVariable Long id, WebRequest request) {
+        String eTag = "\"" + id + "-" + productService.getProductVersion(id) + "\"";
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(eTag).body(productService.getProduct(id));
+    }
+
+    /**
+     * Retrieves multiple products by their IDs with a single request.
+     * <p>
+     * Products are served from an in-memory cache, and all cache misses are loaded with a single query.
+     * The response keeps the order of the requested IDs and marks IDs without a Product as not found.
+     * </p>
+     *
+     * @param ids the IDs of the products to retrieve
+     * @return a {@link ResponseEntity} containing a list of {@link ProductLookupDTO} objects with HTTP status 200 (OK)
+     */
+    @Operation(summary = "Get multiple Products by their IDs")
+    @GetMapping(params = "ids")
+    public ResponseEntity<List<ProductLookupDTO>> getProducts(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(productService.getProducts(ids));
     }
 
     /**
      * Retrieves a paginated list of all products.
+     * <p>
+     * The response carries a strong {@code ETag} derived from the catalog version, which changes whenever
+     * any Product changes. A matching {@code If-None-Match} header is answered with HTTP status 304 (Not Modified)
+     * without querying the Products.
+     * </p>
      *
      * @param pageable pagination and sorting information
-     * @return a {@link Page} of {@link ProductDTO} objects containing the paginated list of products
+     * @param request  the current request, used to evaluate conditional headers
+     * @return a {@link ResponseEntity} containing a {@link Page} of {@link ProductDTO} objects,
+     * or {@code null} if the response has been completed as 304 (Not Modified)
      */
     @Operation(summary = "List all Products with pagination")
     @GetMapping
-    public Page<ProductDTO> getAllProducts(Pageable pageable) {
-        return productService.getAllProducts(pageable);
+    public ResponseEntity<Page<ProductDTO>> getAllProducts(Pageable pageable, WebRequest request) {
+        String eTag = "\"catalog-" + productService.getCatalogVersion() + "\"";
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(eTag).body(productService.getAllProducts(pageable));
     }
 }
\ No newline at end of file
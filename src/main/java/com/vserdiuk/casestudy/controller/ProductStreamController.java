@@ -0,0 +1,44 @@
+package com.vserdiuk.casestudy.controller;
+
+import com.vserdiuk.casestudy.stream.ProductChangeBroadcaster;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * REST controller streaming Product changes to clients as Server-Sent Events.
+ * <p>
+ * Storefronts subscribe once instead of polling the Product API. Stock and price changes caused by
+ * Order reservations, cancellations, expirations and Product updates are pushed as they happen.
+ * The endpoint is available at "/api/products/stream".
+ * </p>
+ */
+@RestController
+@RequestMapping("/api/products/stream")
+@Tag(name = "Product Stream API", description = "Live stream of Product stock and price changes")
+@RequiredArgsConstructor
+public class ProductStreamController {
+
+    private final ProductChangeBroadcaster productChangeBroadcaster;
+
+    /**
+     * Subscribes to the stream of Product changes.
+     * <p>
+     * The stream emits a {@code products} event with a JSON array of changed Products and a
+     * {@code deleted} event with a JSON array of deleted Product IDs. Changes to the same Product
+     * within a short window are coalesced into its latest state.
+     * </p>
+     *
+     * @return the {@link SseEmitter} streaming the changes
+     */
+    @Operation(summary = "Stream Product stock and price changes")
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamProductChanges() {
+        return productChangeBroadcaster.subscribe();
+    }
+}
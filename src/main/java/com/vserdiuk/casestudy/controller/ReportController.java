@@ -0,0 +1,63 @@
+package com.vserdiuk.casestudy.controller;
+
+import com.vserdiuk.casestudy.analytics.OrderAnalytics;
+import com.vserdiuk.casestudy.dto.DailyOrderStatsDTO;
+import com.vserdiuk.casestudy.dto.ProductSalesDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * REST controller serving Order reports for dashboards.
+ * <p>
+ * Reports are answered from the {@link OrderAnalytics} read model and never query the Order tables.
+ * All endpoints are prefixed with "/api/reports".
+ * </p>
+ */
+@RestController
+@RequestMapping("/api/reports")
+@Tag(name = "Report API", description = "Order analytics for dashboards")
+@RequiredArgsConstructor
+public class ReportController {
+
+    private static final int DEFAULT_DAYS = 30;
+
+    private final OrderAnalytics orderAnalytics;
+
+    /**
+     * Retrieves the units reserved, sold and released per Product.
+     *
+     * @return a {@link ResponseEntity} containing the list of {@link ProductSalesDTO} with HTTP status 200 (OK)
+     */
+    @Operation(summary = "Get units reserved, sold and released per product")
+    @GetMapping("/products")
+    public ResponseEntity<List<ProductSalesDTO>> getProductSales() {
+        return ResponseEntity.ok(orderAnalytics.getProductSales());
+    }
+
+    /**
+     * Retrieves the number and value of Orders per creation day and current status.
+     *
+     * @param from the first creation day to include, 30 days before {@code to} by default
+     * @param to   the last creation day to include, today by default
+     * @return a {@link ResponseEntity} containing the list of {@link DailyOrderStatsDTO} with HTTP status 200 (OK)
+     */
+    @Operation(summary = "Get order counts and revenue per day and status")
+    @GetMapping("/orders/daily")
+    public ResponseEntity<List<DailyOrderStatsDTO>> getDailyOrderStats(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(DEFAULT_DAYS);
+        return ResponseEntity.ok(orderAnalytics.getDailyStats(start, end));
+    }
+}
@@ -0,0 +1,36 @@
+package com.vserdiuk.casestudy.dto;
+
+import com.vserdiuk.casestudy.entity.OrderStatus;
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Data Transfer Object representing the Orders created on one day that are currently in one status.
+ */
+@Data
+@Builder
+public class DailyOrderStatsDTO {
+
+    /**
+     * The day the Orders were created on.
+     */
+    private LocalDate date;
+
+    /**
+     * The current status of the Orders.
+     */
+    private OrderStatus status;
+
+    /**
+     * The number of Orders.
+     */
+    private long orderCount;
+
+    /**
+     * The total value of the Orders.
+     */
+    private BigDecimal revenue;
+}
@@ -0,0 +1,22 @@
+package com.vserdiuk.casestudy.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Data Transfer Object representing the outcome of replaying undelivered Order expirations.
+ */
+@Data
+@Builder
+public class ExpirationReplayDTO {
+
+    /**
+     * The number of failed expiration tasks returned to the pending state.
+     */
+    private int requeuedTasks;
+
+    /**
+     * The number of parked expiration events republished to the expiration topic.
+     */
+    private int replayedMessages;
+}
@@ -0,0 +1,29 @@
+package com.vserdiuk.casestudy.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Data Transfer Object representing the outcome of an Order creation: either the created Order or the rejection.
+ */
+@Data
+@Builder
+public class OrderCreationResultDTO {
+
+    /**
+     * The created Order, {@code null} if the Order was rejected.
+     */
+    private OrderDTO order;
+
+    /**
+     * The reasons the Order was rejected, {@code null} if it was created.
+     */
+    private OrderRejectionDTO rejection;
+
+    /**
+     * @return {@code true} if the Order was created
+     */
+    public boolean isCreated() {
+        return order != null;
+    }
+}
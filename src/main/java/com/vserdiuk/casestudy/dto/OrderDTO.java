@@ -4,6 +4,7 @@ import com.vserdiuk.casestudy.entity.OrderStatus;
 import lombok.Builder;
 import lombok.Data;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -11,7 +12,7 @@ import java.util.List;
  * Data Transfer Object representing an Order.
  * <p>
  * This DTO is used for transferring order data, including its ID, status,
- * timestamps, and associated products.
+ * timestamps, and lines.
  * </p>
  */
 @Data
@@ -45,10 +46,15 @@ public class OrderDTO {
     private LocalDateTime paidAt;
 
     /**
-     * The list of products associated with this Order.
+     * The total value of the Order, computed from the Product prices at the time of purchase.
+     */
+    private BigDecimal totalAmount;
+
+    /**
+     * The lines of this Order.
      * <p>
-     * Each item represents a product included in the Order.
+     * Each line carries the Product name, quantity and prices at the time of purchase.
      * </p>
      */
-    private List<ProductDTO> products;
+    private List<OrderLineDTO> lines;
 }
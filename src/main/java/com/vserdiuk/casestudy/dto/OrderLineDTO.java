@@ -0,0 +1,43 @@
+package com.vserdiuk.casestudy.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+/**
+ * Data Transfer Object representing one line of an Order as it was purchased.
+ * <p>
+ * The name and the unit price are snapshots taken when the Order was created, so they stay
+ * unchanged when the Product is later renamed, repriced or deleted.
+ * </p>
+ */
+@Data
+@Builder
+public class OrderLineDTO {
+
+    /**
+     * The ID of the ordered Product.
+     */
+    private Long productId;
+
+    /**
+     * The name of the Product at the time of purchase.
+     */
+    private String name;
+
+    /**
+     * The ordered quantity.
+     */
+    private Integer quantity;
+
+    /**
+     * The price of the Product at the time of purchase.
+     */
+    private BigDecimal unitPrice;
+
+    /**
+     * The unit price multiplied by the quantity.
+     */
+    private BigDecimal lineTotal;
+}
@@ -0,0 +1,27 @@
+package com.vserdiuk.casestudy.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Data Transfer Object representing why one line of an Order cannot be fulfilled.
+ */
+@Data
+@Builder
+public class OrderLineRejectionDTO {
+
+    /**
+     * The ID of the Product of the rejected line.
+     */
+    private Long productId;
+
+    /**
+     * The reason the line is rejected.
+     */
+    private OrderLineRejectionReason reason;
+
+    /**
+     * A human-readable description of the reason.
+     */
+    private String message;
+}
@@ -0,0 +1,9 @@
+package com.vserdiuk.casestudy.dto;
+
+/**
+ * Reasons an order line can be rejected for.
+ */
+public enum OrderLineRejectionReason {
+    PRODUCT_NOT_FOUND,
+    INSUFFICIENT_STOCK
+}
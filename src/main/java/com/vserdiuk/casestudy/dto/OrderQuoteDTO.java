@@ -0,0 +1,30 @@
+package com.vserdiuk.casestudy.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Data Transfer Object representing the prices and availability of an Order that has not been created.
+ */
+@Data
+@Builder
+public class OrderQuoteDTO {
+
+    /**
+     * The quoted lines, in the order of the requested items.
+     */
+    private List<OrderQuoteLineDTO> lines;
+
+    /**
+     * The sum of the line totals of the existing Products.
+     */
+    private BigDecimal totalAmount;
+
+    /**
+     * Whether every line is available, so creating the Order would currently pass stock validation.
+     */
+    private boolean available;
+}
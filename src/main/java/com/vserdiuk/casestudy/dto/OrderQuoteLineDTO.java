@@ -0,0 +1,44 @@
+package com.vserdiuk.casestudy.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+/**
+ * Data Transfer Object representing the price and availability of one line of an Order quote.
+ */
+@Data
+@Builder
+public class OrderQuoteLineDTO {
+
+    /**
+     * The ID of the quoted Product.
+     */
+    private Long productId;
+
+    /**
+     * The requested quantity.
+     */
+    private Integer quantity;
+
+    /**
+     * The current price of the Product, {@code null} if the Product does not exist.
+     */
+    private BigDecimal unitPrice;
+
+    /**
+     * The unit price multiplied by the quantity, {@code null} if the Product does not exist.
+     */
+    private BigDecimal lineTotal;
+
+    /**
+     * Whether the Product exists and has enough stock for the quantity.
+     */
+    private boolean available;
+
+    /**
+     * The reason the line is not available, {@code null} otherwise.
+     */
+    private String message;
+}
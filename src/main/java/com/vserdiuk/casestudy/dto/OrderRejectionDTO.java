@@ -0,0 +1,24 @@
+package com.vserdiuk.casestudy.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object representing an Order that was not created because some of its lines cannot be fulfilled.
+ */
+@Data
+@Builder
+public class OrderRejectionDTO {
+
+    /**
+     * The descriptions of all rejected lines, joined with {@code "; "}.
+     */
+    private String message;
+
+    /**
+     * The rejected lines, in the order of the requested items.
+     */
+    private List<OrderLineRejectionDTO> lines;
+}
@@ -0,0 +1,51 @@
+package com.vserdiuk.casestudy.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object representing an Order request accepted by the asynchronous intake.
+ * <p>
+ * The request is identified by an opaque reference handed out on submission. Once the request
+ * has been processed, the DTO carries either the ID of the created Order or the rejection reason.
+ * </p>
+ */
+@Data
+@Builder(toBuilder = true)
+public class OrderRequestDTO {
+
+    /**
+     * The reference of the Order request, used to poll its status.
+     */
+    private String reference;
+
+    /**
+     * The current processing status of the Order request.
+     */
+    private OrderRequestStatus status;
+
+    /**
+     * The ID of the created Order.
+     * <p>
+     * Only set when the request has been {@link OrderRequestStatus#COMPLETED}.
+     * </p>
+     */
+    private Long orderId;
+
+    /**
+     * The reason the request was rejected or failed, {@code null} otherwise.
+     */
+    private String message;
+
+    /**
+     * The timestamp when the request was accepted.
+     */
+    private LocalDateTime submittedAt;
+
+    /**
+     * The timestamp when the request reached its final status, {@code null} while it is pending.
+     */
+    private LocalDateTime completedAt;
+}
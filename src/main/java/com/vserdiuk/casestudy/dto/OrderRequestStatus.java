@@ -0,0 +1,11 @@
+package com.vserdiuk.casestudy.dto;
+
+/**
+ * Lifecycle states of an Order request submitted through the asynchronous intake.
+ */
+public enum OrderRequestStatus {
+    ACCEPTED,
+    COMPLETED,
+    REJECTED,
+    FAILED
+}
@@ -0,0 +1,27 @@
+package com.vserdiuk.casestudy.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Data Transfer Object representing the outcome of a status transition requested for one Order of a batch.
+ */
+@Data
+@Builder
+public class OrderTransitionDTO {
+
+    /**
+     * The ID of the Order.
+     */
+    private Long orderId;
+
+    /**
+     * The outcome of the transition.
+     */
+    private OrderTransitionOutcome outcome;
+
+    /**
+     * The reason the transition was not applied, {@code null} otherwise.
+     */
+    private String message;
+}
@@ -0,0 +1,11 @@
+package com.vserdiuk.casestudy.dto;
+
+/**
+ * Outcomes of a status transition requested for one Order of a batch.
+ */
+public enum OrderTransitionOutcome {
+    APPLIED,
+    NOT_FOUND,
+    INVALID_STATUS,
+    FAILED
+}
@@ -0,0 +1,72 @@
+package com.vserdiuk.casestudy.dto;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+
+/**
+ * Data Transfer Object describing a filtered, sorted and keyset-paginated Product query.
+ * <p>
+ * All filter criteria are optional and combined with AND. Pages are addressed by the opaque
+ * cursor returned with the previous page instead of a page number, so every page is read
+ * with an index seek regardless of how deep it is.
+ * </p>
+ */
+@Data
+public class ProductFilterDTO {
+
+    /**
+     * The minimum price, inclusive.
+     */
+    @DecimalMin("0")
+    private BigDecimal minPrice;
+
+    /**
+     * The maximum price, inclusive.
+     */
+    @DecimalMin("0")
+    private BigDecimal maxPrice;
+
+    /**
+     * The minimum stock quantity, inclusive.
+     */
+    @Min(0)
+    private Integer minStock;
+
+    /**
+     * If {@code true}, only Products with a positive stock quantity are returned.
+     */
+    private boolean inStock;
+
+    /**
+     * The attribute to sort by. Ties are broken by Product ID in the same direction.
+     */
+    @NotNull
+    private ProductSortField sortBy = ProductSortField.PRICE;
+
+    /**
+     * The sort direction.
+     */
+    @NotNull
+    private Sort.Direction direction = Sort.Direction.ASC;
+
+    /**
+     * The maximum number of Products per page.
+     */
+    @Min(1)
+    @Max(100)
+    private int size = 20;
+
+    /**
+     * The cursor returned with the previous page, or {@code null} for the first page.
+     * <p>
+     * A cursor is only valid for the same sort attribute and direction it was issued for.
+     * </p>
+     */
+    private String cursor;
+}
@@ -0,0 +1,27 @@
+package com.vserdiuk.casestudy.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Data Transfer Object representing the result of looking up one Product ID of a multi-ID read.
+ */
+@Data
+@Builder
+public class ProductLookupDTO {
+
+    /**
+     * The requested Product ID.
+     */
+    private Long id;
+
+    /**
+     * Whether a Product with this ID exists.
+     */
+    private boolean found;
+
+    /**
+     * The Product, {@code null} if it does not exist.
+     */
+    private ProductDTO product;
+}
@@ -0,0 +1,32 @@
+package com.vserdiuk.casestudy.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Data Transfer Object representing the units of a Product moved by Orders.
+ */
+@Data
+@Builder
+public class ProductSalesDTO {
+
+    /**
+     * The unique identifier of the Product.
+     */
+    private Long productId;
+
+    /**
+     * The units currently reserved by Orders awaiting payment.
+     */
+    private long unitsReserved;
+
+    /**
+     * The units sold by paid Orders.
+     */
+    private long unitsSold;
+
+    /**
+     * The units released back to stock by canceled and expired Orders.
+     */
+    private long unitsReleased;
+}
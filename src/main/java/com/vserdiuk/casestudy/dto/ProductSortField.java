@@ -0,0 +1,31 @@
+package com.vserdiuk.casestudy.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Product attributes that filtered Product queries can be sorted and paginated by.
+ * <p>
+ * Each field is backed by a composite database index ending in the Product ID,
+ * so sorted keyset pagination is served from the index.
+ * </p>
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ProductSortField {
+
+    /**
+     * Sort by price, served by the {@code (price, id)} index.
+     */
+    PRICE("price"),
+
+    /**
+     * Sort by stock quantity, served by the {@code (stock_quantity, id)} index.
+     */
+    STOCK_QUANTITY("stockQuantity");
+
+    /**
+     * The name of the corresponding {@link com.vserdiuk.casestudy.entity.Product} attribute.
+     */
+    private final String property;
+}
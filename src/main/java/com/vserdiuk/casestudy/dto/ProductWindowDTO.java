@@ -0,0 +1,29 @@
+package com.vserdiuk.casestudy.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object representing one keyset-paginated page of Products.
+ */
+@Data
+@Builder
+public class ProductWindowDTO {
+
+    /**
+     * The Products on this page, in the requested order.
+     */
+    private List<ProductDTO> content;
+
+    /**
+     * The cursor to pass to fetch the next page, or {@code null} if this is the last page.
+     */
+    private String nextCursor;
+
+    /**
+     * Whether more Products match the filter after this page.
+     */
+    private boolean hasNext;
+}
@@ -0,0 +1,51 @@
+package com.vserdiuk.casestudy.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * A closed Order moved out of the live {@code orders} table by the archival job.
+ * Rows are written by set-based statements and never modified afterwards.
+ */
+@Entity
+@Immutable
+@Table(name = "orders_archive")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ArchivedOrder implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = -6417432712693364127L;
+
+    @Id
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private OrderStatus status; // PAID, CANCELLED, EXPIRED
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "paid_at")
+    private LocalDateTime paidAt;
+
+    @Column(name = "total_amount", nullable = false)
+    private BigDecimal totalAmount;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    @OneToMany(mappedBy = "order")
+    private List<ArchivedOrderProduct> orderProducts;
+}
@@ -0,0 +1,48 @@
+package com.vserdiuk.casestudy.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.math.BigDecimal;
+
+/**
+ * A line of an {@link ArchivedOrder}. Keeps the Product name, since the Product may be deleted later.
+ */
+@Entity
+@Immutable
+@Table(name = "order_product_archive")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ArchivedOrderProduct implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 5264880432751340829L;
+
+    @Id
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "order_id")
+    private ArchivedOrder order;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(name = "product_name", nullable = false)
+    private String productName;
+
+    @Column(nullable = false)
+    private Integer quantity;
+
+    @Column(name = "unit_price", nullable = false)
+    private BigDecimal unitPrice;
+
+    @Column(name = "line_total", nullable = false)
+    private BigDecimal lineTotal;
+}
@@ -32,4 +32,7 @@ public class OrderExpirationTask implements Serializable {
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private TaskStatus status; // PENDING, SENT, FAILED
+
+    @Column(nullable = false)
+    private int attempts;
 }
\ No newline at end of file
@@ -5,6 +5,7 @@ import lombok.*;
 
 import java.io.Serial;
 import java.io.Serializable;
+import java.math.BigDecimal;
 
 @Entity
 @Table(name = "order_product", indexes = {
@@ -29,11 +30,20 @@ public class OrderProduct implements Serializable {
     @JoinColumn(name = "order_id")
     private Order order;
 
-    @ManyToOne(optional = false)
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "product_id")
     private Product product;
 
+    @Column(name = "product_name", nullable = false)
+    private String productName; // Product name at the time of purchase
+
     @Column(nullable = false)
     private Integer quantity;
+
+    @Column(name = "unit_price", nullable = false)
+    private BigDecimal unitPrice; // Product price at the time of purchase
+
+    @Column(name = "line_total", nullable = false)
+    private BigDecimal lineTotal;
 }
 
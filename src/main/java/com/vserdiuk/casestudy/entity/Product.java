@@ -33,5 +33,9 @@ public class Product implements Serializable {
 
     @Column(name = "stock_quantity", nullable = false)
     private Integer stockQuantity;
+
+    @Version
+    @Column(nullable = false)
+    private Long version;
 }
 
@@ -0,0 +1,31 @@
+package com.vserdiuk.casestudy.event;
+
+import com.vserdiuk.casestudy.dto.OrderProductDTO;
+import com.vserdiuk.casestudy.entity.OrderStatus;
+import com.vserdiuk.casestudy.money.Money;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Application event published when an Order is created, paid, canceled or expired.
+ * <p>
+ * The event describes the transition and the Order contents, so listeners maintaining
+ * aggregates can apply it without loading the Order. Listeners should react after the
+ * transaction commits.
+ * </p>
+ *
+ * @param orderId        the ID of the Order
+ * @param createdOn      the day the Order was created on
+ * @param previousStatus the status before the transition, or {@code null} for a new Order
+ * @param status         the status after the transition
+ * @param amount         the value of the Order
+ * @param items          the ordered Products and their quantities
+ */
+public record OrderStatusChangedEvent(Long orderId,
+                                      LocalDate createdOn,
+                                      OrderStatus previousStatus,
+                                      OrderStatus status,
+                                      Money amount,
+                                      List<OrderProductDTO> items) {
+}
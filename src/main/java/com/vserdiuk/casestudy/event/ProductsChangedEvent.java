@@ -0,0 +1,18 @@
+package com.vserdiuk.casestudy.event;
+
+import com.vserdiuk.casestudy.dto.ProductDTO;
+
+import java.util.List;
+
+/**
+ * Application event published when Products are created or modified, including stock changes
+ * caused by Order reservations and releases.
+ * <p>
+ * The event carries a snapshot of the Products as written by the publishing transaction.
+ * Listeners that maintain in-memory views should react after the transaction commits.
+ * </p>
+ *
+ * @param products the created or modified Products
+ */
+public record ProductsChangedEvent(List<ProductDTO> products) {
+}
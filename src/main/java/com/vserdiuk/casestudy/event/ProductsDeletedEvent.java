@@ -0,0 +1,11 @@
+package com.vserdiuk.casestudy.event;
+
+import java.util.Collection;
+
+/**
+ * Application event published when Products are deleted.
+ *
+ * @param productIds the IDs of the deleted Products
+ */
+public record ProductsDeletedEvent(Collection<Long> productIds) {
+}
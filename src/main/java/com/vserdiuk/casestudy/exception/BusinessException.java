@@ -1,7 +1,14 @@
 package com.vserdiuk.casestudy.exception;
 
+/**
+ * Exception thrown when a request violates a business rule, such as a status transition that is not allowed.
+ * <p>
+ * Business rule violations are expected outcomes rather than programming errors, so the exception does not
+ * capture a stack trace and costs no more to throw than any other object allocation.
+ * </p>
+ */
 public class BusinessException extends RuntimeException {
     public BusinessException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 }
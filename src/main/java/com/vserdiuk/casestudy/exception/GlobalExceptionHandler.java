@@ -1,14 +1,20 @@
 package com.vserdiuk.casestudy.exception;
 
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.validation.method.ParameterErrors;
+import org.springframework.validation.method.ParameterValidationResult;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.stream.Collectors;
 
@@ -25,6 +31,20 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(ex.getMessage());
     }
 
+    @ExceptionHandler(ProductInUseException.class)
+    public ResponseEntity<Map<String, Object>> handleProductInUse(ProductInUseException ex) {
+        return buildResponse(ex.getMessage(), HttpStatus.CONFLICT);
+    }
+
+    /**
+     * Handles writes of a Product that changed since it was loaded, such as an update racing a reservation
+     * of the same Product. The client may reload the Product and retry.
+     */
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<Map<String, Object>> handleOptimisticLockingFailure(ObjectOptimisticLockingFailureException ex) {
+        return buildResponse("The resource was modified concurrently, please retry", HttpStatus.CONFLICT);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<Map<String, Object>> handleValidation(MethodArgumentNotValidException ex) {
         Map<String, String> validationErrors = ex.getBindingResult()
@@ -36,6 +56,44 @@ public class GlobalExceptionHandler {
                         (existing, replacement) -> existing // handle duplicate keys
                 ));
 
+        return buildValidationResponse(validationErrors);
+    }
+
+    /**
+     * Handles validation failures of the elements of batch request bodies, which are validated one by one
+     * in a single pass. Errors are keyed by the index of the element and the field, such as {@code [3].price}.
+     */
+    @ExceptionHandler(HandlerMethodValidationException.class)
+    public ResponseEntity<Map<String, Object>> handleMethodValidation(HandlerMethodValidationException ex) {
+        Map<String, String> validationErrors = new LinkedHashMap<>();
+        for (ParameterValidationResult result : ex.getParameterValidationResults()) {
+            String prefix = result.getContainerIndex() != null
+                    ? "[" + result.getContainerIndex() + "]"
+                    : result.getMethodParameter().getParameterName();
+            if (result instanceof ParameterErrors errors) {
+                errors.getFieldErrors().forEach(fieldError -> validationErrors.putIfAbsent(
+                        prefix + "." + fieldError.getField(), fieldError.getDefaultMessage()));
+            } else {
+                result.getResolvableErrors().forEach(error -> validationErrors.putIfAbsent(prefix, error.getDefaultMessage()));
+            }
+        }
+        return buildValidationResponse(validationErrors);
+    }
+
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<Map<String, Object>> handleOverloaded(ServiceOverloadedException ex) {
+        ResponseEntity<Map<String, Object>> response = buildResponse(ex.getMessage(), HttpStatus.SERVICE_UNAVAILABLE);
+        return ResponseEntity.status(response.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(response.getBody());
+    }
+
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<Map<String, Object>> handleGeneral(Exception ex) {
+        return buildResponse("Internal server error", HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+
+    private ResponseEntity<Map<String, Object>> buildValidationResponse(Map<String, String> validationErrors) {
         Map<String, Object> body = new HashMap<>();
         body.put("timestamp", LocalDateTime.now());
         body.put("status", HttpStatus.BAD_REQUEST.value());
@@ -46,11 +104,6 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(body);
     }
 
-    @ExceptionHandler(Exception.class)
-    public ResponseEntity<Map<String, Object>> handleGeneral(Exception ex) {
-        return buildResponse("Internal server error", HttpStatus.INTERNAL_SERVER_ERROR);
-    }
-
     private ResponseEntity<Map<String, Object>> buildResponse(String message, HttpStatus status) {
         return ResponseEntity.status(status).body(Map.of(
                 "timestamp", LocalDateTime.now(),
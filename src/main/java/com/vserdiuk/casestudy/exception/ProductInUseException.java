@@ -0,0 +1,20 @@
+package com.vserdiuk.casestudy.exception;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Thrown when Products cannot be deleted because Orders still reference them.
+ * Like {@link BusinessException}, it is an expected outcome and does not capture a stack trace.
+ */
+@Getter
+public class ProductInUseException extends RuntimeException {
+
+    private final List<Long> productIds;
+
+    public ProductInUseException(List<Long> productIds) {
+        super("Products referenced by orders cannot be deleted, ids: " + productIds, null, false, false);
+        this.productIds = List.copyOf(productIds);
+    }
+}
@@ -0,0 +1,18 @@
+package com.vserdiuk.casestudy.exception;
+
+import lombok.Getter;
+
+/**
+ * Thrown when a request cannot be accepted because the service is at capacity.
+ * Clients are expected to retry after {@link #getRetryAfterSeconds()} seconds.
+ */
+@Getter
+public class ServiceOverloadedException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public ServiceOverloadedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
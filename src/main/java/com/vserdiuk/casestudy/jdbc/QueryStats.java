@@ -0,0 +1,92 @@
+package com.vserdiuk.casestudy.jdbc;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * JDBC statements executed on one thread while a recording is active, such as during one HTTP request.
+ * <p>
+ * A recording is started and stopped on the thread doing the work; {@link QueryStatsListener} adds every
+ * statement executed in between. A batch counts as one statement, since it is one round trip.
+ * The SQL of every statement is only kept when requested, which tests use to explain a wrong count;
+ * slow statements are always kept with their bind parameters.
+ * </p>
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class QueryStats {
+
+    private static final ThreadLocal<QueryStats> CURRENT = new ThreadLocal<>();
+
+    @Getter(AccessLevel.NONE)
+    private final boolean captureStatements;
+    private int statementCount;
+    private long elapsedNanos;
+    private final List<String> statements = new ArrayList<>();
+    private final List<String> slowStatements = new ArrayList<>();
+
+    /**
+     * Starts a recording on the current thread, replacing any recording already active.
+     *
+     * @param captureStatements whether the SQL of every statement is kept, not only of slow ones
+     * @return the stats the recording adds to
+     */
+    public static QueryStats start(boolean captureStatements) {
+        QueryStats stats = new QueryStats(captureStatements);
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    /**
+     * Stops the recording on the current thread.
+     *
+     * @return the recorded stats, or {@code null} if no recording was active
+     */
+    public static QueryStats stop() {
+        QueryStats stats = CURRENT.get();
+        CURRENT.remove();
+        return stats;
+    }
+
+    /**
+     * @return the stats of the recording active on the current thread, or {@code null} if there is none
+     */
+    public static QueryStats current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * @return the total time spent executing the recorded statements, in milliseconds
+     */
+    public long getElapsedMillis() {
+        return elapsedNanos / 1_000_000;
+    }
+
+    public List<String> getStatements() {
+        return Collections.unmodifiableList(statements);
+    }
+
+    public List<String> getSlowStatements() {
+        return Collections.unmodifiableList(slowStatements);
+    }
+
+    boolean isCapturingStatements() {
+        return captureStatements;
+    }
+
+    void record(long nanos, String statement, String slowStatement) {
+        statementCount++;
+        elapsedNanos += nanos;
+        if (statement != null) {
+            statements.add(statement);
+        }
+        if (slowStatement != null) {
+            slowStatements.add(slowStatement);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.vserdiuk.casestudy.jdbc;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Servlet filter recording the JDBC statements executed while handling a request.
+ * <p>
+ * The number of statements and the time spent in JDBC per request are published as the
+ * {@code jdbc.request.statements} and {@code jdbc.request.time} metrics, so a request that
+ * starts issuing one statement per row shows up as a growing statement count long before it
+ * shows up as latency. Statements of asynchronous dispatches run on other threads and are not recorded.
+ * </p>
+ */
+public class QueryStatsFilter extends OncePerRequestFilter {
+
+    private final DistributionSummary statementsPerRequest;
+    private final Timer jdbcTimePerRequest;
+
+    public QueryStatsFilter(MeterRegistry meterRegistry) {
+        this.statementsPerRequest = DistributionSummary.builder("jdbc.request.statements")
+                .description("JDBC statements executed per HTTP request")
+                .register(meterRegistry);
+        this.jdbcTimePerRequest = Timer.builder("jdbc.request.time")
+                .description("Time spent executing JDBC statements per HTTP request")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        QueryStats.start(false);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            QueryStats stats = QueryStats.stop();
+            statementsPerRequest.record(stats.getStatementCount());
+            jdbcTimePerRequest.record(stats.getElapsedNanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.vserdiuk.casestudy.jdbc;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Listener of the proxied {@link javax.sql.DataSource} timing every JDBC statement.
+ * <p>
+ * Each statement is recorded in the {@code jdbc.statements} timer and, when a recording is active on the
+ * executing thread, in its {@link QueryStats}. Statements slower than the threshold are also counted in
+ * {@code jdbc.statements.slow} and logged at WARN with their bind parameters; in production the log is
+ * sampled, see {@code logback-spring.xml}. The SQL text is only formatted for slow statements and for
+ * recordings that capture statements, so the common path costs two clock reads and a timer update.
+ * </p>
+ */
+@Component
+@Slf4j
+public class QueryStatsListener implements QueryExecutionListener {
+
+    private static final String START_NANOS = QueryStatsListener.class.getName() + ".start";
+
+    private final Timer statementTimer;
+    private final Counter slowStatementCounter;
+    private final long slowThresholdNanos;
+
+    /**
+     * Creates a listener publishing to the given registry.
+     *
+     * @param meterRegistry   the registry the statement metrics are published to
+     * @param slowThresholdMs the execution time from which a statement is reported as slow
+     */
+    public QueryStatsListener(MeterRegistry meterRegistry,
+                              @Value("${jdbc.slow-statement-threshold-ms:200}") long slowThresholdMs) {
+        this.statementTimer = Timer.builder("jdbc.statements")
+                .description("JDBC statement executions, a batch counting as one")
+                .register(meterRegistry);
+        this.slowStatementCounter = Counter.builder("jdbc.statements.slow")
+                .description("JDBC statement executions slower than the slow statement threshold")
+                .register(meterRegistry);
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMs);
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        execInfo.addCustomValue(START_NANOS, System.nanoTime());
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Long start = execInfo.getCustomValue(START_NANOS, Long.class);
+        long nanos = start == null ? 0 : System.nanoTime() - start;
+        statementTimer.record(nanos, TimeUnit.NANOSECONDS);
+
+        String slowStatement = null;
+        if (nanos >= slowThresholdNanos) {
+            slowStatementCounter.increment();
+            slowStatement = describe(queryInfoList, true);
+            log.warn("Slow statement took {} ms: {}", TimeUnit.NANOSECONDS.toMillis(nanos), slowStatement);
+        }
+
+        QueryStats stats = QueryStats.current();
+        if (stats != null) {
+            String statement = stats.isCapturingStatements() ? describe(queryInfoList, false) : null;
+            stats.record(nanos, statement, slowStatement);
+        }
+    }
+
+    /**
+     * Describes the SQL of an execution, followed by the bind parameters of each batch entry if requested.
+     */
+    private static String describe(List<QueryInfo> queryInfoList, boolean withParameters) {
+        return queryInfoList.stream()
+                .map(query -> withParameters
+                        ? query.getQuery() + " " + query.getParametersList().stream()
+                                .map(QueryStatsListener::describeParameters)
+                                .collect(Collectors.joining(", "))
+                        : query.getQuery())
+                .collect(Collectors.joining("; "));
+    }
+
+    private static String describeParameters(List<ParameterSetOperation> operations) {
+        return operations.stream()
+                .map(operation -> ParameterSetOperation.isSetNullParameterOperation(operation)
+                        ? "null"
+                        : String.valueOf(operation.getArgs()[1]))
+                .collect(Collectors.joining(", ", "[", "]"));
+    }
+}
@@ -0,0 +1,44 @@
+package com.vserdiuk.casestudy.jdbc;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Adds the JDBC statement count and time of the current request to every response body written by a controller,
+ * as the {@value #QUERY_COUNT_HEADER} and {@value #QUERY_TIME_HEADER} headers.
+ * <p>
+ * A debugging aid for non-production environments, enabled by {@code jdbc.query-stats.response-headers}.
+ * The headers are added just before the body is written, since they cannot be added once the response is
+ * committed; statements executed while serializing the body are therefore not included.
+ * </p>
+ */
+@ControllerAdvice
+@ConditionalOnProperty(name = "jdbc.query-stats.response-headers", havingValue = "true")
+public class QueryStatsResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String QUERY_COUNT_HEADER = "X-Query-Count";
+    public static final String QUERY_TIME_HEADER = "X-Query-Time-Ms";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        QueryStats stats = QueryStats.current();
+        if (stats != null) {
+            response.getHeaders().set(QUERY_COUNT_HEADER, String.valueOf(stats.getStatementCount()));
+            response.getHeaders().set(QUERY_TIME_HEADER, String.valueOf(stats.getElapsedMillis()));
+        }
+        return body;
+    }
+}
@@ -0,0 +1,58 @@
+package com.vserdiuk.casestudy.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import lombok.Getter;
+import lombok.Setter;
+import org.slf4j.Marker;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Logback turbo filter that passes only a random sample of the events of one logger and its children.
+ * <p>
+ * Used for high-volume diagnostic loggers such as the Hibernate slow query log, where every event is
+ * useful but logging all of them would cost more than the queries being diagnosed. The decision is made
+ * before the logging event is created, so dropped events cost one random number. Level checks such as
+ * {@code isInfoEnabled()} are not sampled, since they carry no message and are followed by the actual
+ * call when they pass.
+ * </p>
+ */
+@Getter
+@Setter
+public class SamplingTurboFilter extends TurboFilter {
+
+    /**
+     * The name of the sampled logger; events of other loggers are not affected.
+     */
+    private String loggerName;
+
+    /**
+     * The fraction of events passed on, between 0 and 1.
+     */
+    private double rate = 1.0;
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (format == null || !isSampledLogger(logger.getName())) {
+            return FilterReply.NEUTRAL;
+        }
+        return ThreadLocalRandom.current().nextDouble() < rate ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    @Override
+    public void start() {
+        if (loggerName == null || rate < 0 || rate > 1) {
+            addError("SamplingTurboFilter requires a loggerName and a rate between 0 and 1");
+            return;
+        }
+        super.start();
+    }
+
+    private boolean isSampledLogger(String name) {
+        return name.startsWith(loggerName)
+                && (name.length() == loggerName.length() || name.charAt(loggerName.length()) == '.');
+    }
+}
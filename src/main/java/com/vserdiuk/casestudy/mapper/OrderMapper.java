@@ -1,7 +1,9 @@
 package com.vserdiuk.casestudy.mapper;
 
 import com.vserdiuk.casestudy.dto.OrderDTO;
-import com.vserdiuk.casestudy.dto.ProductDTO;
+import com.vserdiuk.casestudy.dto.OrderLineDTO;
+import com.vserdiuk.casestudy.entity.ArchivedOrder;
+import com.vserdiuk.casestudy.entity.ArchivedOrderProduct;
 import com.vserdiuk.casestudy.entity.Order;
 import com.vserdiuk.casestudy.entity.OrderProduct;
 
@@ -9,7 +11,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 /**
- * Utility class for mapping between {@link Order} entities and DTOs.
+ * Utility class for mapping between {@link Order} and {@link ArchivedOrder} entities and DTOs.
  */
 public class OrderMapper {
 
@@ -23,9 +25,9 @@ public class OrderMapper {
      * Converts an {@link Order} entity to an {@link OrderDTO}.
      * <p>
      * This method maps the properties of an {@link Order} entity (id, status, createdAt,
-     * paidAt, and associated products) to an {@link OrderDTO} using the builder pattern.
-     * The associated products are extracted from the {@link OrderProduct} list, converted
-     * to {@link ProductDTO} using {@link ProductMapper#toDTO}, and collected into a list.
+     * paidAt, totalAmount, and lines) to an {@link OrderDTO} using the builder pattern.
+     * Each {@link OrderProduct} is converted to an {@link OrderLineDTO} from the Product name and prices
+     * stored on the line, so the Product itself is not loaded.
      * If the input {@code order} is {@code null}, the method returns {@code null}.
      * </p>
      *
@@ -36,9 +38,8 @@ public class OrderMapper {
     public static OrderDTO toDTO(Order order) {
         if (order == null) return null;
 
-        List<ProductDTO> products = order.getOrderProducts().stream()
-                .map(OrderProduct::getProduct)
-                .map(ProductMapper::toDTO)
+        List<OrderLineDTO> lines = order.getOrderProducts().stream()
+                .map(OrderMapper::toLineDTO)
                 .collect(Collectors.toList());
 
         return OrderDTO.builder()
@@ -46,7 +47,72 @@ public class OrderMapper {
                 .status(order.getStatus())
                 .createdAt(order.getCreatedAt())
                 .paidAt(order.getPaidAt())
-                .products(products)
+                .totalAmount(order.getTotalAmount())
+                .lines(lines)
                 .build();
     }
-}
\ No newline at end of file
+
+    /**
+     * Converts an {@link OrderProduct} to an {@link OrderLineDTO}.
+     * <p>
+     * Only the identifier of the associated Product is read, which does not initialize it.
+     * </p>
+     *
+     * @param line the {@link OrderProduct} to be converted
+     * @return an {@link OrderLineDTO} containing the mapped properties
+     */
+    public static OrderLineDTO toLineDTO(OrderProduct line) {
+        return OrderLineDTO.builder()
+                .productId(line.getProduct().getId())
+                .name(line.getProductName())
+                .quantity(line.getQuantity())
+                .unitPrice(line.getUnitPrice())
+                .lineTotal(line.getLineTotal())
+                .build();
+    }
+
+    /**
+     * Converts an {@link ArchivedOrder} entity to an {@link OrderDTO}.
+     * <p>
+     * Archived lines keep the Product name, quantity and prices at the time of purchase, and are mapped to
+     * the same {@link OrderLineDTO} as the lines of live Orders.
+     * If the input {@code order} is {@code null}, the method returns {@code null}.
+     * </p>
+     *
+     * @param order the {@link ArchivedOrder} entity to be converted
+     * @return an {@link OrderDTO} containing the mapped properties, or {@code null}
+     *         if the input is {@code null}
+     */
+    public static OrderDTO toDTO(ArchivedOrder order) {
+        if (order == null) return null;
+
+        List<OrderLineDTO> lines = order.getOrderProducts().stream()
+                .map(OrderMapper::toLineDTO)
+                .collect(Collectors.toList());
+
+        return OrderDTO.builder()
+                .id(order.getId())
+                .status(order.getStatus())
+                .createdAt(order.getCreatedAt())
+                .paidAt(order.getPaidAt())
+                .totalAmount(order.getTotalAmount())
+                .lines(lines)
+                .build();
+    }
+
+    /**
+     * Converts an {@link ArchivedOrderProduct} to an {@link OrderLineDTO}.
+     *
+     * @param line the {@link ArchivedOrderProduct} to be converted
+     * @return an {@link OrderLineDTO} containing the mapped properties
+     */
+    public static OrderLineDTO toLineDTO(ArchivedOrderProduct line) {
+        return OrderLineDTO.builder()
+                .productId(line.getProductId())
+                .name(line.getProductName())
+                .quantity(line.getQuantity())
+                .unitPrice(line.getUnitPrice())
+                .lineTotal(line.getLineTotal())
+                .build();
+    }
+}
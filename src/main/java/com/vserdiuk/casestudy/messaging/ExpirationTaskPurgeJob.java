@@ -0,0 +1,62 @@
+package com.vserdiuk.casestudy.messaging;
+
+import com.vserdiuk.casestudy.entity.TaskStatus;
+import com.vserdiuk.casestudy.repository.OrderExpirationTaskRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Background job compacting the {@code order_expiration_tasks} table by deleting sent tasks
+ * older than the retention window.
+ * <p>
+ * Tasks are deleted in small batches, each in its own transaction, until no eligible tasks are left
+ * or the time budget of the run is spent; the next run continues where it stopped. Failed tasks are
+ * kept, since they still stand for Orders whose expiration has not been delivered.
+ * </p>
+ */
+@Component
+@Slf4j
+public class ExpirationTaskPurgeJob {
+
+    private final OrderExpirationTaskRepository taskRepository;
+    private final int retentionHours;
+    private final int batchSize;
+    private final long timeBudgetNanos;
+
+    public ExpirationTaskPurgeJob(OrderExpirationTaskRepository taskRepository,
+                                  @Value("${order.expiration-task-purge.retention-hours:24}") int retentionHours,
+                                  @Value("${order.expiration-task-purge.batch-size:1000}") int batchSize,
+                                  @Value("${order.expiration-task-purge.time-budget-ms:5000}") long timeBudgetMs) {
+        this.taskRepository = taskRepository;
+        this.retentionHours = retentionHours;
+        this.batchSize = batchSize;
+        this.timeBudgetNanos = TimeUnit.MILLISECONDS.toNanos(timeBudgetMs);
+    }
+
+    /**
+     * Deletes sent tasks that expired before the retention window.
+     *
+     * @return the number of tasks deleted by this run
+     */
+    @Scheduled(initialDelayString = "${order.expiration-task-purge.initial-delay-ms:120000}",
+            fixedDelayString = "${order.expiration-task-purge.interval-ms:600000}")
+    public int purge() {
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(retentionHours);
+        long deadline = System.nanoTime() + timeBudgetNanos;
+        int total = 0;
+        int deleted;
+        do {
+            deleted = taskRepository.deleteFinishedBatch(TaskStatus.SENT.name(), cutoff, batchSize);
+            total += deleted;
+        } while (deleted == batchSize && System.nanoTime() - deadline < 0);
+        if (total > 0) {
+            log.info("Purged {} sent expiration tasks that expired before {}", total, cutoff);
+        }
+        return total;
+    }
+}
@@ -9,6 +9,8 @@ import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Component;
 
+import static com.vserdiuk.casestudy.config.KafkaTopicsConfig.ORDER_EXPIRATION_DLQ_TOPIC;
+
 /**
  * A Spring component that consumes order expiration events from a Kafka topic, processes them
  * by invoking the order expiration logic, and handles errors by sending failed messages to a
@@ -16,7 +18,8 @@ import org.springframework.stereotype.Component;
  * <p>
  * This class listens to the "order-expiration-topic" Kafka topic, processes the order ID from
  * the message, and calls the {@link OrderService} to expire the corresponding order. If processing
- * fails, the message is sent to the "order-expiration-dlq" topic for further analysis or reprocessing.
+ * fails, the message is sent to the "order-expiration-dlq" topic, where {@link OrderExpirationDlqProcessor}
+ * retries it.
  * <p>
  * The consumer operates with manual acknowledgment to ensure reliable message processing and
  * supports configurable concurrency for handling multiple messages in parallel.
@@ -30,8 +33,6 @@ public class OrderExpirationConsumer {
 
     private final KafkaTemplate<String, String> kafkaTemplate;
 
-    private static final String DLQ_TOPIC = "order-expiration-dlq";
-
     /**
      * Processes incoming Kafka messages from the "order-expiration-topic" topic.
      * <p>
@@ -59,7 +60,7 @@ public class OrderExpirationConsumer {
             acknowledgment.acknowledge(); // Manual acknowledgment
         } catch (Exception e) {
             log.error("Failed to process expiration event for Order ID: {}", orderIdStr, e);
-            kafkaTemplate.send(DLQ_TOPIC, orderIdStr); // Send to DLQ
+            kafkaTemplate.send(ORDER_EXPIRATION_DLQ_TOPIC, orderIdStr); // Send to DLQ
             acknowledgment.acknowledge(); // Acknowledge to avoid reprocessing
         }
     }
@@ -0,0 +1,72 @@
+package com.vserdiuk.casestudy.messaging;
+
+import com.vserdiuk.casestudy.service.OrderService;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.DltHandler;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.annotation.RetryableTopic;
+import org.springframework.kafka.retrytopic.TopicSuffixingStrategy;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.stereotype.Component;
+
+import static com.vserdiuk.casestudy.config.KafkaTopicsConfig.ORDER_EXPIRATION_DLQ_TOPIC;
+import static com.vserdiuk.casestudy.config.KafkaTopicsConfig.PARKING_LOT_SUFFIX;
+
+/**
+ * A Spring component that retries order expiration events which {@link OrderExpirationConsumer} failed to process.
+ * <p>
+ * Events are read from the "order-expiration-dlq" topic. A failed attempt moves the event to the next retry tier,
+ * "order-expiration-dlq-retry-0", "-retry-1" and so on, each consumed after an exponentially growing delay, so
+ * a transient broker or database outage is ridden out without blocking the consumer of the main topic.
+ * Once the configured number of attempts is exhausted, or the event can never succeed, it is parked on the
+ * "order-expiration-dlq-parking-lot" topic, from which it can be replayed through the admin API.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OrderExpirationDlqProcessor {
+
+    private final OrderService orderService;
+
+    /**
+     * Retries the expiration of the Order whose ID is the value of the record.
+     *
+     * @param record         The Kafka consumer record containing the order ID as a String value.
+     * @param acknowledgment The acknowledgment object used to manually acknowledge the message.
+     */
+    @RetryableTopic(
+            attempts = "${order.expiration-dlq.attempts:4}",
+            backoff = @Backoff(
+                    delayExpression = "${order.expiration-dlq.initial-delay-ms:30000}",
+                    multiplierExpression = "${order.expiration-dlq.multiplier:4}",
+                    maxDelayExpression = "${order.expiration-dlq.max-delay-ms:1800000}"),
+            topicSuffixingStrategy = TopicSuffixingStrategy.SUFFIX_WITH_INDEX_VALUE,
+            dltTopicSuffix = PARKING_LOT_SUFFIX,
+            exclude = {NumberFormatException.class, EntityNotFoundException.class}
+    )
+    @KafkaListener(topics = ORDER_EXPIRATION_DLQ_TOPIC, groupId = "order-expiration-dlq-processor")
+    public void onMessage(ConsumerRecord<String, String> record, Acknowledgment acknowledgment) {
+        Long orderId = Long.parseLong(record.value());
+        log.info("Retrying expiration event for Order ID: {} from {}", orderId, record.topic());
+        orderService.expireOrderById(orderId);
+        acknowledgment.acknowledge();
+    }
+
+    /**
+     * Logs events that are parked after exhausting their attempts. The event stays on the parking lot topic
+     * until it is replayed.
+     *
+     * @param record         The parked Kafka consumer record.
+     * @param acknowledgment The acknowledgment object used to manually acknowledge the message.
+     */
+    @DltHandler
+    public void onParked(ConsumerRecord<String, String> record, Acknowledgment acknowledgment) {
+        log.error("Parked expiration event for Order ID: {} after exhausting retries", record.value());
+        acknowledgment.acknowledge();
+    }
+}
@@ -10,6 +10,7 @@ import org.springframework.kafka.support.SendResult;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.concurrent.CompletableFuture;
 
@@ -25,6 +26,16 @@ import static com.vserdiuk.casestudy.config.KafkaTopicsConfig.ORDER_EXPIRATION_T
 @Slf4j
 public class OrderExpirationProducer {
 
+    /**
+     * The number of send attempts after which a task is marked {@link TaskStatus#FAILED}.
+     */
+    static final int MAX_SEND_ATTEMPTS = 5;
+
+    /**
+     * The delay before the first resend of a task, doubled on every further attempt.
+     */
+    static final Duration RETRY_BASE_DELAY = Duration.ofMinutes(1);
+
     private final KafkaTemplate<String, String> kafkaTemplate;
     private final OrderExpirationTaskRepository taskRepository;
 
@@ -50,8 +61,9 @@ public class OrderExpirationProducer {
      * Periodically processes pending order expiration tasks that have reached their expiration time.
      * Runs every minute to check for tasks with a status of {@link TaskStatus#PENDING} and an
      * expiration time before the current time. Sends expiration events to the Kafka topic
-     * and updates the task status to {@link TaskStatus#SENT} or {@link TaskStatus#FAILED}
-     * based on the outcome of the Kafka send operation.
+     * and updates the task status to {@link TaskStatus#SENT} on success. A failed send keeps the task
+     * pending with an exponentially growing delay, and marks it {@link TaskStatus#FAILED} once
+     * {@value #MAX_SEND_ATTEMPTS} attempts have failed.
      */
     @Scheduled(fixedRate = 60000) // Run every minute
     public void processExpiredTasks() {
@@ -63,18 +75,35 @@ public class OrderExpirationProducer {
                         future.whenComplete((result, ex) -> {
                             if (ex != null) {
                                 log.error("Failed to send expiration event for Order ID: {}", task.getOrderId(), ex);
-                                task.setStatus(TaskStatus.FAILED);
+                                handleSendFailure(task);
                             } else {
                                 log.info("Sent expiration event for Order ID: {}", task.getOrderId());
                                 task.setStatus(TaskStatus.SENT);
+                                taskRepository.save(task);
                             }
-                            taskRepository.save(task);
                         });
                     } catch (Exception e) {
                         log.error("Error processing expiration task for Order ID: {}", task.getOrderId(), e);
-                        task.setStatus(TaskStatus.FAILED);
-                        taskRepository.save(task);
+                        handleSendFailure(task);
                     }
                 });
     }
+
+    /**
+     * Reschedules a task whose event could not be sent, or marks it failed once its attempts are exhausted.
+     * Failed tasks are requeued through the admin API.
+     *
+     * @param task the task whose send failed
+     */
+    void handleSendFailure(OrderExpirationTask task) {
+        int attempts = task.getAttempts() + 1;
+        task.setAttempts(attempts);
+        if (attempts < MAX_SEND_ATTEMPTS) {
+            task.setStatus(TaskStatus.PENDING);
+            task.setExpirationTime(LocalDateTime.now().plus(RETRY_BASE_DELAY.multipliedBy(1L << (attempts - 1))));
+        } else {
+            task.setStatus(TaskStatus.FAILED);
+        }
+        taskRepository.save(task);
+    }
 }
\ No newline at end of file
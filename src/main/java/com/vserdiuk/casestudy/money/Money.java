@@ -0,0 +1,89 @@
+package com.vserdiuk.casestudy.money;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Fixed-point amount of money held as a number of minor units (cents).
+ * <p>
+ * Prices are stored as {@code DECIMAL(10,2)}, so two decimal places are exact and totals fit in a {@code long}
+ * with room to spare. Arithmetic and comparison work on the {@code long} without allocating intermediate
+ * {@link BigDecimal} objects; overflow fails with an {@link ArithmeticException} instead of wrapping around.
+ * Amounts are converted from and to {@link BigDecimal} only where they enter or leave the service layer,
+ * i.e. at the entities and the DTOs.
+ * </p>
+ *
+ * @param minorUnits the amount in minor units
+ */
+public record Money(long minorUnits) implements Comparable<Money> {
+
+    /**
+     * The number of decimal places of an amount.
+     */
+    public static final int SCALE = 2;
+
+    public static final Money ZERO = new Money(0);
+
+    /**
+     * Converts a decimal amount, rounding half up to whole minor units as the database column does.
+     * Moving the decimal point rather than reading the unscaled value keeps amounts that fit in a {@code long}
+     * in the compact form of {@link BigDecimal}, so no {@link java.math.BigInteger} is allocated per conversion.
+     *
+     * @param amount the decimal amount
+     * @return the amount as {@link Money}
+     * @throws ArithmeticException if the amount does not fit in a {@code long} of minor units
+     */
+    public static Money of(BigDecimal amount) {
+        return new Money(amount.setScale(SCALE, RoundingMode.HALF_UP).movePointRight(SCALE).longValueExact());
+    }
+
+    /**
+     * @param minorUnits the amount in minor units
+     * @return the amount as {@link Money}
+     */
+    public static Money ofMinor(long minorUnits) {
+        return new Money(minorUnits);
+    }
+
+    public Money plus(Money other) {
+        return new Money(Math.addExact(minorUnits, other.minorUnits));
+    }
+
+    public Money minus(Money other) {
+        return new Money(Math.subtractExact(minorUnits, other.minorUnits));
+    }
+
+    public Money negate() {
+        return new Money(Math.negateExact(minorUnits));
+    }
+
+    /**
+     * @param quantity the number of units
+     * @return the amount multiplied by the quantity, such as the total of an order line
+     */
+    public Money times(long quantity) {
+        return new Money(Math.multiplyExact(minorUnits, quantity));
+    }
+
+    /**
+     * @return the amount as a {@link BigDecimal} with two decimal places
+     */
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    /**
+     * @return the amount with two decimal places, such as {@code 12.50}
+     */
+    @Override
+    public String toString() {
+        long units = Math.abs(minorUnits / 100);
+        long cents = Math.abs(minorUnits % 100);
+        return (minorUnits < 0 ? "-" : "") + units + (cents < 10 ? ".0" : ".") + cents;
+    }
+}
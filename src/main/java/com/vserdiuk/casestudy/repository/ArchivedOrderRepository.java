@@ -0,0 +1,77 @@
+package com.vserdiuk.casestudy.repository;
+
+import com.vserdiuk.casestudy.entity.ArchivedOrder;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for managing {@link ArchivedOrder} entities.
+ * <p>
+ * Besides reads, it provides the set-based statements that move a batch of closed Orders from the
+ * live tables into the archive tables.
+ * </p>
+ */
+public interface ArchivedOrderRepository extends JpaRepository<ArchivedOrder, Long> {
+
+    /**
+     * Retrieves the IDs of the given Orders that are archived.
+     *
+     * @param ids the IDs of the Orders
+     * @return the IDs of the archived Orders
+     */
+    @Query("SELECT o.id FROM ArchivedOrder o WHERE o.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Copies the given Orders into the archive.
+     *
+     * @param orderIds   the IDs of the Orders to copy
+     * @param archivedAt the time of archival
+     * @return the number of copied Orders
+     */
+    @Modifying
+    @Query(value = "INSERT INTO orders_archive (id, status, created_at, paid_at, total_amount, archived_at) " +
+            "SELECT id, status, created_at, paid_at, total_amount, :archivedAt FROM orders WHERE id IN (:orderIds)",
+            nativeQuery = true)
+    int copyOrders(@Param("orderIds") Collection<Long> orderIds, @Param("archivedAt") LocalDateTime archivedAt);
+
+    /**
+     * Copies the lines of the given Orders into the archive, together with the Product names they were purchased under.
+     *
+     * @param orderIds the IDs of the Orders whose lines to copy
+     * @return the number of copied lines
+     */
+    @Modifying
+    @Query(value = "INSERT INTO order_product_archive (id, order_id, product_id, product_name, quantity, unit_price, line_total) " +
+            "SELECT id, order_id, product_id, product_name, quantity, unit_price, line_total " +
+            "FROM order_product WHERE order_id IN (:orderIds)",
+            nativeQuery = true)
+    int copyOrderProducts(@Param("orderIds") Collection<Long> orderIds);
+
+    /**
+     * Counts archived Orders and sums their totals per creation day and status.
+     *
+     * @return the totals per creation day and status
+     */
+    @Query("SELECT CAST(o.createdAt AS LocalDate) AS day, o.status AS status, " +
+            "COUNT(o) AS orderCount, SUM(o.totalAmount) AS revenue " +
+            "FROM ArchivedOrder o " +
+            "GROUP BY CAST(o.createdAt AS LocalDate), o.status")
+    List<OrderRepository.DailyTotals> summarizeByDayAndStatus();
+
+    /**
+     * Sums the archived units per Product and Order status.
+     *
+     * @return the units per Product and status
+     */
+    @Query("SELECT op.productId AS productId, o.status AS status, SUM(op.quantity) AS units " +
+            "FROM ArchivedOrderProduct op JOIN op.order o " +
+            "GROUP BY op.productId, o.status")
+    List<OrderRepository.ProductUnits> summarizeByProductAndStatus();
+}
@@ -3,8 +3,13 @@ package com.vserdiuk.casestudy.repository;
 import com.vserdiuk.casestudy.entity.OrderExpirationTask;
 import com.vserdiuk.casestudy.entity.TaskStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -21,4 +26,46 @@ public interface OrderExpirationTaskRepository extends JpaRepository<OrderExpira
      * @return a list of {@link OrderExpirationTask} entities matching the specified status and expiration time criteria
      */
     List<OrderExpirationTask> findByStatusAndExpirationTimeBefore(TaskStatus status, LocalDateTime expirationTime);
-}
\ No newline at end of file
+
+    /**
+     * Deletes the expiration tasks of the given Orders with a single statement.
+     *
+     * @param orderIds the IDs of the Orders whose tasks to delete
+     * @return the number of deleted tasks
+     */
+    @Modifying
+    @Query("DELETE FROM OrderExpirationTask t WHERE t.orderId IN :orderIds")
+    int deleteByOrderIdIn(@Param("orderIds") Collection<Long> orderIds);
+
+    /**
+     * Deletes up to {@code limit} finished tasks in the given status whose expiration time is before the cutoff,
+     * with a single statement in its own transaction, so each batch holds its locks only briefly.
+     *
+     * @param status the finished status of the tasks to delete
+     * @param cutoff the expiration time before which finished tasks are deleted
+     * @param limit  the maximum number of tasks to delete
+     * @return the number of deleted tasks
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM order_expiration_tasks WHERE id IN (" +
+            "SELECT id FROM order_expiration_tasks WHERE status = :status AND expiration_time < :cutoff " +
+            "ORDER BY expiration_time LIMIT :limit)",
+            nativeQuery = true)
+    int deleteFinishedBatch(@Param("status") String status,
+                            @Param("cutoff") LocalDateTime cutoff,
+                            @Param("limit") int limit);
+
+    /**
+     * Returns all failed tasks to the pending state with a fresh attempt budget, due at the given time.
+     *
+     * @param dueAt the expiration time the requeued tasks are due at
+     * @return the number of requeued tasks
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE OrderExpirationTask t SET t.status = com.vserdiuk.casestudy.entity.TaskStatus.PENDING, " +
+            "t.attempts = 0, t.expirationTime = :dueAt " +
+            "WHERE t.status = com.vserdiuk.casestudy.entity.TaskStatus.FAILED")
+    int requeueFailed(@Param("dueAt") LocalDateTime dueAt);
+}
@@ -2,10 +2,25 @@ package com.vserdiuk.casestudy.repository;
 
 import com.vserdiuk.casestudy.entity.OrderProduct;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 /**
  * Repository interface for managing {@link OrderProduct} entities.
  * Extends {@link JpaRepository} to provide standard CRUD operations for the {@link OrderProduct} entity.
  */
 public interface OrderProductRepository extends JpaRepository<OrderProduct, Long> {
+
+    /**
+     * Retrieves the IDs of the Products among the specified ones that are referenced by at least one Order line.
+     * Served by the {@code idx_order_product_product_id} index.
+     *
+     * @param productIds the IDs of the products to check
+     * @return the IDs of the referenced products
+     */
+    @Query("SELECT DISTINCT op.product.id FROM OrderProduct op WHERE op.product.id IN :productIds")
+    List<Long> findReferencedProductIds(@Param("productIds") Collection<Long> productIds);
 }
@@ -1,11 +1,190 @@
 package com.vserdiuk.casestudy.repository;
 
 import com.vserdiuk.casestudy.entity.Order;
+import com.vserdiuk.casestudy.entity.OrderStatus;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository interface for managing {@link Order} entities.
  * Extends {@link JpaRepository} to provide standard CRUD operations for the {@link Order} entity.
  */
 public interface OrderRepository extends JpaRepository<Order, Long> {
+
+    /**
+     * Marks a CREATED Order as paid with a single guarded statement, without loading it.
+     *
+     * @param id     the ID of the Order
+     * @param paidAt the time of payment
+     * @return 1 if the Order was paid, 0 if it does not exist or is not CREATED
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Order o SET o.status = com.vserdiuk.casestudy.entity.OrderStatus.PAID, o.paidAt = :paidAt " +
+            "WHERE o.id = :id AND o.status = com.vserdiuk.casestudy.entity.OrderStatus.CREATED")
+    int markPaidIfCreated(@Param("id") Long id, @Param("paidAt") LocalDateTime paidAt);
+
+    /**
+     * Moves a CREATED Order to the given status with a single guarded statement, without loading it.
+     * Of concurrent transitions of the same Order, exactly one updates it.
+     *
+     * @param id     the ID of the Order
+     * @param status the status to move the Order to
+     * @return 1 if the Order was moved, 0 if it does not exist or is not CREATED
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Order o SET o.status = :status " +
+            "WHERE o.id = :id AND o.status = com.vserdiuk.casestudy.entity.OrderStatus.CREATED")
+    int updateStatusIfCreated(@Param("id") Long id, @Param("status") OrderStatus status);
+
+    /**
+     * Retrieves an Order together with its lines in a single query. The lines keep the name and price of their
+     * Products, so the Products are not joined.
+     *
+     * @param id the ID of the Order
+     * @return the Order, or empty if it does not exist
+     */
+    @Query("SELECT DISTINCT o FROM Order o LEFT JOIN FETCH o.orderProducts WHERE o.id = :id")
+    Optional<Order> findWithLinesById(@Param("id") Long id);
+
+    /**
+     * Retrieves the IDs of the given Orders that are CREATED and locks their rows in ID order until the end of
+     * the transaction, so the outcome of a batch transition is known per ID without loading the Orders.
+     *
+     * @param ids the IDs of the Orders
+     * @return the IDs of the Orders that are CREATED
+     */
+    @Query(value = "SELECT id FROM orders WHERE id IN (:ids) AND status = 'CREATED' ORDER BY id FOR UPDATE", nativeQuery = true)
+    List<Long> lockCreatedIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Retrieves the IDs of the given Orders that exist.
+     *
+     * @param ids the IDs of the Orders
+     * @return the IDs of the existing Orders
+     */
+    @Query("SELECT o.id FROM Order o WHERE o.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Marks the given CREATED Orders as paid with a single guarded statement.
+     *
+     * @param ids    the IDs of the Orders
+     * @param paidAt the time of payment
+     * @return the number of Orders paid
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Order o SET o.status = com.vserdiuk.casestudy.entity.OrderStatus.PAID, o.paidAt = :paidAt " +
+            "WHERE o.id IN :ids AND o.status = com.vserdiuk.casestudy.entity.OrderStatus.CREATED")
+    int markPaidIfCreated(@Param("ids") Collection<Long> ids, @Param("paidAt") LocalDateTime paidAt);
+
+    /**
+     * Moves the given CREATED Orders to the given status with a single guarded statement.
+     *
+     * @param ids    the IDs of the Orders
+     * @param status the status to move the Orders to
+     * @return the number of Orders moved
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Order o SET o.status = :status " +
+            "WHERE o.id IN :ids AND o.status = com.vserdiuk.casestudy.entity.OrderStatus.CREATED")
+    int updateStatusIfCreated(@Param("ids") Collection<Long> ids, @Param("status") OrderStatus status);
+
+    /**
+     * Retrieves the given Orders together with their lines in a single query, without joining the Products.
+     *
+     * @param ids the IDs of the Orders
+     * @return the existing Orders
+     */
+    @Query("SELECT DISTINCT o FROM Order o LEFT JOIN FETCH o.orderProducts WHERE o.id IN :ids")
+    List<Order> findWithLinesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Retrieves the IDs of Orders in one of the given statuses created before the cutoff, lowest IDs first.
+     *
+     * @param statuses the statuses to match
+     * @param cutoff   the time the Orders must have been created before
+     * @param limit    the maximum number of IDs to return
+     * @return the matching Order IDs
+     */
+    @Query("SELECT o.id FROM Order o WHERE o.status IN :statuses AND o.createdAt < :cutoff ORDER BY o.id")
+    List<Long> findIdsByStatusInAndCreatedAtBefore(@Param("statuses") Collection<OrderStatus> statuses,
+                                                   @Param("cutoff") LocalDateTime cutoff,
+                                                   Limit limit);
+
+    /**
+     * Deletes the lines of the given Orders with a single statement.
+     *
+     * @param orderIds the IDs of the Orders whose lines to delete
+     * @return the number of deleted lines
+     */
+    @Modifying
+    @Query("DELETE FROM OrderProduct op WHERE op.order.id IN :orderIds")
+    int deleteOrderProductsByOrderIdIn(@Param("orderIds") Collection<Long> orderIds);
+
+    /**
+     * Deletes the given Orders with a single statement. Their lines must have been deleted before.
+     *
+     * @param orderIds the IDs of the Orders to delete
+     * @return the number of deleted Orders
+     */
+    @Modifying
+    @Query("DELETE FROM Order o WHERE o.id IN :orderIds")
+    int deleteByIdIn(@Param("orderIds") Collection<Long> orderIds);
+
+    /**
+     * Counts Orders and sums their totals per creation day and current status.
+     * Used once to build the analytics read model, which is maintained incrementally afterwards.
+     *
+     * @return the totals per creation day and status
+     */
+    @Query("SELECT CAST(o.createdAt AS LocalDate) AS day, o.status AS status, " +
+            "COUNT(o) AS orderCount, SUM(o.totalAmount) AS revenue " +
+            "FROM Order o " +
+            "GROUP BY CAST(o.createdAt AS LocalDate), o.status")
+    List<DailyTotals> summarizeByDayAndStatus();
+
+    /**
+     * Sums the ordered units per Product and current Order status.
+     * Used once to build the analytics read model, which is maintained incrementally afterwards.
+     *
+     * @return the units per Product and status
+     */
+    @Query("SELECT op.product.id AS productId, o.status AS status, SUM(op.quantity) AS units " +
+            "FROM OrderProduct op JOIN op.order o " +
+            "GROUP BY op.product.id, o.status")
+    List<ProductUnits> summarizeByProductAndStatus();
+
+    /**
+     * Orders created on one day and currently in one status.
+     */
+    interface DailyTotals {
+        LocalDate getDay();
+
+        OrderStatus getStatus();
+
+        Long getOrderCount();
+
+        BigDecimal getRevenue();
+    }
+
+    /**
+     * Units of one Product in Orders currently in one status.
+     */
+    interface ProductUnits {
+        Long getProductId();
+
+        OrderStatus getStatus();
+
+        Long getUnits();
+    }
 }
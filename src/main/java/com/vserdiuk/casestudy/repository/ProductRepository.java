@@ -3,18 +3,24 @@ package com.vserdiuk.casestudy.repository;
 import com.vserdiuk.casestudy.entity.Product;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for managing {@link Product} entities.
- * Extends {@link JpaRepository} to provide standard CRUD operations and additional query methods for the {@link Product} entity.
+ * Extends {@link JpaRepository} to provide standard CRUD operations and additional query methods for the {@link Product} entity,
+ * and {@link JpaSpecificationExecutor} for filtered queries built from {@link ProductSpecifications}.
  */
-public interface ProductRepository extends JpaRepository<Product, Long> {
+public interface ProductRepository extends JpaRepository<Product, Long>, JpaSpecificationExecutor<Product> {
 
     /**
      * Checks if a {@link Product} with the specified name exists in the database.
@@ -33,13 +39,83 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     List<Product> findByNameIn(List<String> names);
 
     /**
-     * Retrieves a list of {@link Product} entities with the specified IDs, applying an optimistic lock.
-     * The query uses {@link LockModeType#OPTIMISTIC} to ensure data consistency during transactions.
+     * Retrieves a list of {@link Product} entities with the specified IDs, locking their rows.
+     * The query uses {@link LockModeType#PESSIMISTIC_WRITE}, so concurrent reservations of the same Product wait
+     * for each other instead of failing the version check on write. Rows are locked in ID order, so reservations
+     * of overlapping Products cannot deadlock.
      *
      * @param ids a set of product IDs to retrieve
      * @return a list of {@link Product} entities matching the provided IDs
      */
-    @Lock(LockModeType.OPTIMISTIC)
-    @Query("SELECT p FROM Product p WHERE p.id IN :ids")
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Product p WHERE p.id IN :ids ORDER BY p.id")
     List<Product> findAllByIdWithLock(@Param("ids") Set<Long> ids);
-}
\ No newline at end of file
+
+    /**
+     * Adds released units to the stock of a {@link Product} with a single statement, bumping its version
+     * so writers that loaded the Product without a lock fail their optimistic check. The update waits for the row lock
+     * held by a concurrent reservation.
+     *
+     * @param id       the ID of the product
+     * @param quantity the number of units to add
+     * @return the number of updated products
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Product p SET p.stockQuantity = p.stockQuantity + :quantity, p.version = p.version + 1 WHERE p.id = :id")
+    int incrementStock(@Param("id") Long id, @Param("quantity") long quantity);
+
+    /**
+     * Retrieves the version of the {@link Product} with the specified ID without loading the entity.
+     *
+     * @param id the ID of the product
+     * @return the version of the product, or an empty {@link Optional} if no such product exists
+     */
+    @Query("SELECT p.version FROM Product p WHERE p.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    /**
+     * Retrieves the name of the {@link Product} with the specified ID without loading the entity.
+     *
+     * @param id the ID of the product
+     * @return the name of the product, or an empty {@link Optional} if no such product exists
+     */
+    @Query("SELECT p.name FROM Product p WHERE p.id = :id")
+    Optional<String> findNameById(@Param("id") Long id);
+
+    /**
+     * Streams the names of all {@link Product} entities. Must be consumed within a transaction and closed.
+     *
+     * @return a stream of all product names
+     */
+    @Query("SELECT p.name FROM Product p")
+    Stream<String> streamAllNames();
+
+    /**
+     * Retrieves the IDs and names of the {@link Product} entities with the specified IDs without loading the entities.
+     *
+     * @param ids the IDs of the products
+     * @return the IDs and names of the existing products
+     */
+    @Query("SELECT p.id AS id, p.name AS name FROM Product p WHERE p.id IN :ids")
+    List<IdAndName> findIdAndNameByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Deletes the {@link Product} entities with the specified IDs with a single statement,
+     * without loading them into the persistence context.
+     *
+     * @param ids the IDs of the products to delete
+     * @return the number of deleted products
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM Product p WHERE p.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Projection of the ID and name of a {@link Product}.
+     */
+    interface IdAndName {
+        Long getId();
+
+        String getName();
+    }
+}
@@ -0,0 +1,82 @@
+package com.vserdiuk.casestudy.repository;
+
+import com.vserdiuk.casestudy.dto.ProductSortField;
+import com.vserdiuk.casestudy.entity.Product;
+import jakarta.persistence.criteria.Path;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+
+/**
+ * Factory of {@link Specification} predicates for filtered {@link Product} queries.
+ * <p>
+ * Each method returns {@code null} when its criterion is absent, so the results can be combined
+ * with {@link Specification#allOf}, which ignores {@code null} specifications.
+ * </p>
+ */
+public final class ProductSpecifications {
+
+    private ProductSpecifications() {
+    }
+
+    /**
+     * @param min the minimum price, inclusive, or {@code null} for no lower bound
+     * @return a predicate on the minimum price
+     */
+    public static Specification<Product> priceAtLeast(BigDecimal min) {
+        return min == null ? null : (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("price"), min);
+    }
+
+    /**
+     * @param max the maximum price, inclusive, or {@code null} for no upper bound
+     * @return a predicate on the maximum price
+     */
+    public static Specification<Product> priceAtMost(BigDecimal max) {
+        return max == null ? null : (root, query, cb) -> cb.lessThanOrEqualTo(root.get("price"), max);
+    }
+
+    /**
+     * @param min the minimum stock quantity, inclusive, or {@code null} for no lower bound
+     * @return a predicate on the minimum stock quantity
+     */
+    public static Specification<Product> stockAtLeast(Integer min) {
+        return min == null ? null : (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("stockQuantity"), min);
+    }
+
+    /**
+     * @param inStock whether only Products with a positive stock quantity should match
+     * @return a predicate on a positive stock quantity, or {@code null} if {@code inStock} is {@code false}
+     */
+    public static Specification<Product> inStock(boolean inStock) {
+        return inStock ? (root, query, cb) -> cb.greaterThan(root.get("stockQuantity"), 0) : null;
+    }
+
+    /**
+     * Builds the keyset predicate selecting the Products that follow a position in the sort order.
+     * <p>
+     * Besides the exact {@code (value, id)} tuple comparison, the predicate carries a redundant bound
+     * on the sort attribute alone, which the database can use as an index range seek.
+     * </p>
+     *
+     * @param sortBy    the sort attribute
+     * @param direction the sort direction
+     * @param value     the sort attribute value of the last Product on the previous page
+     * @param id        the ID of the last Product on the previous page
+     * @param <T>       the type of the sort attribute
+     * @return a predicate matching the Products after the given position
+     */
+    public static <T extends Comparable<? super T>> Specification<Product> after(ProductSortField sortBy, Sort.Direction direction,
+                                                                                 T value, Long id) {
+        return (root, query, cb) -> {
+            Path<T> sortPath = root.get(sortBy.getProperty());
+            Path<Long> idPath = root.get("id");
+            if (direction.isAscending()) {
+                return cb.and(cb.greaterThanOrEqualTo(sortPath, value),
+                        cb.or(cb.greaterThan(sortPath, value), cb.and(cb.equal(sortPath, value), cb.greaterThan(idPath, id))));
+            }
+            return cb.and(cb.lessThanOrEqualTo(sortPath, value),
+                    cb.or(cb.lessThan(sortPath, value), cb.and(cb.equal(sortPath, value), cb.lessThan(idPath, id))));
+        };
+    }
+}
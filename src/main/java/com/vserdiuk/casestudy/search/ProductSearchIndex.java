@@ -0,0 +1,532 @@
+package com.vserdiuk.casestudy.search;
+
+import com.vserdiuk.casestudy.dto.ProductDTO;
+import com.vserdiuk.casestudy.event.ProductsChangedEvent;
+import com.vserdiuk.casestudy.event.ProductsDeletedEvent;
+import com.vserdiuk.casestudy.mapper.ProductMapper;
+import com.vserdiuk.casestudy.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * In-memory search index over Product names supporting token, prefix and typo-tolerant queries.
+ * <p>
+ * Names are split into lower-case tokens. A sorted token dictionary answers exact and prefix
+ * lookups, and a trigram index over the dictionary finds tokens similar to a misspelled query
+ * token, which are then confirmed with a bounded edit distance. Every query token must match;
+ * Products are ranked by how well their tokens match, then by shorter name, then by ID. Postings are
+ * kept in name length and ID order, so a query can stop reading them once its page is settled.
+ * </p>
+ * <p>
+ * The index holds a snapshot of each Product, so results are served without a database query.
+ * It is loaded when the application is ready and kept current by {@link ProductsChangedEvent}
+ * and {@link ProductsDeletedEvent} after the changing transaction commits. Writes are serialized;
+ * queries run concurrently on the underlying concurrent maps.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProductSearchIndex {
+
+    private static final int LOAD_BATCH_SIZE = 1000;
+    private static final double EXACT_SCORE = 1.0;
+    private static final double PREFIX_SCORE = 0.8;
+    private static final double FUZZY_SCORE = 0.5;
+    private static final int MIN_FUZZY_TOKEN_LENGTH = 3;
+    private static final int EXACT_TOTAL_LIMIT = 100;
+
+    private static final Comparator<Entry> POSTING_ORDER = Comparator.<Entry>comparingInt(entry -> entry.nameLength)
+            .thenComparingLong(entry -> entry.id)
+            .thenComparing(entry -> entry.name);
+
+    private static final Comparator<Hit> RANKING = (a, b) -> {
+        int result = Double.compare(b.score(), a.score());
+        if (result == 0) {
+            result = Integer.compare(a.entry().nameLength, b.entry().nameLength);
+        }
+        return result != 0 ? result : Long.compare(a.entry().id, b.entry().id);
+    };
+
+    private final ProductRepository productRepository;
+
+    private final Map<Long, Entry> products = new ConcurrentHashMap<>();
+    private final NavigableMap<String, Postings> tokenIndex = new ConcurrentSkipListMap<>();
+    private final Map<String, Set<String>> trigramIndex = new ConcurrentHashMap<>();
+    private final Set<Long> deletedWhileLoading = ConcurrentHashMap.newKeySet();
+    private volatile boolean loading;
+
+    /**
+     * Loads all Products into the index in batches once the application has started.
+     * Products changed while loading keep the state delivered by their change events.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        loading = true;
+        try {
+            Pageable pageable = PageRequest.of(0, LOAD_BATCH_SIZE, Sort.by("id"));
+            Page<ProductDTO> page;
+            do {
+                page = productRepository.findAll(pageable).map(ProductMapper::toDTO);
+                page.forEach(this::indexIfAbsent);
+                pageable = page.nextPageable();
+            } while (page.hasNext());
+        } finally {
+            loading = false;
+            deletedWhileLoading.clear();
+        }
+        log.info("Product search index loaded with {} products", products.size());
+    }
+
+    /**
+     * Indexes changed Products once the changing transaction has committed.
+     *
+     * @param event the event describing the changed Products
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductsChanged(ProductsChangedEvent event) {
+        event.products().forEach(this::index);
+    }
+
+    /**
+     * Removes deleted Products once the deleting transaction has committed.
+     *
+     * @param event the event describing the deleted Products
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductsDeleted(ProductsDeletedEvent event) {
+        event.productIds().forEach(this::remove);
+    }
+
+    /**
+     * Searches Products by name.
+     * <p>
+     * Each query token is first resolved against the token dictionary, which is much smaller than the catalog.
+     * Candidates are then read from the postings of the most selective query token only and checked against
+     * the remaining query tokens using the Product's own tokens, keeping the requested page in a bounded heap.
+     * The postings of driving tokens with the same score are merged in ranking order, best scored tokens first,
+     * so reading stops once no remaining candidate could enter the page, even matching the other tokens exactly.
+     * </p>
+     * <p>
+     * Only the candidates read are counted. The total is exact up to {@value #EXACT_TOTAL_LIMIT} matches; a larger
+     * total is a lower bound, since reading may stop before every match is seen. It always exceeds the end of the
+     * requested page when more matches exist, so the page reports whether a next page follows.
+     * </p>
+     *
+     * @param query    the free-text query; every token must match a name token exactly, by prefix or approximately
+     * @param pageable the page to return; sorting is by relevance and any requested sort is ignored
+     * @return a page of matching Products ordered by relevance
+     */
+    public Page<ProductDTO> search(String query, Pageable pageable) {
+        List<String> queryTokens = tokenize(query);
+        if (queryTokens.isEmpty()) {
+            return Page.empty(pageable);
+        }
+        List<Map<String, Double>> matches = queryTokens.stream().map(this::matchTokens).toList();
+        int drivingIndex = 0;
+        for (int i = 1; i < matches.size(); i++) {
+            if (postingCount(matches.get(i)) < postingCount(matches.get(drivingIndex))) {
+                drivingIndex = i;
+            }
+        }
+        Map<String, Double> driving = matches.get(drivingIndex);
+        if (driving.isEmpty()) {
+            return Page.empty(pageable);
+        }
+        NavigableMap<Double, List<String>> tiers = new TreeMap<>(Comparator.reverseOrder());
+        driving.forEach((token, score) -> tiers.computeIfAbsent(score, key -> new ArrayList<>()).add(token));
+
+        long limit = pageable.getOffset() + pageable.getPageSize();
+        PriorityQueue<Hit> top = new PriorityQueue<>(RANKING.reversed());
+        int total = 0;
+        for (Map.Entry<Double, List<String>> tier : tiers.entrySet()) {
+            double bound = maxScore(matches, drivingIndex, tier.getKey());
+            Entry previous = null;
+            for (Iterator<Entry> postings = postings(tier.getValue()); postings.hasNext(); ) {
+                Entry entry = postings.next();
+                if (entry == previous) {
+                    continue;
+                }
+                previous = entry;
+                if (bestScore(entry, driving) != tier.getKey()) {
+                    continue;
+                }
+                if (total >= EXACT_TOTAL_LIMIT && total > limit && RANKING.compare(new Hit(entry, bound), top.peek()) > 0) {
+                    break;
+                }
+                double score = score(entry, matches);
+                if (score == 0) {
+                    continue;
+                }
+                total++;
+                Hit hit = new Hit(entry, score);
+                if (top.size() < limit) {
+                    top.add(hit);
+                } else if (RANKING.compare(hit, top.peek()) < 0) {
+                    top.poll();
+                    top.add(hit);
+                }
+            }
+        }
+
+        List<Hit> ranked = new ArrayList<>(top);
+        ranked.sort(RANKING);
+        int from = (int) Math.min(pageable.getOffset(), ranked.size());
+        List<ProductDTO> content = ranked.subList(from, ranked.size()).stream()
+                .map(hit -> hit.entry().product)
+                .toList();
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    /**
+     * Adds or replaces a Product in the index. Changes that keep the name only swap the snapshot.
+     *
+     * @param product the Product snapshot to index
+     */
+    synchronized void index(ProductDTO product) {
+        Entry previous = products.get(product.getId());
+        if (previous != null && previous.name.equals(product.getName())) {
+            previous.product = product;
+            return;
+        }
+        Entry entry = new Entry(product, tokenize(product.getName()).stream()
+                .map(this::addToken)
+                .toArray(String[]::new));
+        Arrays.stream(entry.tokens).forEach(token -> tokenIndex.get(token).add(entry));
+        products.put(product.getId(), entry);
+        if (previous != null) {
+            removePostings(previous);
+        }
+    }
+
+    /**
+     * Removes a Product from the index.
+     *
+     * @param productId the ID of the Product to remove
+     */
+    synchronized void remove(Long productId) {
+        if (loading) {
+            deletedWhileLoading.add(productId);
+        }
+        Entry previous = products.remove(productId);
+        if (previous != null) {
+            removePostings(previous);
+        }
+    }
+
+    private synchronized void indexIfAbsent(ProductDTO product) {
+        if (!products.containsKey(product.getId()) && !deletedWhileLoading.contains(product.getId())) {
+            index(product);
+        }
+    }
+
+    /**
+     * Resolves a query token to the dictionary tokens it matches, with the score of each match.
+     * Approximate matches are only looked up when no dictionary token starts with the query token,
+     * since they would rank below every exact and prefix match anyway.
+     */
+    private Map<String, Double> matchTokens(String queryToken) {
+        Map<String, Double> matched = new HashMap<>();
+        for (String token : tokenIndex.subMap(queryToken, true, queryToken + Character.MAX_VALUE, false).keySet()) {
+            matched.put(token, token.equals(queryToken) ? EXACT_SCORE : PREFIX_SCORE);
+        }
+        if (matched.isEmpty() && queryToken.length() >= MIN_FUZZY_TOKEN_LENGTH) {
+            int maxDistance = queryToken.length() > 6 ? 2 : 1;
+            for (String token : similarTokens(queryToken, maxDistance)) {
+                int distance = boundedEditDistance(queryToken, token, maxDistance);
+                if (distance <= maxDistance) {
+                    matched.put(token, FUZZY_SCORE / distance);
+                }
+            }
+        }
+        return matched;
+    }
+
+    /**
+     * Finds dictionary tokens that may be within the edit distance of the query token.
+     * <p>
+     * A single edit changes at most three trigrams, so a token within distance {@code d} of a query token
+     * with {@code n} trigrams shares at least {@code n - 3d} of them. Tokens below that count, or whose
+     * length differs by more than {@code d}, are filtered out before computing the edit distance.
+     * </p>
+     */
+    private List<String> similarTokens(String queryToken, int maxDistance) {
+        List<String> queryTrigrams = trigrams(queryToken);
+        Map<String, Integer> sharedTrigrams = new HashMap<>();
+        for (String trigram : queryTrigrams) {
+            for (String token : trigramIndex.getOrDefault(trigram, Set.of())) {
+                if (Math.abs(token.length() - queryToken.length()) <= maxDistance) {
+                    sharedTrigrams.merge(token, 1, Integer::sum);
+                }
+            }
+        }
+        int minShared = Math.max(1, queryTrigrams.size() - 3 * maxDistance);
+        return sharedTrigrams.entrySet().stream()
+                .filter(entry -> entry.getValue() >= minShared)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    /**
+     * Scores a Product against all query tokens.
+     *
+     * @return the sum of the best match per query token, or 0 if any query token is not matched
+     */
+    private static double score(Entry entry, List<Map<String, Double>> matches) {
+        double total = 0;
+        for (Map<String, Double> matched : matches) {
+            double best = 0;
+            for (String token : entry.tokens) {
+                Double score = matched.get(token);
+                if (score != null && score > best) {
+                    best = score;
+                }
+            }
+            if (best == 0) {
+                return 0;
+            }
+            total += best;
+        }
+        return total;
+    }
+
+    /**
+     * Computes the highest score of a candidate read through driving tokens of the given score. The scores
+     * are added in the same order as in {@link #score}, so the bound compares exactly.
+     */
+    private static double maxScore(List<Map<String, Double>> matches, int drivingIndex, double drivingScore) {
+        double total = 0;
+        for (int i = 0; i < matches.size(); i++) {
+            total += i == drivingIndex ? drivingScore : Collections.max(matches.get(i).values());
+        }
+        return total;
+    }
+
+    /**
+     * Returns the best score of the Product's tokens matched by the driving query token. A Product having
+     * several matching tokens is only read through the tokens of this score, so it is counted once.
+     */
+    private static double bestScore(Entry entry, Map<String, Double> driving) {
+        double best = 0;
+        for (String token : entry.tokens) {
+            Double score = driving.get(token);
+            if (score != null && score > best) {
+                best = score;
+            }
+        }
+        return best;
+    }
+
+    private long postingCount(Map<String, Double> matched) {
+        long count = 0;
+        for (String token : matched.keySet()) {
+            Postings postings = tokenIndex.get(token);
+            count += postings == null ? 0 : postings.size;
+        }
+        return count;
+    }
+
+    /**
+     * Merges the postings of several tokens in {@link #POSTING_ORDER}. A Product having several of the tokens
+     * is returned once per token, consecutively.
+     */
+    private Iterator<Entry> postings(List<String> tokens) {
+        PriorityQueue<PostingCursor> cursors = new PriorityQueue<>(Comparator.comparing(cursor -> cursor.head, POSTING_ORDER));
+        for (String token : tokens) {
+            Postings postings = tokenIndex.get(token);
+            PostingCursor cursor = new PostingCursor(postings == null ? Collections.emptyIterator() : postings.entries.iterator());
+            if (cursor.advance()) {
+                cursors.add(cursor);
+            }
+        }
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return !cursors.isEmpty();
+            }
+
+            @Override
+            public Entry next() {
+                PostingCursor cursor = cursors.poll();
+                Entry next = cursor.head;
+                if (cursor.advance()) {
+                    cursors.add(cursor);
+                }
+                return next;
+            }
+        };
+    }
+
+    /**
+     * Adds a token to the dictionary if it is new.
+     *
+     * @return the dictionary's instance of the token, so equal tokens of all Products share one String
+     */
+    private String addToken(String token) {
+        String existing = tokenIndex.ceilingKey(token);
+        if (token.equals(existing)) {
+            return existing;
+        }
+        tokenIndex.put(token, new Postings());
+        trigrams(token).forEach(trigram -> trigramIndex.computeIfAbsent(trigram, key -> ConcurrentHashMap.newKeySet()).add(token));
+        return token;
+    }
+
+    private void removePostings(Entry entry) {
+        for (String token : entry.tokens) {
+            Postings postings = tokenIndex.get(token);
+            postings.remove(entry);
+            if (postings.size == 0) {
+                tokenIndex.remove(token);
+                trigrams(token).forEach(trigram -> {
+                    Set<String> tokens = trigramIndex.get(trigram);
+                    tokens.remove(token);
+                    if (tokens.isEmpty()) {
+                        trigramIndex.remove(trigram);
+                    }
+                });
+            }
+        }
+    }
+
+    private static List<String> tokenize(String text) {
+        if (text == null) {
+            return List.of();
+        }
+        return Arrays.stream(text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+                .filter(token -> !token.isEmpty())
+                .distinct()
+                .toList();
+    }
+
+    private static List<String> trigrams(String token) {
+        String padded = "^" + token + "$";
+        List<String> trigrams = new ArrayList<>(padded.length() - 2);
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            trigrams.add(padded.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+
+    /**
+     * Computes the edit distance between two tokens, counting insertions, deletions, substitutions and
+     * transpositions of adjacent characters as one edit, and giving up once it exceeds the bound.
+     *
+     * @return the distance, or {@code maxDistance + 1} if it exceeds the bound
+     */
+    private static int boundedEditDistance(String a, String b, int maxDistance) {
+        int[] beforePrevious = new int[b.length() + 1];
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    current[j] = Math.min(current[j], beforePrevious[j - 2] + 1);
+                }
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > maxDistance) {
+                return maxDistance + 1;
+            }
+            int[] swap = beforePrevious;
+            beforePrevious = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+
+    /**
+     * An indexed Product. Postings reference entries directly, so candidates are scored without
+     * looking them up by ID. The snapshot is replaced in place when a change keeps the name.
+     */
+    private static final class Entry {
+        private final long id;
+        private final String name;
+        private final int nameLength;
+        private final String[] tokens;
+        private volatile ProductDTO product;
+
+        private Entry(ProductDTO product, String[] tokens) {
+            this.id = product.getId();
+            this.name = product.getName();
+            this.nameLength = product.getName().length();
+            this.tokens = tokens;
+            this.product = product;
+        }
+    }
+
+    /**
+     * The Products having a token, in {@link #POSTING_ORDER}. The size is tracked separately because
+     * a skip list counts its elements by walking them; it is only written under the index lock.
+     */
+    private static final class Postings {
+        private final Set<Entry> entries = new ConcurrentSkipListSet<>(POSTING_ORDER);
+        private volatile int size;
+
+        private void add(Entry entry) {
+            if (entries.add(entry)) {
+                size = size + 1;
+            }
+        }
+
+        private void remove(Entry entry) {
+            if (entries.remove(entry)) {
+                size = size - 1;
+            }
+        }
+    }
+
+    /**
+     * The position of a merge in the postings of one token.
+     */
+    private static final class PostingCursor {
+        private final Iterator<Entry> iterator;
+        private Entry head;
+
+        private PostingCursor(Iterator<Entry> iterator) {
+            this.iterator = iterator;
+        }
+
+        private boolean advance() {
+            head = iterator.hasNext() ? iterator.next() : null;
+            return head != null;
+        }
+    }
+
+    private record Hit(Entry entry, double score) {
+    }
+}
@@ -0,0 +1,24 @@
+package com.vserdiuk.casestudy.service;
+
+import com.vserdiuk.casestudy.dto.ExpirationReplayDTO;
+
+/**
+ * Service interface for recovering Order expirations that were given up on.
+ * <p>
+ * Expirations are given up on in two places: expiration tasks whose event could not be sent are marked
+ * FAILED by the producer, and events whose processing kept failing are parked by the DLQ processor.
+ * Until they are recovered, the stock reserved by their Orders is not returned to sale.
+ * </p>
+ */
+public interface ExpirationRecoveryService {
+
+    /**
+     * Requeues all failed expiration tasks and republishes up to {@code maxMessages} parked expiration events
+     * to the expiration topic, oldest first. Each parked event is replayed once; events that fail again are
+     * retried and parked anew.
+     *
+     * @param maxMessages the maximum number of parked events to replay
+     * @return the number of requeued tasks and replayed events
+     */
+    ExpirationReplayDTO replay(int maxMessages);
+}
@@ -0,0 +1,23 @@
+package com.vserdiuk.casestudy.service;
+
+import java.time.LocalDateTime;
+
+/**
+ * Service interface for moving closed Orders out of the live tables.
+ * <p>
+ * PAID, CANCELLED and EXPIRED Orders are copied into the archive tables together with their lines,
+ * and removed from the live tables with their expiration tasks, so the live tables and their indexes
+ * only hold recent Orders. Archived Orders stay readable through {@link OrderService#getOrder(Long)}.
+ * </p>
+ */
+public interface OrderArchivalService {
+
+    /**
+     * Archives one batch of closed Orders created before the cutoff in a single transaction.
+     *
+     * @param cutoff    the time the Orders must have been created before
+     * @param batchSize the maximum number of Orders to archive
+     * @return the number of archived Orders; less than {@code batchSize} once no eligible Orders are left
+     */
+    int archiveClosedOrders(LocalDateTime cutoff, int batchSize);
+}
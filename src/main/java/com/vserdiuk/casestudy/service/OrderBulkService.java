@@ -0,0 +1,35 @@
+package com.vserdiuk.casestudy.service;
+
+import com.vserdiuk.casestudy.dto.OrderTransitionDTO;
+
+import java.util.List;
+
+/**
+ * Service interface for transitioning large batches of Orders, such as settlement callbacks of a payment provider
+ * or back-office cancellations.
+ * <p>
+ * A batch is split into bounded chunks, each transitioned by {@link OrderService} in its own transaction, so a large
+ * batch never holds its locks for long. A chunk that fails is reported as failed per ID and does not affect the
+ * other chunks.
+ * </p>
+ */
+public interface OrderBulkService {
+
+    /**
+     * Marks the given orders as paid.
+     *
+     * @param orderIds the IDs of the orders to mark as paid
+     * @return the outcome per order ID, in request order
+     * @throws IllegalArgumentException if no IDs, a {@code null} ID or more IDs than allowed per batch are given
+     */
+    List<OrderTransitionDTO> payOrders(List<Long> orderIds);
+
+    /**
+     * Cancels the given orders and releases their reserved stock.
+     *
+     * @param orderIds the IDs of the orders to cancel
+     * @return the outcome per order ID, in request order
+     * @throws IllegalArgumentException if no IDs, a {@code null} ID or more IDs than allowed per batch are given
+     */
+    List<OrderTransitionDTO> cancelOrders(List<Long> orderIds);
+}
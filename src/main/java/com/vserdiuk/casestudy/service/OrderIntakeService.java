@@ -0,0 +1,37 @@
+package com.vserdiuk.casestudy.service;
+
+import com.vserdiuk.casestudy.dto.CreateOrderDTO;
+import com.vserdiuk.casestudy.dto.OrderRequestDTO;
+
+/**
+ * Service interface for the asynchronous Order intake.
+ * <p>
+ * Order requests are accepted into a bounded in-process queue and processed in batches by a
+ * pool of workers, so the caller does not have to wait for stock reservation to complete.
+ * The outcome of each request can be polled by its reference.
+ * </p>
+ */
+public interface OrderIntakeService {
+
+    /**
+     * Accepts an Order request for asynchronous processing.
+     * <p>
+     * Throws {@link com.vserdiuk.casestudy.exception.ServiceOverloadedException} if the intake queue is full.
+     * </p>
+     *
+     * @param dto the data transfer object containing order creation details
+     * @return the accepted request as an {@link OrderRequestDTO} in the ACCEPTED status
+     */
+    OrderRequestDTO submit(CreateOrderDTO dto);
+
+    /**
+     * Retrieves the current status of an Order request.
+     * <p>
+     * Throws {@link jakarta.persistence.EntityNotFoundException} if the reference is unknown or has been evicted.
+     * </p>
+     *
+     * @param reference the reference returned on submission
+     * @return the Order request as an {@link OrderRequestDTO}
+     */
+    OrderRequestDTO getStatus(String reference);
+}
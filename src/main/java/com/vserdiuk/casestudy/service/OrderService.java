@@ -1,7 +1,14 @@
 package com.vserdiuk.casestudy.service;
 
 import com.vserdiuk.casestudy.dto.CreateOrderDTO;
+import com.vserdiuk.casestudy.dto.OrderCreationResultDTO;
 import com.vserdiuk.casestudy.dto.OrderDTO;
+import com.vserdiuk.casestudy.dto.OrderQuoteDTO;
+import com.vserdiuk.casestudy.dto.OrderRequestDTO;
+import com.vserdiuk.casestudy.dto.OrderTransitionDTO;
+
+import java.util.Collection;
+import java.util.List;
 
 /**
  * Service interface for managing Orders in the system.
@@ -18,13 +25,51 @@ public interface OrderService {
      * <p>
      * The products associated with the order are blocked for 30 minutes upon creation.
      * If the order is not paid within this period, it will be removed.
-     * Throws {@link com.vserdiuk.casestudy.exception.BusinessException} if there are some Products in stock issues.
+     * An order with missing Products or insufficient stock is not created; the rejection is returned
+     * with a reason per line instead of being thrown, since it is a normal outcome while stock runs out.
      * </p>
      *
      * @param dto the data transfer object containing order creation details
-     * @return the created order as an {@link OrderDTO}
+     * @return the created order, or the reasons it was rejected, as an {@link OrderCreationResultDTO}
+     */
+    OrderCreationResultDTO createOrder(CreateOrderDTO dto);
+
+    /**
+     * Prices an order without creating it.
+     * <p>
+     * Products are read from the Product cache without taking locks, and each line is checked with the
+     * same rules as order creation. No stock is reserved, so the quote may be outdated by the time
+     * the order is created.
+     * </p>
+     *
+     * @param dto the data transfer object containing the order items to quote
+     * @return the line totals, the order total and the availability of each line as an {@link OrderQuoteDTO}
+     */
+    OrderQuoteDTO quoteOrder(CreateOrderDTO dto);
+
+    /**
+     * Creates several orders in a single transaction.
+     * <p>
+     * The rows of the products of all orders are locked with one {@code SELECT ... FOR UPDATE} in ID order and
+     * held until the batch commits, so concurrent orders of the same products wait rather than fail. Stock is
+     * reserved order by order, so an order that cannot be fulfilled is rejected without affecting the rest of
+     * the batch.
+     * </p>
+     *
+     * @param dtos the data transfer objects containing order creation details
+     * @return one {@link OrderRequestDTO} per request in input order, either COMPLETED with the ID of the
+     * created order or REJECTED with the reason
+     */
+    List<OrderRequestDTO> createOrders(List<CreateOrderDTO> dtos);
+
+    /**
+     * Retrieves an order by its ID, including orders that have been archived.
+     * Throws {@link jakarta.persistence.EntityNotFoundException} if there is not such Order with ID in the system.
+     *
+     * @param orderId the ID of the order to retrieve
+     * @return the order as an {@link OrderDTO}
      */
-    OrderDTO createOrder(CreateOrderDTO dto);
+    OrderDTO getOrder(Long orderId);
 
     /**
      * Cancels an existing order by its ID.
@@ -47,6 +92,31 @@ public interface OrderService {
      */
     void payOrder(Long orderId);
 
+    /**
+     * Marks the given orders as paid in a single transaction with set-based statements.
+     * <p>
+     * Orders that do not exist or are not in the CREATED status are reported instead of failing the batch.
+     * Callers are expected to bound the number of IDs per call.
+     * </p>
+     *
+     * @param orderIds the IDs of the orders to mark as paid
+     * @return the outcome per distinct order ID, in the order of first occurrence
+     */
+    List<OrderTransitionDTO> payOrders(Collection<Long> orderIds);
+
+    /**
+     * Cancels the given orders in a single transaction with set-based statements, releasing their reserved stock
+     * with one update per Product.
+     * <p>
+     * Orders that do not exist or are not in the CREATED status are reported instead of failing the batch.
+     * Callers are expected to bound the number of IDs per call.
+     * </p>
+     *
+     * @param orderIds the IDs of the orders to cancel
+     * @return the outcome per distinct order ID, in the order of first occurrence
+     */
+    List<OrderTransitionDTO> cancelOrders(Collection<Long> orderIds);
+
     /**
      * Expires an order by its ID, removing it from the system.
      * <p>
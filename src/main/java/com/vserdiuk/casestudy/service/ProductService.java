@@ -2,6 +2,9 @@ package com.vserdiuk.casestudy.service;
 
 import com.vserdiuk.casestudy.dto.CreateProductDTO;
 import com.vserdiuk.casestudy.dto.ProductDTO;
+import com.vserdiuk.casestudy.dto.ProductFilterDTO;
+import com.vserdiuk.casestudy.dto.ProductLookupDTO;
+import com.vserdiuk.casestudy.dto.ProductWindowDTO;
 import com.vserdiuk.casestudy.dto.UpdateProductDTO;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -15,6 +18,10 @@ import java.util.List;
  * both individually and in batches.
  * Supports pagination for listing all Products.
  * </p>
+ * <p>
+ * Product DTOs are expected to have passed bean validation already; the controller validates every request
+ * body once, including each element of a batch, so the service does not validate them again.
+ * </p>
  */
 public interface ProductService {
 
@@ -69,6 +76,8 @@ public interface ProductService {
      * Deletes multiple Products by their IDs.
      * <p>
      * Throws {@link jakarta.persistence.EntityNotFoundException} if any Product is not found.
+     * Throws {@link com.vserdiuk.casestudy.exception.ProductInUseException} if any Product is referenced by an Order,
+     * in which case no Product is deleted.
      *
      * @param ids a list of Product IDs to delete
      */
@@ -82,6 +91,29 @@ public interface ProductService {
      */
     Page<ProductDTO> getAllProducts(Pageable pageable);
 
+    /**
+     * Retrieves a page of Products matching price and stock criteria, sorted by price or stock quantity.
+     * <p>
+     * Pagination is keyset-based: the next page is requested with the cursor returned for the previous one.
+     * Throws {@link IllegalArgumentException} if the cursor is malformed.
+     *
+     * @param filter the filter, sort order, page size and cursor
+     * @return the page of matching Products and the cursor of the next page
+     */
+    ProductWindowDTO filterProducts(ProductFilterDTO filter);
+
+    /**
+     * Searches Products by name using the in-memory search index.
+     * <p>
+     * Every query token must match a token of the Product name exactly, as a prefix, or within a small
+     * edit distance. Results are ordered by relevance; any sort in the pageable is ignored.
+     *
+     * @param query    the free-text search query
+     * @param pageable pagination information
+     * @return a paginated list of matching Products as {@link ProductDTO}
+     */
+    Page<ProductDTO> searchProducts(String query, Pageable pageable);
+
     /**
      * Retrieves a Product by its ID.
      * <p>
@@ -91,4 +123,37 @@ public interface ProductService {
      * @return the Product as a {@link ProductDTO}
      */
     ProductDTO getProduct(Long id);
-}
+
+    /**
+     * Retrieves multiple Products by their IDs, in the order of the IDs.
+     * <p>
+     * Missing Products are reported per ID rather than failing the request.
+     * Throws {@link IllegalArgumentException} if more IDs are requested than a single read allows.
+     *
+     * @param ids the IDs of the Products to retrieve
+     * @return one {@link ProductLookupDTO} per requested ID
+     */
+    List<ProductLookupDTO> getProducts(List<Long> ids);
+
+    /**
+     * Retrieves the current version of a Product without loading the entity.
+     * <p>
+     * The version changes whenever the Product is modified, including stock reservations and releases,
+     * and is used to answer conditional requests.
+     * Throws {@link jakarta.persistence.EntityNotFoundException} if the Product is not found.
+     *
+     * @param id the ID of the Product
+     * @return the version of the Product
+     */
+    long getProductVersion(Long id);
+
+    /**
+     * Retrieves the version of the Product catalog as a whole.
+     * <p>
+     * The catalog version changes whenever any Product is created, modified or deleted,
+     * and is used to answer conditional requests for Product listings.
+     *
+     * @return the version of the Product catalog
+     */
+    long getCatalogVersion();
+}
\ No newline at end of file
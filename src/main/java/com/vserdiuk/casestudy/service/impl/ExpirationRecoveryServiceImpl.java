@@ -0,0 +1,93 @@
+package com.vserdiuk.casestudy.service.impl;
+
+import com.vserdiuk.casestudy.dto.ExpirationReplayDTO;
+import com.vserdiuk.casestudy.repository.OrderExpirationTaskRepository;
+import com.vserdiuk.casestudy.service.ExpirationRecoveryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+
+import static com.vserdiuk.casestudy.config.KafkaTopicsConfig.ORDER_EXPIRATION_PARKING_LOT_TOPIC;
+import static com.vserdiuk.casestudy.config.KafkaTopicsConfig.ORDER_EXPIRATION_TOPIC;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ExpirationRecoveryServiceImpl implements ExpirationRecoveryService {
+
+    static final String REPLAY_GROUP_ID = "order-expiration-parking-lot-replay";
+    private static final Duration POLL_TIMEOUT = Duration.ofSeconds(2);
+
+    private final OrderExpirationTaskRepository taskRepository;
+    private final ConsumerFactory<String, String> consumerFactory;
+    private final KafkaTemplate<String, String> kafkaTemplate;
+
+    /**
+     * Failed tasks are requeued with a single statement and become due immediately. Parked events are read
+     * with a short-lived consumer whose committed offsets mark how far the parking lot has been replayed;
+     * the offsets are only committed once every republished event has been acknowledged by the broker.
+     */
+    @Override
+    public ExpirationReplayDTO replay(int maxMessages) {
+        int requeuedTasks = taskRepository.requeueFailed(LocalDateTime.now());
+        int replayedMessages = replayParkedMessages(maxMessages);
+        log.info("Requeued {} failed expiration tasks and replayed {} parked expiration events", requeuedTasks, replayedMessages);
+        return ExpirationReplayDTO.builder()
+                .requeuedTasks(requeuedTasks)
+                .replayedMessages(replayedMessages)
+                .build();
+    }
+
+    private int replayParkedMessages(int maxMessages) {
+        Properties overrides = new Properties();
+        overrides.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        overrides.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        overrides.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxMessages);
+        try (Consumer<String, String> consumer = consumerFactory.createConsumer(REPLAY_GROUP_ID, null, null, overrides)) {
+            List<TopicPartition> partitions = consumer.partitionsFor(ORDER_EXPIRATION_PARKING_LOT_TOPIC).stream()
+                    .map(partition -> new TopicPartition(partition.topic(), partition.partition()))
+                    .toList();
+            if (partitions.isEmpty()) {
+                return 0;
+            }
+            consumer.assign(partitions);
+            Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+            List<CompletableFuture<?>> sends = new ArrayList<>();
+            while (sends.size() < maxMessages) {
+                ConsumerRecords<String, String> records = consumer.poll(POLL_TIMEOUT);
+                if (records.isEmpty()) {
+                    break;
+                }
+                for (ConsumerRecord<String, String> record : records) {
+                    if (sends.size() == maxMessages) {
+                        break;
+                    }
+                    sends.add(kafkaTemplate.send(ORDER_EXPIRATION_TOPIC, record.value()));
+                    offsets.put(new TopicPartition(record.topic(), record.partition()), new OffsetAndMetadata(record.offset() + 1));
+                }
+            }
+            CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new)).join();
+            if (!offsets.isEmpty()) {
+                consumer.commitSync(offsets);
+            }
+            return sends.size();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.vserdiuk.casestudy.service.impl;
+
+import com.vserdiuk.casestudy.entity.OrderStatus;
+import com.vserdiuk.casestudy.repository.ArchivedOrderRepository;
+import com.vserdiuk.casestudy.repository.OrderExpirationTaskRepository;
+import com.vserdiuk.casestudy.repository.OrderRepository;
+import com.vserdiuk.casestudy.service.OrderArchivalService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OrderArchivalServiceImpl implements OrderArchivalService {
+
+    private static final Set<OrderStatus> CLOSED_STATUSES = EnumSet.of(OrderStatus.PAID, OrderStatus.CANCELLED, OrderStatus.EXPIRED);
+
+    private final OrderRepository orderRepository;
+    private final ArchivedOrderRepository archivedOrderRepository;
+    private final OrderExpirationTaskRepository taskRepository;
+
+    /**
+     * Copies the batch into the archive and deletes it from the live tables with set-based statements,
+     * so a batch costs a fixed number of statements regardless of its size. The expiration tasks of the
+     * archived Orders are deleted with them; they have all been sent or are no longer needed.
+     */
+    @Override
+    @Transactional
+    public int archiveClosedOrders(LocalDateTime cutoff, int batchSize) {
+        List<Long> orderIds = orderRepository.findIdsByStatusInAndCreatedAtBefore(CLOSED_STATUSES, cutoff, Limit.of(batchSize));
+        if (orderIds.isEmpty()) {
+            return 0;
+        }
+        archivedOrderRepository.copyOrders(orderIds, LocalDateTime.now());
+        archivedOrderRepository.copyOrderProducts(orderIds);
+        int purgedTasks = taskRepository.deleteByOrderIdIn(orderIds);
+        orderRepository.deleteOrderProductsByOrderIdIn(orderIds);
+        int archived = orderRepository.deleteByIdIn(orderIds);
+        log.debug("Archived {} orders and purged {} expiration tasks", archived, purgedTasks);
+        return archived;
+    }
+}
@@ -0,0 +1,86 @@
+package com.vserdiuk.casestudy.service.impl;
+
+import com.vserdiuk.casestudy.dto.OrderTransitionDTO;
+import com.vserdiuk.casestudy.dto.OrderTransitionOutcome;
+import com.vserdiuk.casestudy.service.OrderBulkService;
+import com.vserdiuk.casestudy.service.OrderService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+@Service
+@Slf4j
+public class OrderBulkServiceImpl implements OrderBulkService {
+
+    private final OrderService orderService;
+    private final int chunkSize;
+    private final int maxIds;
+
+    public OrderBulkServiceImpl(OrderService orderService,
+                                @Value("${order.bulk.chunk-size:500}") int chunkSize,
+                                @Value("${order.bulk.max-ids:10000}") int maxIds) {
+        this.orderService = orderService;
+        this.chunkSize = chunkSize;
+        this.maxIds = maxIds;
+    }
+
+    @Override
+    public List<OrderTransitionDTO> payOrders(List<Long> orderIds) {
+        return transitionInChunks(orderIds, orderService::payOrders);
+    }
+
+    @Override
+    public List<OrderTransitionDTO> cancelOrders(List<Long> orderIds) {
+        return transitionInChunks(orderIds, orderService::cancelOrders);
+    }
+
+    /**
+     * Applies a transition to the distinct IDs chunk by chunk and maps the outcomes back onto the requested IDs.
+     *
+     * @param orderIds   The requested order IDs.
+     * @param transition The transition applied to one chunk in its own transaction.
+     * @return The outcome per requested order ID, in request order.
+     */
+    private List<OrderTransitionDTO> transitionInChunks(List<Long> orderIds,
+                                                        Function<Collection<Long>, List<OrderTransitionDTO>> transition) {
+        validateOrderIds(orderIds);
+        List<Long> distinctIds = List.copyOf(new LinkedHashSet<>(orderIds));
+        Map<Long, OrderTransitionDTO> outcomes = new HashMap<>();
+        for (int from = 0; from < distinctIds.size(); from += chunkSize) {
+            List<Long> chunk = distinctIds.subList(from, Math.min(from + chunkSize, distinctIds.size()));
+            try {
+                transition.apply(chunk).forEach(outcome -> outcomes.put(outcome.getOrderId(), outcome));
+            } catch (RuntimeException e) {
+                log.error("Failed to transition a chunk of {} orders starting with Order ID: {}", chunk.size(), chunk.get(0), e);
+                chunk.forEach(id -> outcomes.put(id, OrderTransitionDTO.builder()
+                        .orderId(id)
+                        .outcome(OrderTransitionOutcome.FAILED)
+                        .message("Transition failed, the order can be retried")
+                        .build()));
+            }
+        }
+        return orderIds.stream()
+                .map(outcomes::get)
+                .toList();
+    }
+
+    private void validateOrderIds(List<Long> orderIds) {
+        if (orderIds == null || orderIds.isEmpty()) {
+            throw new IllegalArgumentException("At least one order ID is required");
+        }
+        if (orderIds.size() > maxIds) {
+            throw new IllegalArgumentException("At most " + maxIds + " order IDs are allowed per batch");
+        }
+        if (orderIds.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("Order IDs must not be null");
+        }
+    }
+}
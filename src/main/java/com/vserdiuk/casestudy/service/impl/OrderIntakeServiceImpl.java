@@ -0,0 +1,202 @@
+package com.vserdiuk.casestudy.service.impl;
+
+import com.vserdiuk.casestudy.dto.CreateOrderDTO;
+import com.vserdiuk.casestudy.dto.OrderCreationResultDTO;
+import com.vserdiuk.casestudy.dto.OrderRequestDTO;
+import com.vserdiuk.casestudy.dto.OrderRequestStatus;
+import com.vserdiuk.casestudy.exception.ServiceOverloadedException;
+import com.vserdiuk.casestudy.service.OrderIntakeService;
+import com.vserdiuk.casestudy.service.OrderService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Service
+@Slf4j
+public class OrderIntakeServiceImpl implements OrderIntakeService {
+
+    private static final long RETRY_AFTER_SECONDS = 1;
+
+    private final OrderService orderService;
+    private final int workerCount;
+    private final int batchSize;
+    private final int maxTrackedRequests;
+    private final BlockingQueue<PendingOrder> queue;
+    private final Map<String, OrderRequestDTO> requests = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<String> completedReferences = new ConcurrentLinkedQueue<>();
+
+    private ExecutorService workers;
+    private volatile boolean running;
+
+    public OrderIntakeServiceImpl(OrderService orderService,
+                                  @Value("${order.intake.queue-capacity:1000}") int queueCapacity,
+                                  @Value("${order.intake.workers:2}") int workerCount,
+                                  @Value("${order.intake.batch-size:50}") int batchSize,
+                                  @Value("${order.intake.max-tracked-requests:100000}") int maxTrackedRequests) {
+        this.orderService = orderService;
+        this.workerCount = workerCount;
+        this.batchSize = batchSize;
+        this.maxTrackedRequests = maxTrackedRequests;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    /**
+     * Starts the worker pool draining the intake queue.
+     */
+    @PostConstruct
+    public void start() {
+        running = true;
+        AtomicInteger threadIndex = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(workerCount,
+                runnable -> new Thread(runnable, "order-intake-" + threadIndex.incrementAndGet()));
+        for (int i = 0; i < workerCount; i++) {
+            workers.submit(this::drainQueue);
+        }
+    }
+
+    /**
+     * Stops accepting new requests and lets the workers finish the requests already queued.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        workers.shutdown();
+        if (!workers.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("Order intake stopped with {} requests still queued", queue.size());
+            workers.shutdownNow();
+        }
+    }
+
+    @Override
+    public OrderRequestDTO submit(CreateOrderDTO dto) {
+        if (!running) {
+            throw new ServiceOverloadedException("Order intake is shutting down", RETRY_AFTER_SECONDS);
+        }
+        OrderRequestDTO request = OrderRequestDTO.builder()
+                .reference(UUID.randomUUID().toString())
+                .status(OrderRequestStatus.ACCEPTED)
+                .submittedAt(LocalDateTime.now())
+                .build();
+        requests.put(request.getReference(), request);
+        if (!queue.offer(new PendingOrder(request.getReference(), dto))) {
+            requests.remove(request.getReference());
+            throw new ServiceOverloadedException("Order intake queue is full", RETRY_AFTER_SECONDS);
+        }
+        return request;
+    }
+
+    @Override
+    public OrderRequestDTO getStatus(String reference) {
+        OrderRequestDTO request = requests.get(reference);
+        if (request == null) {
+            throw new EntityNotFoundException("Order request not found with reference: " + reference);
+        }
+        return request;
+    }
+
+    /**
+     * Worker loop: waits for the first queued request, drains up to the batch size and processes
+     * the batch in a single transaction. Exits once the intake is stopped and the queue is empty.
+     */
+    private void drainQueue() {
+        List<PendingOrder> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingOrder first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                processBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Processes a batch of requests with {@link OrderService#createOrders(List)}. If the batch
+     * transaction fails as a whole, each request is retried on its own so one bad request cannot
+     * fail the others.
+     *
+     * @param batch the requests to process
+     */
+    private void processBatch(List<PendingOrder> batch) {
+        List<OrderRequestDTO> results;
+        try {
+            results = orderService.createOrders(batch.stream().map(PendingOrder::dto).toList());
+        } catch (RuntimeException e) {
+            log.warn("Batch of {} order requests failed, processing them one by one", batch.size(), e);
+            batch.forEach(this::processSingle);
+            return;
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            OrderRequestDTO result = results.get(i);
+            complete(batch.get(i).reference(), result.getStatus(), result.getOrderId(), result.getMessage());
+        }
+    }
+
+    /**
+     * Processes a single request with {@link OrderService#createOrder(CreateOrderDTO)}.
+     *
+     * @param pending the request to process
+     */
+    private void processSingle(PendingOrder pending) {
+        try {
+            OrderCreationResultDTO result = orderService.createOrder(pending.dto());
+            if (result.isCreated()) {
+                complete(pending.reference(), OrderRequestStatus.COMPLETED, result.getOrder().getId(), null);
+            } else {
+                complete(pending.reference(), OrderRequestStatus.REJECTED, null, result.getRejection().getMessage());
+            }
+        } catch (RuntimeException e) {
+            log.error("Failed to process order request {}", pending.reference(), e);
+            complete(pending.reference(), OrderRequestStatus.FAILED, null, "Internal server error");
+        }
+    }
+
+    /**
+     * Records the final status of a request and evicts the oldest completed requests once more
+     * than the configured number of requests are tracked.
+     */
+    private void complete(String reference, OrderRequestStatus status, Long orderId, String message) {
+        requests.computeIfPresent(reference, (key, request) -> request.toBuilder()
+                .status(status)
+                .orderId(orderId)
+                .message(message)
+                .completedAt(LocalDateTime.now())
+                .build());
+        completedReferences.add(reference);
+        while (requests.size() > maxTrackedRequests) {
+            String oldest = completedReferences.poll();
+            if (oldest == null) {
+                break;
+            }
+            requests.remove(oldest);
+        }
+    }
+
+    private record PendingOrder(String reference, CreateOrderDTO dto) {
+    }
+}
@@ -1,27 +1,40 @@
 package com.vserdiuk.casestudy.service.impl;
 
+import com.vserdiuk.casestudy.cache.ProductCache;
 import com.vserdiuk.casestudy.dto.CreateOrderDTO;
+import com.vserdiuk.casestudy.dto.OrderCreationResultDTO;
 import com.vserdiuk.casestudy.dto.OrderDTO;
+import com.vserdiuk.casestudy.dto.OrderLineRejectionDTO;
+import com.vserdiuk.casestudy.dto.OrderLineRejectionReason;
 import com.vserdiuk.casestudy.dto.OrderProductDTO;
+import com.vserdiuk.casestudy.dto.OrderQuoteDTO;
+import com.vserdiuk.casestudy.dto.OrderQuoteLineDTO;
+import com.vserdiuk.casestudy.dto.OrderRejectionDTO;
+import com.vserdiuk.casestudy.dto.OrderRequestDTO;
+import com.vserdiuk.casestudy.dto.OrderRequestStatus;
+import com.vserdiuk.casestudy.dto.OrderTransitionDTO;
+import com.vserdiuk.casestudy.dto.OrderTransitionOutcome;
+import com.vserdiuk.casestudy.dto.ProductDTO;
 import com.vserdiuk.casestudy.entity.Order;
 import com.vserdiuk.casestudy.entity.OrderProduct;
 import com.vserdiuk.casestudy.entity.OrderStatus;
 import com.vserdiuk.casestudy.entity.Product;
-import com.vserdiuk.casestudy.exception.BusinessException;
+import com.vserdiuk.casestudy.event.OrderStatusChangedEvent;
+import com.vserdiuk.casestudy.event.ProductsChangedEvent;
 import com.vserdiuk.casestudy.mapper.OrderMapper;
+import com.vserdiuk.casestudy.mapper.ProductMapper;
 import com.vserdiuk.casestudy.messaging.OrderExpirationProducer;
+import com.vserdiuk.casestudy.money.Money;
+import com.vserdiuk.casestudy.repository.ArchivedOrderRepository;
 import com.vserdiuk.casestudy.repository.OrderRepository;
 import com.vserdiuk.casestudy.repository.ProductRepository;
 import com.vserdiuk.casestudy.service.OrderService;
 import com.vserdiuk.casestudy.validator.OrderValidator;
 import jakarta.persistence.EntityNotFoundException;
-import jakarta.persistence.LockModeType;
-import jakarta.persistence.OptimisticLockException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.data.jpa.repository.Lock;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -35,68 +48,198 @@ import java.util.stream.Collectors;
 public class OrderServiceImpl implements OrderService {
 
     public static final int EXPIRATION_DURATION = 30;
-    private static final int MAX_RETRIES = 3;
 
     private final OrderRepository orderRepository;
+    private final ArchivedOrderRepository archivedOrderRepository;
     private final ProductRepository productRepository;
+    private final ProductCache productCache;
     private final OrderExpirationProducer orderExpirationProducer;
     private final OrderValidator orderValidator;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
-    public OrderDTO createOrder(CreateOrderDTO dto) {
+    public OrderCreationResultDTO createOrder(CreateOrderDTO dto) {
         Set<Long> productIds = extractProductIds(dto);
         Map<Long, Product> productMap = fetchProductsWithLock(productIds);
-        validateStockAvailability(dto, productMap);
+        List<OrderLineRejectionDTO> rejections = getRejections(dto, productMap);
+        if (!rejections.isEmpty()) {
+            log.info("Order creation rejected due to stock issues: {}", rejections);
+            return OrderCreationResultDTO.builder()
+                    .rejection(OrderRejectionDTO.builder()
+                            .message(joinMessages(rejections))
+                            .lines(rejections)
+                            .build())
+                    .build();
+        }
 
         Order order = createNewOrder();
         List<OrderProduct> orderProducts = reserveStockAndCreateOrderProducts(dto, productMap, order);
 
         saveOrderAndProducts(productMap.values(), order, orderProducts);
+        publishOrderStatusChanged(order, null);
         scheduleOrderExpiration(order.getId());
 
-        asyncLog("Order created successfully with ID: {}", order.getId());
-        return OrderMapper.toDTO(order);
+        log.info("Order created successfully with ID: {}", order.getId());
+        return OrderCreationResultDTO.builder()
+                .order(OrderMapper.toDTO(order))
+                .build();
+    }
+
+    @Override
+    public OrderQuoteDTO quoteOrder(CreateOrderDTO dto) {
+        Map<Long, ProductDTO> products = productCache.getProducts(extractProductIds(dto));
+        List<OrderQuoteLineDTO> lines = new ArrayList<>(dto.getItems().size());
+        Money totalAmount = Money.ZERO;
+        boolean available = true;
+        for (OrderProductDTO item : dto.getItems()) {
+            ProductDTO product = products.get(item.getProductId());
+            OrderLineRejectionDTO rejection = product == null
+                    ? getLineRejection(item, null, null)
+                    : getLineRejection(item, product.getName(), product.getStockQuantity());
+            OrderQuoteLineDTO.OrderQuoteLineDTOBuilder line = OrderQuoteLineDTO.builder()
+                    .productId(item.getProductId())
+                    .quantity(item.getQuantity())
+                    .available(rejection == null)
+                    .message(rejection == null ? null : rejection.getMessage());
+            if (product != null) {
+                Money lineTotal = Money.of(product.getPrice()).times(item.getQuantity());
+                totalAmount = totalAmount.plus(lineTotal);
+                line.unitPrice(product.getPrice()).lineTotal(lineTotal.toBigDecimal());
+            }
+            available &= rejection == null;
+            lines.add(line.build());
+        }
+        return OrderQuoteDTO.builder()
+                .lines(lines)
+                .totalAmount(totalAmount.toBigDecimal())
+                .available(available)
+                .build();
     }
 
     @Override
     @Transactional
-    public void cancelOrder(Long orderId) {
-        executeWithRetry(() -> {
-            Order order = orderValidator.validateOrderIsCreated(orderId, "canceled");
-            releaseReservedStock(order);
-            order.setStatus(OrderStatus.CANCELLED);
-            orderRepository.save(order);
-            asyncLog("Order with ID: {} canceled and stock released", orderId);
+    public List<OrderRequestDTO> createOrders(List<CreateOrderDTO> dtos) {
+        Set<Long> productIds = dtos.stream()
+                .flatMap(dto -> extractProductIds(dto).stream())
+                .collect(Collectors.toSet());
+        Map<Long, Product> productMap = fetchProductsWithLock(productIds);
+
+        OrderRequestDTO[] results = new OrderRequestDTO[dtos.size()];
+        Map<Integer, Order> acceptedOrders = new LinkedHashMap<>();
+        for (int i = 0; i < dtos.size(); i++) {
+            CreateOrderDTO dto = dtos.get(i);
+            List<OrderLineRejectionDTO> rejections = getRejections(dto, productMap);
+            if (!rejections.isEmpty()) {
+                results[i] = OrderRequestDTO.builder()
+                        .status(OrderRequestStatus.REJECTED)
+                        .message(joinMessages(rejections))
+                        .build();
+                continue;
+            }
+            Order order = createNewOrder();
+            order.setOrderProducts(reserveStockAndCreateOrderProducts(dto, productMap, order));
+            acceptedOrders.put(i, order);
+        }
+
+        if (!acceptedOrders.isEmpty()) {
+            productRepository.saveAll(productMap.values());
+            orderRepository.saveAll(acceptedOrders.values());
+            publishProductsChanged(productMap.values());
+        }
+        acceptedOrders.forEach((index, order) -> {
+            publishOrderStatusChanged(order, null);
+            scheduleOrderExpiration(order.getId());
+            results[index] = OrderRequestDTO.builder()
+                    .status(OrderRequestStatus.COMPLETED)
+                    .orderId(order.getId())
+                    .build();
         });
+
+        log.info("Batch of {} orders processed, {} created", dtos.size(), acceptedOrders.size());
+        return Arrays.asList(results);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public OrderDTO getOrder(Long orderId) {
+        return orderRepository.findWithLinesById(orderId)
+                .map(OrderMapper::toDTO)
+                .or(() -> archivedOrderRepository.findById(orderId).map(OrderMapper::toDTO))
+                .orElseThrow(() -> new EntityNotFoundException("Order not found with ID: " + orderId));
+    }
+
+    @Override
+    @Transactional
+    public void cancelOrder(Long orderId) {
+        int updated = orderRepository.updateStatusIfCreated(orderId, OrderStatus.CANCELLED);
+        orderValidator.validateTransitionApplied(updated, orderId, "canceled");
+        Order order = getOrderWithLines(orderId);
+        releaseReservedStockPerProduct(List.of(order));
+        publishOrderStatusChanged(order, OrderStatus.CREATED);
+        log.info("Order with ID: {} canceled and stock released", orderId);
     }
 
     @Override
     @Transactional
     public void payOrder(Long orderId) {
-        executeWithRetry(() -> {
-            Order order = orderValidator.validateOrderIsCreated(orderId, "paid");
-            order.setStatus(OrderStatus.PAID);
-            order.setPaidAt(LocalDateTime.now());
-            orderRepository.save(order);
-            asyncLog("Order with ID: {} marked as PAID", orderId);
-        });
+        int updated = orderRepository.markPaidIfCreated(orderId, LocalDateTime.now());
+        orderValidator.validateTransitionApplied(updated, orderId, "paid");
+        publishOrderStatusChanged(getOrderWithLines(orderId), OrderStatus.CREATED);
+        log.info("Order with ID: {} marked as PAID", orderId);
+    }
+
+    /**
+     * The CREATED Orders of the batch are locked first, so the guarded update is known to apply to exactly them
+     * and the remaining IDs only need an existence check to be told apart.
+     */
+    @Override
+    @Transactional
+    public List<OrderTransitionDTO> payOrders(Collection<Long> orderIds) {
+        Set<Long> ids = new LinkedHashSet<>(orderIds);
+        List<Long> createdIds = orderRepository.lockCreatedIds(ids);
+        if (!createdIds.isEmpty()) {
+            orderRepository.markPaidIfCreated(createdIds, LocalDateTime.now());
+            orderRepository.findWithLinesByIdIn(createdIds)
+                    .forEach(order -> publishOrderStatusChanged(order, OrderStatus.CREATED));
+        }
+        log.info("Batch of {} orders processed, {} marked as PAID", ids.size(), createdIds.size());
+        return getTransitionOutcomes(ids, createdIds, "paid");
+    }
+
+    /**
+     * The CREATED Orders of the batch are locked first, so the guarded update is known to apply to exactly them
+     * and the remaining IDs only need an existence check to be told apart. Released units are summed per Product
+     * before they are returned to stock.
+     */
+    @Override
+    @Transactional
+    public List<OrderTransitionDTO> cancelOrders(Collection<Long> orderIds) {
+        Set<Long> ids = new LinkedHashSet<>(orderIds);
+        List<Long> createdIds = orderRepository.lockCreatedIds(ids);
+        if (!createdIds.isEmpty()) {
+            orderRepository.updateStatusIfCreated(createdIds, OrderStatus.CANCELLED);
+            List<Order> orders = orderRepository.findWithLinesByIdIn(createdIds);
+            releaseReservedStockPerProduct(orders);
+            orders.forEach(order -> publishOrderStatusChanged(order, OrderStatus.CREATED));
+        }
+        log.info("Batch of {} orders processed, {} canceled and stock released", ids.size(), createdIds.size());
+        return getTransitionOutcomes(ids, createdIds, "canceled");
     }
 
     @Override
     @Transactional
     public void expireOrderById(Long orderId) {
-        executeWithRetry(() -> {
-            Order order = orderValidator.validateOrderForExpiration(orderId);
-            if (order == null) {
-                asyncLog("Order with ID: {} is already processed. Skipping expiration.", orderId);
-                return;
-            }
-            releaseReservedStock(order);
-            order.setStatus(OrderStatus.EXPIRED);
-            orderRepository.save(order);
-            asyncLog("Order with ID: {} has been expired and stock released", orderId);
-        });
+        int updated = orderRepository.updateStatusIfCreated(orderId, OrderStatus.EXPIRED);
+        if (updated == 0) {
+            orderValidator.validateOrderExists(orderId);
+            log.info("Order with ID: {} is already processed. Skipping expiration.", orderId);
+            return;
+        }
+        Order order = getOrderWithLines(orderId);
+        releaseReservedStockPerProduct(List.of(order));
+        publishOrderStatusChanged(order, OrderStatus.CREATED);
+        log.info("Order with ID: {} has been expired and stock released", orderId);
     }
 
     @Cacheable(value = "products", key = "#productIds")
@@ -104,67 +247,68 @@ public class OrderServiceImpl implements OrderService {
         return productRepository.findAllById(productIds);
     }
 
-    @Async
-    public void asyncLog(String message, Object... args) {
-        log.info(message, args);
-    }
-
     /**
-     * Executes a given operation with retry logic in case of OptimisticLockException.
-     * The operation is retried up to MAX_RETRIES times with exponential backoff.
+     * Retrieves an Order that has just been moved out of the CREATED status, together with its lines and Products.
+     * The lines are needed to release the reserved stock and to describe the transition to listeners.
      *
-     * @param operation The operation to execute, provided as a Runnable.
-     * @throws BusinessException if the operation fails after all retries or if interrupted.
+     * @param orderId The ID of the order to retrieve.
+     * @return The Order entity in its new status.
+     * @throws EntityNotFoundException if no order is found with the given ID.
      */
-    private void executeWithRetry(Runnable operation) {
-        int attempt = 0;
-        while (attempt < MAX_RETRIES) {
-            try {
-                operation.run();
-                return;
-            } catch (OptimisticLockException e) {
-                attempt++;
-                if (attempt >= MAX_RETRIES) {
-                    throw new BusinessException("Failed to process operation after " + MAX_RETRIES + " attempts due to concurrent modifications");
-                }
-                asyncLog("Retrying operation due to OptimisticLockException, attempt: {}", attempt);
-                try {
-                    Thread.sleep(100 * attempt); // Exponential backoff
-                } catch (InterruptedException ie) {
-                    Thread.currentThread().interrupt();
-                    throw new BusinessException("Interrupted during retry");
-                }
-            }
-        }
+    private Order getOrderWithLines(Long orderId) {
+        return orderRepository.findWithLinesById(orderId)
+                .orElseThrow(() -> new EntityNotFoundException("Order not found with ID: " + orderId));
     }
 
     /**
-     * Retrieves an Order by its ID with an optimistic lock to prevent concurrent modifications.
+     * Releases the reserved stock of the given orders with one update per Product.
+     * The units are added by a relative update rather than by writing back a loaded stock quantity, so a concurrent
+     * reservation of the same Product cannot make the release fail its optimistic check. Reservations lock the rows
+     * of their Products, so the update waits for them and vice versa. Products are updated in ID order, the same
+     * order in which reservations lock them.
      *
-     * @param orderId The ID of the order to retrieve.
-     * @return The Order entity.
-     * @throws EntityNotFoundException if no order is found with the given ID.
+     * @param orders The Order entities whose products' stock needs to be released.
      */
-    @Lock(LockModeType.OPTIMISTIC)
-    private Order getOrderWithLock(Long orderId) {
-        return orderRepository.findById(orderId)
-                .orElseThrow(() -> new EntityNotFoundException("Order not found with ID: " + orderId));
+    private void releaseReservedStockPerProduct(List<Order> orders) {
+        Map<Long, Long> releasedUnits = new TreeMap<>();
+        orders.forEach(order -> order.getOrderProducts().forEach(orderProduct ->
+                releasedUnits.merge(orderProduct.getProduct().getId(), (long) orderProduct.getQuantity(), Long::sum)));
+        releasedUnits.forEach(productRepository::incrementStock);
+        publishProductsChanged(productRepository.findAllById(releasedUnits.keySet()));
     }
 
     /**
-     * Releases the reserved stock for all products associated with the given order.
-     * Iterates through the order's products and increments their stock quantities.
+     * Reports the outcome of a batch transition per order ID.
+     * IDs the transition was not applied to are looked up once to tell missing orders apart from orders in another status.
      *
-     * @param order The Order entity whose products' stock needs to be released.
+     * @param ids        The distinct IDs of the batch, in request order.
+     * @param appliedIds The IDs the transition was applied to.
+     * @param action     The action performed (e.g., "canceled", "paid") for inclusion in the messages.
+     * @return The outcome per order ID.
      */
-    private void releaseReservedStock(Order order) {
-        List<Product> productsToUpdate = new ArrayList<>();
-        order.getOrderProducts().forEach(orderProduct -> {
-            Product product = orderProduct.getProduct();
-            product.setStockQuantity(product.getStockQuantity() + orderProduct.getQuantity());
-            productsToUpdate.add(product);
-        });
-        productRepository.saveAll(productsToUpdate);
+    private List<OrderTransitionDTO> getTransitionOutcomes(Set<Long> ids, Collection<Long> appliedIds, String action) {
+        Set<Long> applied = new HashSet<>(appliedIds);
+        List<Long> rejectedIds = ids.stream()
+                .filter(id -> !applied.contains(id))
+                .toList();
+        Set<Long> existingIds = new HashSet<>();
+        if (!rejectedIds.isEmpty()) {
+            existingIds.addAll(orderRepository.findExistingIds(rejectedIds));
+            existingIds.addAll(archivedOrderRepository.findExistingIds(rejectedIds));
+        }
+        return ids.stream()
+                .map(id -> {
+                    if (applied.contains(id)) {
+                        return OrderTransitionDTO.builder().orderId(id).outcome(OrderTransitionOutcome.APPLIED).build();
+                    }
+                    if (existingIds.contains(id)) {
+                        return OrderTransitionDTO.builder().orderId(id).outcome(OrderTransitionOutcome.INVALID_STATUS)
+                                .message(String.format("Only CREATED orders can be %s", action)).build();
+                    }
+                    return OrderTransitionDTO.builder().orderId(id).outcome(OrderTransitionOutcome.NOT_FOUND)
+                            .message("Order not found with ID: " + id).build();
+                })
+                .toList();
     }
 
     /**
@@ -180,7 +324,8 @@ public class OrderServiceImpl implements OrderService {
     }
 
     /**
-     * Fetches products by their IDs with a lock to ensure data consistency during order processing.
+     * Fetches products by their IDs with a pessimistic write lock held until the transaction ends,
+     * so concurrent orders of the same Product are serialized rather than rejected.
      *
      * @param productIds The set of product IDs to fetch.
      * @return A Map of product IDs to Product entities.
@@ -192,40 +337,56 @@ public class OrderServiceImpl implements OrderService {
     }
 
     /**
-     * Validates stock availability for the products in the order.
-     * Checks if products exist and have sufficient stock for the requested quantities.
+     * Checks every order item against the Product it refers to.
      *
      * @param dto        The CreateOrderDTO containing the order items.
      * @param productMap A Map of product IDs to Product entities.
-     * @throws BusinessException if stock validation fails.
+     * @return The rejected lines, empty if every Product exists and has enough stock.
      */
-    private void validateStockAvailability(CreateOrderDTO dto, Map<Long, Product> productMap) {
-        List<String> errors = getErrors(dto, productMap);
-
-        if (!errors.isEmpty()) {
-            asyncLog("Order creation failed due to stock issues: {}", errors);
-            throw new BusinessException(String.join("; ", errors));
+    private static List<OrderLineRejectionDTO> getRejections(CreateOrderDTO dto, Map<Long, Product> productMap) {
+        List<OrderLineRejectionDTO> rejections = new ArrayList<>();
+        for (OrderProductDTO item : dto.getItems()) {
+            Product product = productMap.get(item.getProductId());
+            OrderLineRejectionDTO rejection = product == null
+                    ? getLineRejection(item, null, null)
+                    : getLineRejection(item, product.getName(), product.getStockQuantity());
+            if (rejection != null) {
+                rejections.add(rejection);
+            }
         }
+        return rejections;
     }
 
     /**
-     * Generates a list of error messages for products that are either not found or have insufficient stock.
+     * Checks one order item against the Product it refers to.
      *
-     * @param dto        The CreateOrderDTO containing the order items.
-     * @param productMap A Map of product IDs to Product entities.
-     * @return A List of error messages.
+     * @param item          The order item.
+     * @param productName   The name of the Product, or {@code null} if the Product does not exist.
+     * @param stockQuantity The stock of the Product, or {@code null} if the Product does not exist.
+     * @return The rejection of the item, or {@code null} if the Product exists and has enough stock.
      */
-    private static List<String> getErrors(CreateOrderDTO dto, Map<Long, Product> productMap) {
-        List<String> errors = new ArrayList<>();
-        for (OrderProductDTO item : dto.getItems()) {
-            Product product = productMap.get(item.getProductId());
-            if (product == null) {
-                errors.add("Product not found with id: " + item.getProductId());
-            } else if (product.getStockQuantity() < item.getQuantity()) {
-                errors.add("Insufficient stock for product: " + product.getName());
-            }
+    private static OrderLineRejectionDTO getLineRejection(OrderProductDTO item, String productName, Integer stockQuantity) {
+        if (productName == null) {
+            return OrderLineRejectionDTO.builder()
+                    .productId(item.getProductId())
+                    .reason(OrderLineRejectionReason.PRODUCT_NOT_FOUND)
+                    .message("Product not found with id: " + item.getProductId())
+                    .build();
+        }
+        if (stockQuantity < item.getQuantity()) {
+            return OrderLineRejectionDTO.builder()
+                    .productId(item.getProductId())
+                    .reason(OrderLineRejectionReason.INSUFFICIENT_STOCK)
+                    .message("Insufficient stock for product: " + productName)
+                    .build();
         }
-        return errors;
+        return null;
+    }
+
+    private static String joinMessages(List<OrderLineRejectionDTO> rejections) {
+        return rejections.stream()
+                .map(OrderLineRejectionDTO::getMessage)
+                .collect(Collectors.joining("; "));
     }
 
     /**
@@ -243,6 +404,8 @@ public class OrderServiceImpl implements OrderService {
     /**
      * Reserves stock for the products in the order and creates corresponding OrderProduct entities.
      * Updates the stock quantities in the product map and associates products with the order.
+     * Each line keeps the current product price and its line total, and the order keeps the sum
+     * of its line totals, so the order value never has to be recomputed from product prices.
      *
      * @param dto        The CreateOrderDTO containing the order items.
      * @param productMap A Map of product IDs to Product entities.
@@ -252,17 +415,24 @@ public class OrderServiceImpl implements OrderService {
     private List<OrderProduct> reserveStockAndCreateOrderProducts(CreateOrderDTO dto,
                                                                   Map<Long, Product> productMap,
                                                                   Order order) {
-        return dto.getItems().stream()
-                .map(item -> {
-                    Product product = productMap.get(item.getProductId());
-                    product.setStockQuantity(product.getStockQuantity() - item.getQuantity());
-                    return OrderProduct.builder()
-                            .order(order)
-                            .product(product)
-                            .quantity(item.getQuantity())
-                            .build();
-                })
-                .collect(Collectors.toList());
+        List<OrderProduct> orderProducts = new ArrayList<>(dto.getItems().size());
+        Money totalAmount = Money.ZERO;
+        for (OrderProductDTO item : dto.getItems()) {
+            Product product = productMap.get(item.getProductId());
+            product.setStockQuantity(product.getStockQuantity() - item.getQuantity());
+            Money lineTotal = Money.of(product.getPrice()).times(item.getQuantity());
+            totalAmount = totalAmount.plus(lineTotal);
+            orderProducts.add(OrderProduct.builder()
+                    .order(order)
+                    .product(product)
+                    .productName(product.getName())
+                    .quantity(item.getQuantity())
+                    .unitPrice(product.getPrice())
+                    .lineTotal(lineTotal.toBigDecimal())
+                    .build());
+        }
+        order.setTotalAmount(totalAmount.toBigDecimal());
+        return orderProducts;
     }
 
     /**
@@ -277,6 +447,36 @@ public class OrderServiceImpl implements OrderService {
         productRepository.saveAll(products);
         order.setOrderProducts(orderProducts);
         orderRepository.save(order);
+        publishProductsChanged(products);
+    }
+
+    /**
+     * Publishes a {@link ProductsChangedEvent} with the current state of Products whose stock was changed.
+     *
+     * @param products The Products whose stock was reserved or released.
+     */
+    private void publishProductsChanged(Collection<Product> products) {
+        eventPublisher.publishEvent(new ProductsChangedEvent(products.stream()
+                .map(ProductMapper::toDTO)
+                .toList()));
+    }
+
+    /**
+     * Publishes an {@link OrderStatusChangedEvent} describing the transition of an Order to its current status.
+     *
+     * @param order          The Order after the transition.
+     * @param previousStatus The status before the transition, or {@code null} for a new Order.
+     */
+    private void publishOrderStatusChanged(Order order, OrderStatus previousStatus) {
+        List<OrderProductDTO> items = new ArrayList<>();
+        for (OrderProduct orderProduct : order.getOrderProducts()) {
+            OrderProductDTO item = new OrderProductDTO();
+            item.setProductId(orderProduct.getProduct().getId());
+            item.setQuantity(orderProduct.getQuantity());
+            items.add(item);
+        }
+        eventPublisher.publishEvent(new OrderStatusChangedEvent(order.getId(), order.getCreatedAt().toLocalDate(),
+                previousStatus, order.getStatus(), Money.of(order.getTotalAmount()), items));
     }
 
     /**
@@ -1,23 +1,46 @@
 package com.vserdiuk.casestudy.service.impl;
 
+import com.vserdiuk.casestudy.cache.ProductCache;
+import com.vserdiuk.casestudy.cache.ProductNameFilter;
+import com.vserdiuk.casestudy.cache.ProductVersionCache;
 import com.vserdiuk.casestudy.dto.CreateProductDTO;
 import com.vserdiuk.casestudy.dto.ProductDTO;
+import com.vserdiuk.casestudy.dto.ProductFilterDTO;
+import com.vserdiuk.casestudy.dto.ProductLookupDTO;
+import com.vserdiuk.casestudy.dto.ProductSortField;
+import com.vserdiuk.casestudy.dto.ProductWindowDTO;
 import com.vserdiuk.casestudy.dto.UpdateProductDTO;
 import com.vserdiuk.casestudy.entity.Product;
+import com.vserdiuk.casestudy.event.ProductsChangedEvent;
+import com.vserdiuk.casestudy.event.ProductsDeletedEvent;
+import com.vserdiuk.casestudy.exception.ProductInUseException;
 import com.vserdiuk.casestudy.mapper.ProductMapper;
+import com.vserdiuk.casestudy.repository.OrderProductRepository;
 import com.vserdiuk.casestudy.repository.ProductRepository;
+import com.vserdiuk.casestudy.repository.ProductSpecifications;
+import com.vserdiuk.casestudy.search.ProductSearchIndex;
 import com.vserdiuk.casestudy.service.ProductService;
-import com.vserdiuk.casestudy.validator.ProductValidator;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -26,20 +49,28 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class ProductServiceImpl implements ProductService {
 
+    private static final int DELETE_CHUNK_SIZE = 1000;
+    private static final int MAX_LOOKUP_IDS = 500;
+
     private final ProductRepository productRepository;
-    private final ProductValidator productValidator;
+    private final OrderProductRepository orderProductRepository;
+    private final ProductVersionCache productVersionCache;
+    private final ProductCache productCache;
+    private final ProductNameFilter productNameFilter;
+    private final ProductSearchIndex productSearchIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
     public ProductDTO createProduct(CreateProductDTO dto) {
         log.info("Creating product: {}", dto.getName());
-        productValidator.validateDTO(dto);
         checkProductNameUniqueness(dto.getName());
+        productNameFilter.add(dto.getName());
 
         Product product = ProductMapper.toEntity(dto);
         Product savedProduct = productRepository.save(product);
         log.debug("Product created with ID: {}", savedProduct.getId());
-        return ProductMapper.toDTO(savedProduct);
+        return publishChanged(savedProduct);
     }
 
     @Override
@@ -49,20 +80,17 @@ public class ProductServiceImpl implements ProductService {
         validateAndCheckDuplicates(dtos.stream().map(CreateProductDTO::getName).toList());
 
         List<Product> products = dtos.stream()
-                .peek(productValidator::validateDTO)
                 .map(ProductMapper::toEntity)
                 .toList();
+        products.forEach(product -> productNameFilter.add(product.getName()));
 
-        return productRepository.saveAll(products).stream()
-                .map(ProductMapper::toDTO)
-                .toList();
+        return publishChanged(productRepository.saveAll(products));
     }
 
     @Override
     @Transactional
     public ProductDTO updateProduct(UpdateProductDTO dto) {
         log.info("Updating Product ID: {}", dto.getId());
-        productValidator.validateDTO(dto);
 
         Product product = productRepository.findById(dto.getId())
                 .orElseThrow(() -> new EntityNotFoundException("Product not found with id: " + dto.getId()));
@@ -70,7 +98,7 @@ public class ProductServiceImpl implements ProductService {
         updateProductFields(product, dto);
         Product updatedProduct = productRepository.save(product);
         log.debug("Product updated with ID: {}", updatedProduct.getId());
-        return ProductMapper.toDTO(updatedProduct);
+        return publishChanged(updatedProduct);
     }
 
     @Override
@@ -82,29 +110,37 @@ public class ProductServiceImpl implements ProductService {
                 .filter(name -> name != null)
                 .toList());
 
+        Map<Long, Product> productsById = productRepository.findAllById(dtos.stream().map(UpdateProductDTO::getId).toList())
+                .stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+        List<Long> missingIds = dtos.stream()
+                .map(UpdateProductDTO::getId)
+                .filter(id -> !productsById.containsKey(id))
+                .toList();
+        if (!missingIds.isEmpty()) {
+            throw new EntityNotFoundException("Products not found with ids: " + missingIds);
+        }
+
         List<Product> products = dtos.stream()
-                .peek(productValidator::validateDTO)
                 .map(dto -> {
-                    Product product = productRepository.findById(dto.getId())
-                            .orElseThrow(() -> new EntityNotFoundException("Product not found with id: " + dto.getId()));
+                    Product product = productsById.get(dto.getId());
                     updateProductFields(product, dto);
                     return product;
                 })
                 .toList();
 
-        return productRepository.saveAll(products).stream()
-                .map(ProductMapper::toDTO)
-                .toList();
+        return publishChanged(productRepository.saveAll(products));
     }
 
     @Override
     @Transactional
     public void deleteProduct(Long id) {
         log.info("Deleting Product ID: {}", id);
-        if (!productRepository.existsById(id)) {
-            throw new EntityNotFoundException("Product not found with id: " + id);
-        }
+        String name = productRepository.findNameById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Product not found with id: " + id));
         productRepository.deleteById(id);
+        productNameFilter.releaseAfterCommit(List.of(name));
+        eventPublisher.publishEvent(new ProductsDeletedEvent(List.of(id)));
         log.debug("Product deleted with ID: {}", id);
     }
 
@@ -117,50 +153,181 @@ public class ProductServiceImpl implements ProductService {
             throw new IllegalArgumentException("Duplicate Product IDs found");
         }
 
-        List<Long> existingIds = productRepository.findAllById(ids).stream()
-                .map(Product::getId)
-                .toList();
+        List<String> names = new ArrayList<>(ids.size());
+        List<Long> missingIds = new ArrayList<>();
+        List<Long> referencedIds = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += DELETE_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + DELETE_CHUNK_SIZE, ids.size()));
+            Set<Long> existingIds = new HashSet<>();
+            for (ProductRepository.IdAndName product : productRepository.findIdAndNameByIdIn(chunk)) {
+                existingIds.add(product.getId());
+                names.add(product.getName());
+            }
+            chunk.stream().filter(id -> !existingIds.contains(id)).forEach(missingIds::add);
+            referencedIds.addAll(orderProductRepository.findReferencedProductIds(chunk));
+        }
 
-        if (existingIds.size() != ids.size()) {
-            List<Long> missingIds = ids.stream()
-                    .filter(id -> !existingIds.contains(id))
-                    .toList();
+        if (!missingIds.isEmpty()) {
             throw new EntityNotFoundException("Products not found with ids: " + missingIds);
         }
+        if (!referencedIds.isEmpty()) {
+            throw new ProductInUseException(referencedIds);
+        }
 
-        productRepository.deleteAllById(ids);
+        for (int from = 0; from < ids.size(); from += DELETE_CHUNK_SIZE) {
+            productRepository.deleteByIdIn(ids.subList(from, Math.min(from + DELETE_CHUNK_SIZE, ids.size())));
+        }
+        productNameFilter.releaseAfterCommit(names);
+        eventPublisher.publishEvent(new ProductsDeletedEvent(ids));
         log.debug("Deleted {} products", ids.size());
     }
 
     @Override
     public ProductDTO getProduct(Long id) {
-        log.info("Retrieving Product ID: {}", id);
+        log.debug("Retrieving Product ID: {}", id);
         Product product = productRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Product not found with id: " + id));
         return ProductMapper.toDTO(product);
     }
 
+    @Override
+    public List<ProductLookupDTO> getProducts(List<Long> ids) {
+        log.debug("Retrieving {} products by ID", ids.size());
+        if (ids.size() > MAX_LOOKUP_IDS) {
+            throw new IllegalArgumentException("At most " + MAX_LOOKUP_IDS + " Product IDs can be requested at once");
+        }
+        Map<Long, ProductDTO> products = productCache.getProducts(new LinkedHashSet<>(ids));
+        return ids.stream()
+                .map(id -> ProductLookupDTO.builder()
+                        .id(id)
+                        .found(products.containsKey(id))
+                        .product(products.get(id))
+                        .build())
+                .toList();
+    }
+
     @Override
     public Page<ProductDTO> getAllProducts(Pageable pageable) {
-        log.info("Retrieving products with pageable: {}", pageable);
+        log.debug("Retrieving products with pageable: {}", pageable);
         return productRepository.findAll(pageable).map(ProductMapper::toDTO);
     }
 
+    @Override
+    public ProductWindowDTO filterProducts(ProductFilterDTO filter) {
+        log.debug("Filtering products with filter: {}", filter);
+        List<Specification<Product>> specifications = new ArrayList<>();
+        specifications.add(ProductSpecifications.priceAtLeast(filter.getMinPrice()));
+        specifications.add(ProductSpecifications.priceAtMost(filter.getMaxPrice()));
+        specifications.add(ProductSpecifications.stockAtLeast(filter.getMinStock()));
+        specifications.add(ProductSpecifications.inStock(filter.isInStock()));
+        if (filter.getCursor() != null) {
+            specifications.add(afterCursor(filter));
+        }
+
+        Sort sort = Sort.by(filter.getDirection(), filter.getSortBy().getProperty(), "id");
+        List<Product> products = productRepository.findBy(Specification.allOf(specifications),
+                query -> query.sortBy(sort).limit(filter.getSize() + 1).all());
+
+        boolean hasNext = products.size() > filter.getSize();
+        List<Product> content = hasNext ? products.subList(0, filter.getSize()) : products;
+        return ProductWindowDTO.builder()
+                .content(content.stream().map(ProductMapper::toDTO).toList())
+                .nextCursor(hasNext ? encodeCursor(filter.getSortBy(), content.get(content.size() - 1)) : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    @Override
+    public Page<ProductDTO> searchProducts(String query, Pageable pageable) {
+        log.debug("Searching products with query '{}' and pageable: {}", query, pageable);
+        return productSearchIndex.search(query, pageable);
+    }
+
+    @Override
+    public long getProductVersion(Long id) {
+        return productVersionCache.getVersion(id);
+    }
+
+    @Override
+    public long getCatalogVersion() {
+        return productVersionCache.getCatalogVersion();
+    }
+
+    /**
+     * Encodes the position of a Product in the sort order as an opaque cursor.
+     *
+     * @param sortBy  the sort attribute
+     * @param product the last Product of the page
+     * @return the cursor pointing after the Product
+     */
+    private String encodeCursor(ProductSortField sortBy, Product product) {
+        Object value = sortBy == ProductSortField.PRICE ? product.getPrice() : product.getStockQuantity();
+        String position = value + ":" + product.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes the cursor of a filter into the keyset predicate selecting the Products after it.
+     *
+     * @param filter the filter carrying the cursor
+     * @return the keyset predicate
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    private Specification<Product> afterCursor(ProductFilterDTO filter) {
+        try {
+            String position = new String(Base64.getUrlDecoder().decode(filter.getCursor()), StandardCharsets.UTF_8);
+            int separator = position.lastIndexOf(':');
+            String value = position.substring(0, separator);
+            Long id = Long.valueOf(position.substring(separator + 1));
+            return filter.getSortBy() == ProductSortField.PRICE
+                    ? ProductSpecifications.after(filter.getSortBy(), filter.getDirection(), new BigDecimal(value), id)
+                    : ProductSpecifications.after(filter.getSortBy(), filter.getDirection(), Integer.valueOf(value), id);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + filter.getCursor());
+        }
+    }
+
+    /**
+     * Maps a saved Product to a DTO and publishes a {@link ProductsChangedEvent} for it.
+     *
+     * @param product the saved Product
+     * @return the Product as a {@link ProductDTO}
+     */
+    private ProductDTO publishChanged(Product product) {
+        return publishChanged(List.of(product)).get(0);
+    }
+
     /**
-     * Checks if a Product with the specified name already exists in the repository
+     * Maps saved Products to DTOs and publishes a {@link ProductsChangedEvent} for them.
+     *
+     * @param products the saved Products
+     * @return the Products as {@link ProductDTO}
+     */
+    private List<ProductDTO> publishChanged(List<Product> products) {
+        List<ProductDTO> dtos = products.stream()
+                .map(ProductMapper::toDTO)
+                .toList();
+        eventPublisher.publishEvent(new ProductsChangedEvent(dtos));
+        return dtos;
+    }
+
+    /**
+     * Checks if a Product with the specified name already exists in the repository.
+     * The query is skipped when the {@link ProductNameFilter} rules the name out
      *
      * @param name the name of the Product to check for uniqueness
      * @throws IllegalArgumentException if a Product with the given name already exists
      */
     private void checkProductNameUniqueness(String name) {
-        if (productRepository.existsByName(name)) {
+        if (productNameFilter.mightContain(name) && productRepository.existsByName(name)) {
             throw new IllegalArgumentException("Product with name " + name + " already exists");
         }
     }
 
     /**
      * Validates that a list of Product names contains no duplicates and that no products
-     * with these names already exist in the repository
+     * with these names already exist in the repository. Only the names the {@link ProductNameFilter}
+     * cannot rule out are queried
      *
      * @param names a list of Product names to validate
      * @throws IllegalArgumentException if the input list contains duplicate names or if any
@@ -171,7 +338,13 @@ public class ProductServiceImpl implements ProductService {
         if (uniqueNames.size() != names.size()) {
             throw new IllegalArgumentException("Duplicate Product names found");
         }
-        List<Product> existingProducts = productRepository.findByNameIn(names);
+        List<String> probableNames = names.stream()
+                .filter(productNameFilter::mightContain)
+                .toList();
+        if (probableNames.isEmpty()) {
+            return;
+        }
+        List<Product> existingProducts = productRepository.findByNameIn(probableNames);
         if (!existingProducts.isEmpty()) {
             String existingNames = existingProducts.stream()
                     .map(Product::getName)
@@ -191,6 +364,8 @@ public class ProductServiceImpl implements ProductService {
     private void updateProductFields(Product product, UpdateProductDTO dto) {
         if (dto.getName() != null && !dto.getName().equals(product.getName())) {
             checkProductNameUniqueness(dto.getName());
+            productNameFilter.add(dto.getName());
+            productNameFilter.releaseAfterCommit(List.of(product.getName()));
             product.setName(dto.getName());
         }
         if (dto.getPrice() != null) {
@@ -0,0 +1,288 @@
+package com.vserdiuk.casestudy.stream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vserdiuk.casestudy.dto.ProductDTO;
+import com.vserdiuk.casestudy.event.ProductsChangedEvent;
+import com.vserdiuk.casestudy.event.ProductsDeletedEvent;
+import com.vserdiuk.casestudy.exception.ServiceOverloadedException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Fans out Product stock and price changes to Server-Sent Event subscribers.
+ * <p>
+ * Changes are collected from {@link ProductsChangedEvent} and {@link ProductsDeletedEvent} once the
+ * publishing transaction commits and coalesced per Product, so only the latest state of each Product
+ * within a coalescing window is sent. Every window, pending changes are serialized once and the same
+ * payload is written to all subscribers: a {@code products} event with the changed Products and a
+ * {@code deleted} event with the IDs of deleted Products.
+ * </p>
+ * <p>
+ * The flushing thread never writes to a subscriber itself. It appends the payload to a bounded buffer per
+ * subscriber, and a small pool of sender threads drains each buffer, so a slow client only delays its own
+ * events. A subscriber whose buffer is full has fallen more than {@code subscriber-buffer} windows behind
+ * and is disconnected; it can resubscribe and reload the Products it shows.
+ * </p>
+ */
+@Component
+@Slf4j
+public class ProductChangeBroadcaster {
+
+    private final ObjectMapper objectMapper;
+    private final long coalesceWindowMs;
+    private final long subscriptionTimeoutMs;
+    private final int maxSubscribers;
+    private final int subscriberBuffer;
+    private final int senderThreads;
+    private final Map<SseEmitter, Subscriber> subscribers = new ConcurrentHashMap<>();
+    private final Map<Long, ProductDTO> pendingChanges = new ConcurrentHashMap<>();
+    private final Set<Long> pendingDeletions = ConcurrentHashMap.newKeySet();
+
+    private ScheduledExecutorService flusher;
+    private ExecutorService sender;
+
+    public ProductChangeBroadcaster(ObjectMapper objectMapper,
+                                    @Value("${product.stream.coalesce-window-ms:250}") long coalesceWindowMs,
+                                    @Value("${product.stream.subscription-timeout-ms:1800000}") long subscriptionTimeoutMs,
+                                    @Value("${product.stream.max-subscribers:10000}") int maxSubscribers,
+                                    @Value("${product.stream.subscriber-buffer:32}") int subscriberBuffer,
+                                    @Value("${product.stream.sender-threads:4}") int senderThreads) {
+        this.objectMapper = objectMapper;
+        this.coalesceWindowMs = coalesceWindowMs;
+        this.subscriptionTimeoutMs = subscriptionTimeoutMs;
+        this.maxSubscribers = maxSubscribers;
+        this.subscriberBuffer = subscriberBuffer;
+        this.senderThreads = senderThreads;
+    }
+
+    /**
+     * Starts the single thread that flushes coalesced changes and the threads that send them to subscribers.
+     */
+    @PostConstruct
+    public void start() {
+        flusher = Executors.newSingleThreadScheduledExecutor(daemonThreads("product-change-broadcaster"));
+        sender = Executors.newFixedThreadPool(senderThreads, daemonThreads("product-change-sender"));
+        flusher.scheduleWithFixedDelay(this::flush, coalesceWindowMs, coalesceWindowMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops flushing and sending and completes all open subscriptions.
+     */
+    @PreDestroy
+    public void stop() {
+        flusher.shutdownNow();
+        sender.shutdownNow();
+        subscribers.keySet().forEach(SseEmitter::complete);
+        subscribers.clear();
+    }
+
+    /**
+     * Opens a new subscription.
+     * <p>
+     * Throws {@link ServiceOverloadedException} if the maximum number of subscribers is reached.
+     * </p>
+     *
+     * @return the emitter streaming changes to the subscriber
+     */
+    public SseEmitter subscribe() {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new ServiceOverloadedException("Too many Product change subscribers", 30);
+        }
+        SseEmitter emitter = new SseEmitter(subscriptionTimeoutMs);
+        register(emitter);
+        return emitter;
+    }
+
+    /**
+     * Adds an emitter to the subscribers and removes it again once it completes, times out or fails.
+     *
+     * @param emitter the emitter to register
+     */
+    void register(SseEmitter emitter) {
+        emitter.onCompletion(() -> subscribers.remove(emitter));
+        emitter.onTimeout(() -> subscribers.remove(emitter));
+        emitter.onError(error -> subscribers.remove(emitter));
+        subscribers.put(emitter, new Subscriber(emitter, new ArrayBlockingQueue<>(subscriberBuffer)));
+    }
+
+    /**
+     * Records changed Products once the changing transaction has committed.
+     *
+     * @param event the event describing the changed Products
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductsChanged(ProductsChangedEvent event) {
+        event.products().forEach(product -> {
+            pendingDeletions.remove(product.getId());
+            pendingChanges.put(product.getId(), product);
+        });
+    }
+
+    /**
+     * Records deleted Products once the deleting transaction has committed.
+     *
+     * @param event the event describing the deleted Products
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductsDeleted(ProductsDeletedEvent event) {
+        event.productIds().forEach(id -> {
+            pendingChanges.remove(id);
+            pendingDeletions.add(id);
+        });
+    }
+
+    /**
+     * Queues the changes collected during the last window for all subscribers, disconnecting those
+     * whose buffer is full.
+     */
+    void flush() {
+        List<ProductDTO> changes = drain(pendingChanges);
+        List<Long> deletions = drain(pendingDeletions);
+        if (subscribers.isEmpty() || (changes.isEmpty() && deletions.isEmpty())) {
+            return;
+        }
+        try {
+            Frame frame = new Frame(
+                    changes.isEmpty() ? null : objectMapper.writeValueAsString(changes),
+                    deletions.isEmpty() ? null : objectMapper.writeValueAsString(deletions));
+            subscribers.values().forEach(subscriber -> enqueue(subscriber, frame));
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize Product changes", e);
+        }
+    }
+
+    /**
+     * Returns the number of open subscriptions.
+     *
+     * @return the number of subscribers
+     */
+    int subscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * Appends a frame to the buffer of a subscriber and schedules the buffer to be drained, unless a sender
+     * is already draining it.
+     */
+    private void enqueue(Subscriber subscriber, Frame frame) {
+        if (!subscriber.buffer().offer(frame)) {
+            log.warn("Disconnecting a Product change subscriber that fell {} windows behind", subscriberBuffer);
+            disconnect(subscriber, new IOException("Subscriber fell behind"));
+            return;
+        }
+        if (subscriber.draining().compareAndSet(false, true)) {
+            try {
+                sender.execute(() -> sendBuffered(subscriber));
+            } catch (RejectedExecutionException e) {
+                subscriber.draining().set(false);
+            }
+        }
+    }
+
+    /**
+     * Sends the buffered frames of a subscriber. Frames queued after the buffer appeared empty and before
+     * the subscriber was released are picked up by draining again.
+     */
+    private void sendBuffered(Subscriber subscriber) {
+        do {
+            Frame frame;
+            while ((frame = subscriber.buffer().poll()) != null) {
+                if (!send(subscriber, frame)) {
+                    return;
+                }
+            }
+            subscriber.draining().set(false);
+        } while (!subscriber.buffer().isEmpty() && subscriber.draining().compareAndSet(false, true));
+    }
+
+    private boolean send(Subscriber subscriber, Frame frame) {
+        SseEmitter emitter = subscriber.emitter();
+        try {
+            if (frame.changesPayload() != null) {
+                emitter.send(SseEmitter.event().name("products").data(frame.changesPayload(), MediaType.APPLICATION_JSON));
+            }
+            if (frame.deletionsPayload() != null) {
+                emitter.send(SseEmitter.event().name("deleted").data(frame.deletionsPayload(), MediaType.APPLICATION_JSON));
+            }
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            disconnect(subscriber, e);
+            return false;
+        }
+    }
+
+    private void disconnect(Subscriber subscriber, Exception cause) {
+        if (subscribers.remove(subscriber.emitter(), subscriber)) {
+            subscriber.buffer().clear();
+            subscriber.emitter().completeWithError(cause);
+        }
+    }
+
+    private static ThreadFactory daemonThreads(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static List<ProductDTO> drain(Map<Long, ProductDTO> pending) {
+        List<ProductDTO> drained = new ArrayList<>();
+        for (Long id : pending.keySet()) {
+            ProductDTO product = pending.remove(id);
+            if (product != null) {
+                drained.add(product);
+            }
+        }
+        return drained;
+    }
+
+    private static List<Long> drain(Set<Long> pending) {
+        List<Long> drained = new ArrayList<>();
+        for (Long id : pending) {
+            if (pending.remove(id)) {
+                drained.add(id);
+            }
+        }
+        return drained;
+    }
+
+    /**
+     * The events of one window, serialized once and shared by all subscribers.
+     */
+    private record Frame(String changesPayload, String deletionsPayload) {
+    }
+
+    /**
+     * An open subscription with its buffer of unsent frames.
+     */
+    private record Subscriber(SseEmitter emitter, BlockingQueue<Frame> buffer, AtomicBoolean draining) {
+
+        Subscriber(SseEmitter emitter, BlockingQueue<Frame> buffer) {
+            this(emitter, buffer, new AtomicBoolean());
+        }
+    }
+}
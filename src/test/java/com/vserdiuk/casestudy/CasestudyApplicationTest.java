@@ -0,0 +1,36 @@
+package com.vserdiuk.casestudy;
+
+import com.vserdiuk.casestudy.messaging.OrderExpirationConsumer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Context test for the {@code fast} startup profile, verifying that the application starts without
+ * a Kafka broker, with development tooling disabled and the messaging components still eager.
+ */
+@SpringBootTest(properties = "spring.kafka.listener.auto-startup=false")
+@ActiveProfiles("fast")
+class CasestudyApplicationTest {
+
+    @Autowired
+    private ConfigurableApplicationContext context;
+
+    /**
+     * Tests that the fast profile starts lazily without springdoc, the H2 console and the query statistics headers.
+     */
+    @Test
+    void shouldStartWithFastProfile() {
+        // Assert
+        assertThat(context.containsBean("openApiResource")).isFalse();
+        assertThat(context.containsBean("h2Console")).isFalse();
+        assertThat(context.containsBean("queryStatsResponseAdvice")).isFalse();
+        assertThat(context.getBeanFactory().getBeanDefinition("productServiceImpl").isLazyInit()).isTrue();
+        assertThat(context.getBeanFactory().containsSingleton("orderExpirationConsumer")).isTrue();
+        assertThat(context.getBeanFactory().containsSingleton("productServiceImpl")).isFalse();
+    }
+}
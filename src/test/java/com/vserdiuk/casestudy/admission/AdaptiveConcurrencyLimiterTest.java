@@ -0,0 +1,86 @@
+package com.vserdiuk.casestudy.admission;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link AdaptiveConcurrencyLimiter}, verifying admission, rejection and the AIMD limit adjustments.
+ */
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(1000);
+
+    /**
+     * Tests that requests beyond the current limit are rejected and counted.
+     */
+    @Test
+    void shouldRejectRequestsBeyondLimit() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("orders", 2, 1, 10, 500);
+
+        // Act & Assert
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+        assertThat(limiter.getInFlight()).isEqualTo(2);
+        assertThat(limiter.getRejected()).isEqualTo(1);
+    }
+
+    /**
+     * Tests that the limit grows additively while requests complete fast under load.
+     */
+    @Test
+    void shouldIncreaseLimitWhenFastAndUtilized() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("orders", 2, 1, 10, 500);
+
+        // Act
+        for (int i = 0; i < 10; i++) {
+            limiter.tryAcquire();
+            limiter.tryAcquire();
+            limiter.release(FAST, false);
+            limiter.release(FAST, false);
+        }
+
+        // Assert
+        assertThat(limiter.getLimit()).isGreaterThan(2);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    /**
+     * Tests that the limit shrinks multiplicatively on slow or failed requests, but never below the minimum.
+     */
+    @Test
+    void shouldDecreaseLimitOnSlowOrFailedRequests() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("orders", 10, 2, 10, 500);
+
+        // Act
+        limiter.tryAcquire();
+        limiter.release(SLOW, false);
+        int afterSlow = limiter.getLimit();
+        for (int i = 0; i < 50; i++) {
+            limiter.tryAcquire();
+            limiter.release(FAST, true);
+        }
+
+        // Assert
+        assertThat(afterSlow).isEqualTo(9);
+        assertThat(limiter.getLimit()).isEqualTo(2);
+    }
+
+    /**
+     * Tests that inconsistent limits are rejected on construction.
+     */
+    @Test
+    void shouldRejectInvalidLimits() {
+        assertThatThrownBy(() -> new AdaptiveConcurrencyLimiter("orders", 20, 1, 10, 500))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Invalid limits for limiter orders");
+    }
+}
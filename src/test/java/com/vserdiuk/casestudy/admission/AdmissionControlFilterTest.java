@@ -0,0 +1,59 @@
+package com.vserdiuk.casestudy.admission;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link AdmissionControlFilter}, verifying endpoint grouping and load shedding.
+ */
+class AdmissionControlFilterTest {
+
+    private final AdaptiveConcurrencyLimiter ordersLimiter = new AdaptiveConcurrencyLimiter("orders", 1, 1, 10, 500);
+    private final AdaptiveConcurrencyLimiter catalogReadsLimiter = new AdaptiveConcurrencyLimiter("catalog-reads", 10, 1, 100, 500);
+    private final AdaptiveConcurrencyLimiter catalogWritesLimiter = new AdaptiveConcurrencyLimiter("catalog-writes", 1, 1, 10, 500);
+
+    private final AdmissionControlFilter filter =
+            new AdmissionControlFilter(ordersLimiter, catalogReadsLimiter, catalogWritesLimiter);
+
+    /**
+     * Tests that requests are assigned to the limiter of their endpoint group.
+     */
+    @Test
+    void shouldResolveLimiterByEndpointGroup() {
+        assertThat(filter.resolveLimiter(new MockHttpServletRequest("POST", "/api/orders"))).isSameAs(ordersLimiter);
+        assertThat(filter.resolveLimiter(new MockHttpServletRequest("GET", "/api/products/1"))).isSameAs(catalogReadsLimiter);
+        assertThat(filter.resolveLimiter(new MockHttpServletRequest("PUT", "/api/products"))).isSameAs(catalogWritesLimiter);
+        assertThat(filter.resolveLimiter(new MockHttpServletRequest("GET", "/actuator/health"))).isNull();
+    }
+
+    /**
+     * Tests that an Order request is shed with 503 and Retry-After while the orders group is saturated,
+     * and that catalog reads are still admitted.
+     */
+    @Test
+    void shouldShedOrderRequestsWhileCatalogReadsFlow() throws Exception {
+        // Arrange
+        ordersLimiter.tryAcquire();
+
+        // Act
+        MockHttpServletResponse orderResponse = new MockHttpServletResponse();
+        MockFilterChain orderChain = new MockFilterChain();
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/orders"), orderResponse, orderChain);
+
+        MockHttpServletResponse readResponse = new MockHttpServletResponse();
+        MockFilterChain readChain = new MockFilterChain();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/products/1"), readResponse, readChain);
+
+        // Assert
+        assertThat(orderResponse.getStatus()).isEqualTo(503);
+        assertThat(orderResponse.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(orderChain.getRequest()).isNull();
+        assertThat(readResponse.getStatus()).isEqualTo(200);
+        assertThat(readChain.getRequest()).isNotNull();
+        assertThat(catalogReadsLimiter.getInFlight()).isZero();
+    }
+}
@@ -0,0 +1,144 @@
+package com.vserdiuk.casestudy.analytics;
+
+import com.vserdiuk.casestudy.dto.DailyOrderStatsDTO;
+import com.vserdiuk.casestudy.dto.OrderProductDTO;
+import com.vserdiuk.casestudy.dto.ProductSalesDTO;
+import com.vserdiuk.casestudy.entity.OrderStatus;
+import com.vserdiuk.casestudy.event.OrderStatusChangedEvent;
+import com.vserdiuk.casestudy.money.Money;
+import com.vserdiuk.casestudy.repository.ArchivedOrderRepository;
+import com.vserdiuk.casestudy.repository.OrderRepository;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link OrderAnalytics}, verifying the initial load and the incremental maintenance
+ * of the per-Product and per-day aggregates.
+ */
+class OrderAnalyticsTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 6, 1);
+
+    private final OrderRepository orderRepository = mock(OrderRepository.class);
+    private final ArchivedOrderRepository archivedOrderRepository = mock(ArchivedOrderRepository.class);
+    private final OrderAnalytics analytics = new OrderAnalytics(orderRepository, archivedOrderRepository);
+
+    /**
+     * Tests that Order transitions move units and value between statuses on top of the totals loaded
+     * from live and archived Orders.
+     */
+    @Test
+    void shouldApplyTransitionsOnTopOfLoadedTotals() {
+        // Arrange
+        when(orderRepository.summarizeByProductAndStatus()).thenReturn(List.of(productUnits(1L, OrderStatus.PAID, 2)));
+        when(archivedOrderRepository.summarizeByProductAndStatus()).thenReturn(List.of(productUnits(1L, OrderStatus.PAID, 3)));
+        when(orderRepository.summarizeByDayAndStatus()).thenReturn(List.of(dailyTotals(DAY, OrderStatus.PAID, 1, "50")));
+        analytics.start();
+
+        // Act
+        analytics.onOrderStatusChanged(event(null, OrderStatus.CREATED, 3));
+        analytics.onOrderStatusChanged(event(null, OrderStatus.CREATED, 2));
+        analytics.onOrderStatusChanged(event(OrderStatus.CREATED, OrderStatus.PAID, 3));
+        analytics.onOrderStatusChanged(event(OrderStatus.CREATED, OrderStatus.EXPIRED, 2));
+
+        // Assert
+        assertThat(analytics.getProductSales()).singleElement().satisfies(sales -> {
+            assertThat(sales.getUnitsReserved()).isZero();
+            assertThat(sales.getUnitsSold()).isEqualTo(8);
+            assertThat(sales.getUnitsReleased()).isEqualTo(2);
+        });
+        assertThat(analytics.getDailyStats(DAY, DAY))
+                .extracting(DailyOrderStatsDTO::getStatus, DailyOrderStatsDTO::getOrderCount)
+                .containsExactly(
+                        tuple(OrderStatus.PAID, 2L),
+                        tuple(OrderStatus.EXPIRED, 1L));
+        assertThat(analytics.getDailyStats(DAY, DAY).get(0).getRevenue()).isEqualByComparingTo("80");
+    }
+
+    /**
+     * Tests that daily totals are limited to the requested days and statuses without Orders are left out.
+     */
+    @Test
+    void shouldReturnDailyStatsWithinRange() {
+        // Arrange
+        when(orderRepository.summarizeByDayAndStatus()).thenReturn(List.of(
+                dailyTotals(DAY.minusDays(1), OrderStatus.CREATED, 4, "40"),
+                dailyTotals(DAY, OrderStatus.CANCELLED, 2, "20"),
+                dailyTotals(DAY.plusDays(1), OrderStatus.PAID, 1, "10")));
+        analytics.start();
+
+        // Act
+        analytics.onOrderStatusChanged(new OrderStatusChangedEvent(2L, DAY.minusDays(1), null, OrderStatus.PAID,
+                Money.ofMinor(100), List.of()));
+        analytics.onOrderStatusChanged(new OrderStatusChangedEvent(2L, DAY.minusDays(1), OrderStatus.PAID,
+                OrderStatus.CANCELLED, Money.ofMinor(100), List.of()));
+        List<DailyOrderStatsDTO> stats = analytics.getDailyStats(DAY.minusDays(1), DAY);
+
+        // Assert
+        assertThat(stats).extracting(DailyOrderStatsDTO::getDate, DailyOrderStatsDTO::getStatus)
+                .containsExactly(
+                        tuple(DAY.minusDays(1), OrderStatus.CREATED),
+                        tuple(DAY.minusDays(1), OrderStatus.CANCELLED),
+                        tuple(DAY, OrderStatus.CANCELLED));
+        assertThat(analytics.getProductSales()).extracting(ProductSalesDTO::getProductId).isEmpty();
+    }
+
+    private static OrderStatusChangedEvent event(OrderStatus previousStatus, OrderStatus status, int quantity) {
+        OrderProductDTO item = new OrderProductDTO();
+        item.setProductId(1L);
+        item.setQuantity(quantity);
+        return new OrderStatusChangedEvent(1L, DAY, previousStatus, status,
+                Money.ofMinor(1000).times(quantity), List.of(item));
+    }
+
+    private static OrderRepository.ProductUnits productUnits(Long productId, OrderStatus status, long units) {
+        return new OrderRepository.ProductUnits() {
+            @Override
+            public Long getProductId() {
+                return productId;
+            }
+
+            @Override
+            public OrderStatus getStatus() {
+                return status;
+            }
+
+            @Override
+            public Long getUnits() {
+                return units;
+            }
+        };
+    }
+
+    private static OrderRepository.DailyTotals dailyTotals(LocalDate day, OrderStatus status, long orders, String revenue) {
+        return new OrderRepository.DailyTotals() {
+            @Override
+            public LocalDate getDay() {
+                return day;
+            }
+
+            @Override
+            public OrderStatus getStatus() {
+                return status;
+            }
+
+            @Override
+            public Long getOrderCount() {
+                return orders;
+            }
+
+            @Override
+            public BigDecimal getRevenue() {
+                return new BigDecimal(revenue);
+            }
+        };
+    }
+}
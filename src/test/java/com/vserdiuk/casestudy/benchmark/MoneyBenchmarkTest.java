@@ -0,0 +1,151 @@
+package com.vserdiuk.casestudy.benchmark;
+
+import com.vserdiuk.casestudy.money.Money;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmark comparing {@link Money} with {@link BigDecimal} on the pricing hot path.
+ * <p>
+ * Two workloads are measured after a warm-up: computing the totals of carts of {@value #CART_LINES} lines,
+ * as order creation and quotes do, and sorting {@value #SORTED_PRICES} prices. Cart totals with {@link Money} are
+ * measured twice: on prices already held as {@link Money}, and with the conversions order creation performs, which
+ * reads each price from a {@link BigDecimal} and writes each line total and the order total back as one. Time and the bytes allocated
+ * by the measuring thread are logged for both representations, since absolute numbers depend on the machine
+ * and JVM running the build. The results of both representations are asserted to be equal.
+ * </p>
+ */
+@Slf4j
+@Tag("benchmark")
+class MoneyBenchmarkTest {
+
+    private static final int CART_LINES = 200;
+    private static final int CARTS = 20_000;
+    private static final int SORTED_PRICES = 1_000_000;
+    private static final int ROUNDS = 5;
+
+    /**
+     * Measures the cost of computing cart totals from unit prices and quantities, with and without
+     * the {@link BigDecimal} conversions of the order creation path.
+     */
+    @Test
+    void cartTotals() {
+        // Arrange
+        Random random = new Random(42);
+        BigDecimal[] decimalPrices = new BigDecimal[CART_LINES];
+        Money[] moneyPrices = new Money[CART_LINES];
+        int[] quantities = new int[CART_LINES];
+        for (int i = 0; i < CART_LINES; i++) {
+            decimalPrices[i] = BigDecimal.valueOf(random.nextInt(1_000_000), 2);
+            moneyPrices[i] = Money.of(decimalPrices[i]);
+            quantities[i] = 1 + random.nextInt(10);
+        }
+        Supplier<BigDecimal> decimalTotals = () -> {
+            BigDecimal sum = BigDecimal.ZERO;
+            for (int cart = 0; cart < CARTS; cart++) {
+                BigDecimal total = BigDecimal.ZERO;
+                for (int i = 0; i < CART_LINES; i++) {
+                    total = total.add(decimalPrices[i].multiply(BigDecimal.valueOf(quantities[i])));
+                }
+                sum = sum.add(total);
+            }
+            return sum;
+        };
+        Supplier<BigDecimal> moneyTotals = () -> {
+            Money sum = Money.ZERO;
+            for (int cart = 0; cart < CARTS; cart++) {
+                Money total = Money.ZERO;
+                for (int i = 0; i < CART_LINES; i++) {
+                    total = total.plus(moneyPrices[i].times(quantities[i]));
+                }
+                sum = sum.plus(total);
+            }
+            return sum.toBigDecimal();
+        };
+        Supplier<BigDecimal> convertingMoneyTotals = () -> {
+            BigDecimal sum = BigDecimal.ZERO;
+            BigDecimal[] lineTotals = new BigDecimal[CART_LINES];
+            for (int cart = 0; cart < CARTS; cart++) {
+                Money total = Money.ZERO;
+                for (int i = 0; i < CART_LINES; i++) {
+                    Money lineTotal = Money.of(decimalPrices[i]).times(quantities[i]);
+                    total = total.plus(lineTotal);
+                    lineTotals[i] = lineTotal.toBigDecimal();
+                }
+                sum = sum.add(total.toBigDecimal());
+            }
+            return sum;
+        };
+
+        // Act
+        BigDecimal decimalResult = measure("cart totals with BigDecimal", decimalTotals);
+        BigDecimal moneyResult = measure("cart totals with Money", moneyTotals);
+        BigDecimal convertingMoneyResult = measure("cart totals with Money, converting as order creation does",
+                convertingMoneyTotals);
+
+        // Assert
+        assertThat(moneyResult).isEqualByComparingTo(decimalResult);
+        assertThat(convertingMoneyResult).isEqualByComparingTo(decimalResult);
+    }
+
+    /**
+     * Measures the cost of sorting prices.
+     */
+    @Test
+    void sortPrices() {
+        // Arrange
+        Random random = new Random(42);
+        BigDecimal[] decimalPrices = new BigDecimal[SORTED_PRICES];
+        Money[] moneyPrices = new Money[SORTED_PRICES];
+        for (int i = 0; i < SORTED_PRICES; i++) {
+            decimalPrices[i] = BigDecimal.valueOf(random.nextInt(1_000_000), 2);
+            moneyPrices[i] = Money.of(decimalPrices[i]);
+        }
+
+        // Act
+        BigDecimal[] sortedDecimals = measure("sort with BigDecimal", () -> {
+            BigDecimal[] copy = decimalPrices.clone();
+            Arrays.sort(copy, Comparator.naturalOrder());
+            return copy;
+        });
+        Money[] sortedMoney = measure("sort with Money", () -> {
+            Money[] copy = moneyPrices.clone();
+            Arrays.sort(copy, Comparator.naturalOrder());
+            return copy;
+        });
+
+        // Assert
+        for (int i = 0; i < SORTED_PRICES; i += 1_000) {
+            assertThat(sortedMoney[i].toBigDecimal()).isEqualByComparingTo(sortedDecimals[i]);
+        }
+    }
+
+    /**
+     * Runs a workload once to warm up and then {@value #ROUNDS} times, logging the fastest round and
+     * the bytes allocated per round.
+     */
+    private static <T> T measure(String name, Supplier<T> workload) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        T result = workload.get();
+        long fastest = Long.MAX_VALUE;
+        long allocated = threads.getCurrentThreadAllocatedBytes();
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            result = workload.get();
+            fastest = Math.min(fastest, System.nanoTime() - start);
+        }
+        allocated = (threads.getCurrentThreadAllocatedBytes() - allocated) / ROUNDS;
+        log.info("{}: {} ms, {} KB allocated", name, fastest / 1_000_000, allocated / 1_024);
+        return result;
+    }
+}
@@ -0,0 +1,106 @@
+package com.vserdiuk.casestudy.benchmark;
+
+import com.vserdiuk.casestudy.dto.ProductDTO;
+import com.vserdiuk.casestudy.event.ProductsChangedEvent;
+import com.vserdiuk.casestudy.repository.ProductRepository;
+import com.vserdiuk.casestudy.search.ProductSearchIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Benchmark measuring query latency of the {@link ProductSearchIndex} over a large synthetic catalog.
+ * <p>
+ * Product names combine one of a few thousand generated brand names, a category from a small fixed
+ * vocabulary and a model number, so category postings are long while brand postings are selective.
+ * Prefix, multi-token and misspelled queries are measured after a warm-up; p50 and p99 latencies are
+ * logged, since absolute timings depend on the machine running the build. The warm-up is long enough for
+ * the JIT compiler to finish; on a single CPU, compilation still running in the background shows up as p99.
+ * </p>
+ */
+@Slf4j
+@Tag("benchmark")
+class ProductSearchBenchmarkTest {
+
+    private static final int PRODUCT_COUNT = 1_000_000;
+    private static final int WARMUP_QUERIES = 40_000;
+    private static final int MEASURED_QUERIES = 5_000;
+    private static final int BRAND_COUNT = 5_000;
+    private static final String[] CATEGORIES = {
+            "keyboard", "mouse", "monitor", "cable", "adapter", "charger", "speaker", "headphones",
+            "laptop", "stand", "desk", "lamp", "chair", "webcam", "microphone", "router", "switch", "battery"
+    };
+    private static final String[] SYLLABLES = {"ka", "lo", "mi", "ne", "ru", "sa", "to", "vi", "ze", "qu", "dra", "fen"};
+    private static final List<String> QUERIES = List.of(
+            brand(17), brand(1234) + " mouse", brand(42).substring(0, 4), misspell(brand(4321)),
+            brand(999) + " monitr", "usb", brand(2500) + " 12", misspell(brand(77)) + " lamp");
+
+    /**
+     * Measures search latency for a catalog of {@value #PRODUCT_COUNT} Products.
+     */
+    @Test
+    void searchLatencyOverLargeCatalog() {
+        // Arrange
+        ProductSearchIndex index = new ProductSearchIndex(mock(ProductRepository.class));
+        Random random = new Random(42);
+        List<ProductDTO> batch = new ArrayList<>(1000);
+        for (long id = 1; id <= PRODUCT_COUNT; id++) {
+            batch.add(ProductDTO.builder()
+                    .id(id)
+                    .name(brand(random.nextInt(BRAND_COUNT)) + " " + CATEGORIES[random.nextInt(CATEGORIES.length)] + " " + id % 1000)
+                    .price(BigDecimal.TEN)
+                    .stockQuantity(1)
+                    .build());
+            if (batch.size() == 1000) {
+                index.onProductsChanged(new ProductsChangedEvent(List.copyOf(batch)));
+                batch.clear();
+            }
+        }
+        for (int i = 0; i < WARMUP_QUERIES; i++) {
+            index.search(QUERIES.get(i % QUERIES.size()), PageRequest.of(0, 20));
+        }
+
+        // Act
+        long[] latencies = new long[MEASURED_QUERIES];
+        for (int i = 0; i < MEASURED_QUERIES; i++) {
+            long start = System.nanoTime();
+            index.search(QUERIES.get(i % QUERIES.size()), PageRequest.of(0, 20));
+            latencies[i] = System.nanoTime() - start;
+        }
+
+        // Assert
+        assertThat(index.search(brand(999) + " monitr", PageRequest.of(0, 20)).getContent())
+                .isNotEmpty()
+                .allSatisfy(product -> assertThat(product.getName()).contains("monitor"));
+        Arrays.sort(latencies);
+        log.info("search over {} products: p50 {} us, p99 {} us", PRODUCT_COUNT,
+                latencies[MEASURED_QUERIES / 2] / 1_000, latencies[MEASURED_QUERIES * 99 / 100] / 1_000);
+    }
+
+    /**
+     * Generates a deterministic pseudo-word brand name for a brand index.
+     */
+    private static String brand(int index) {
+        StringBuilder brand = new StringBuilder();
+        int value = index + SYLLABLES.length;
+        while (value > 0) {
+            brand.append(SYLLABLES[value % SYLLABLES.length]);
+            value /= SYLLABLES.length;
+        }
+        return brand.toString();
+    }
+
+    private static String misspell(String word) {
+        return word.substring(0, word.length() - 2) + word.charAt(word.length() - 1) + word.charAt(word.length() - 2);
+    }
+}
@@ -0,0 +1,88 @@
+package com.vserdiuk.casestudy.benchmark;
+
+import com.vserdiuk.casestudy.dto.CreateProductDTO;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmark measuring the cost of validating a batch of Product creation requests once, as the controller
+ * does, against validating it a second time in the service, as was done before.
+ * <p>
+ * Every {@value #BATCH_SIZE} element batch is valid, so all constraints of every element are evaluated.
+ * The validator is warmed up before either variant is measured.
+ * Time and the bytes allocated by the measuring thread are logged, since absolute numbers depend on the
+ * machine and JVM running the build.
+ * </p>
+ */
+@Slf4j
+@Tag("benchmark")
+class ProductValidationBenchmarkTest {
+
+    private static final int BATCH_SIZE = 10_000;
+    private static final int ROUNDS = 5;
+
+    /**
+     * Measures validating a batch once and twice.
+     */
+    @Test
+    void validateBatchOnceAndTwice() {
+        // Arrange
+        List<CreateProductDTO> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            CreateProductDTO dto = new CreateProductDTO();
+            dto.setName("Product " + i);
+            dto.setPrice(BigDecimal.valueOf(i, 2));
+            dto.setStockQuantity(i);
+            batch.add(dto);
+        }
+
+        try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
+            Validator validator = factory.getValidator();
+            IntSupplier validateOnce = () -> batch.stream().mapToInt(dto -> validator.validate(dto).size()).sum();
+            IntSupplier validateTwice = () -> validateOnce.getAsInt() + validateOnce.getAsInt();
+
+            for (int i = 0; i < ROUNDS; i++) {
+                validateTwice.getAsInt();
+            }
+
+            // Act
+            int onceViolations = measure("validate batch once", validateOnce);
+            int twiceViolations = measure("validate batch twice", validateTwice);
+
+            // Assert
+            assertThat(onceViolations).isZero();
+            assertThat(twiceViolations).isZero();
+        }
+    }
+
+    /**
+     * Runs a workload once to warm up and then {@value #ROUNDS} times, logging the fastest round and
+     * the bytes allocated per round.
+     */
+    private static int measure(String name, IntSupplier workload) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        int result = workload.getAsInt();
+        long fastest = Long.MAX_VALUE;
+        long allocated = threads.getCurrentThreadAllocatedBytes();
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            result = workload.getAsInt();
+            fastest = Math.min(fastest, System.nanoTime() - start);
+        }
+        allocated = (threads.getCurrentThreadAllocatedBytes() - allocated) / ROUNDS;
+        log.info("{}: {} ms, {} KB allocated", name, fastest / 1_000_000, allocated / 1_024);
+        return result;
+    }
+}
@@ -0,0 +1,152 @@
+package com.vserdiuk.casestudy.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vserdiuk.casestudy.dto.OrderDTO;
+import com.vserdiuk.casestudy.dto.OrderLineDTO;
+import com.vserdiuk.casestudy.dto.ProductDTO;
+import com.vserdiuk.casestudy.entity.OrderStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmark comparing the JSON and CBOR encodings of {@link ProductDTO} and {@link OrderDTO} payloads.
+ * <p>
+ * Both mappers are taken from the message converters registered in the application context, so the
+ * benchmark covers the {@code spring.jackson.*} settings and modules the APIs actually encode with.
+ * Payload sizes are asserted; serialization and deserialization times are measured after a warm-up
+ * and logged, since absolute timings depend on the machine running the build.
+ * </p>
+ */
+@Slf4j
+@Tag("benchmark")
+@SpringBootTest(properties = {"spring.kafka.listener.auto-startup=false", "spring.main.lazy-initialization=false"})
+@ActiveProfiles("fast")
+class WireFormatBenchmarkTest {
+
+    private static final int WARMUP_ITERATIONS = 200;
+    private static final int MEASURED_ITERATIONS = 500;
+
+    @Autowired
+    private MappingJackson2HttpMessageConverter jsonConverter;
+
+    @Autowired
+    private MappingJackson2CborHttpMessageConverter cborConverter;
+
+    private ObjectMapper jsonMapper;
+    private ObjectMapper cborMapper;
+
+    @BeforeEach
+    void setUp() {
+        jsonMapper = jsonConverter.getObjectMapper();
+        cborMapper = cborConverter.getObjectMapper();
+    }
+
+    /**
+     * Compares a catalog page of 1000 products in both encodings.
+     */
+    @Test
+    void cborCatalogPageShouldBeSmallerThanJson() throws Exception {
+        // Arrange
+        List<ProductDTO> products = IntStream.rangeClosed(1, 1000)
+                .mapToObj(WireFormatBenchmarkTest::product)
+                .toList();
+
+        // Act
+        byte[] json = jsonMapper.writeValueAsBytes(products);
+        byte[] cbor = cborMapper.writeValueAsBytes(products);
+        List<ProductDTO> decoded = cborMapper.readValue(cbor, new TypeReference<>() {
+        });
+
+        // Assert
+        assertThat(decoded).isEqualTo(products);
+        assertThat(cbor.length).isLessThan(json.length);
+        report("catalog page (1000 products)", products, json.length, cbor.length);
+    }
+
+    /**
+     * Compares an order with timestamps and 20 lines in both encodings.
+     */
+    @Test
+    void cborOrderShouldBeSmallerThanJson() throws Exception {
+        // Arrange
+        OrderDTO order = OrderDTO.builder()
+                .id(1L)
+                .status(OrderStatus.PAID)
+                .createdAt(LocalDateTime.of(2025, 5, 1, 10, 15, 30))
+                .paidAt(LocalDateTime.of(2025, 5, 1, 10, 20, 0))
+                .lines(IntStream.rangeClosed(1, 20).mapToObj(WireFormatBenchmarkTest::line).toList())
+                .build();
+
+        // Act
+        byte[] json = jsonMapper.writeValueAsBytes(order);
+        byte[] cbor = cborMapper.writeValueAsBytes(order);
+
+        // Assert
+        assertThat(cborMapper.readValue(cbor, OrderDTO.class)).isEqualTo(order);
+        assertThat(cbor.length).isLessThan(json.length);
+        report("order (20 lines)", order, json.length, cbor.length);
+    }
+
+    private void report(String payload, Object value, int jsonBytes, int cborBytes) throws Exception {
+        Class<?> type = value.getClass();
+        log.info("{}: JSON {} bytes, CBOR {} bytes ({}% of JSON)", payload, jsonBytes, cborBytes, cborBytes * 100 / jsonBytes);
+        log.info("{}: serialize JSON {} us/op, CBOR {} us/op", payload,
+                measure(() -> jsonMapper.writeValueAsBytes(value)),
+                measure(() -> cborMapper.writeValueAsBytes(value)));
+        byte[] json = jsonMapper.writeValueAsBytes(value);
+        byte[] cbor = cborMapper.writeValueAsBytes(value);
+        log.info("{}: deserialize JSON {} us/op, CBOR {} us/op", payload,
+                measure(() -> jsonMapper.readValue(json, type)),
+                measure(() -> cborMapper.readValue(cbor, type)));
+    }
+
+    private static long measure(Operation operation) throws Exception {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            operation.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            operation.run();
+        }
+        return (System.nanoTime() - start) / MEASURED_ITERATIONS / 1_000;
+    }
+
+    private static ProductDTO product(int id) {
+        return ProductDTO.builder()
+                .id((long) id)
+                .name("Product " + id)
+                .price(BigDecimal.valueOf(1999 + id, 2))
+                .stockQuantity(100 + id)
+                .build();
+    }
+
+    private static OrderLineDTO line(int id) {
+        return OrderLineDTO.builder()
+                .productId((long) id)
+                .name("Product " + id)
+                .quantity(id)
+                .unitPrice(BigDecimal.valueOf(1999 + id, 2))
+                .lineTotal(BigDecimal.valueOf(1999 + id, 2).multiply(BigDecimal.valueOf(id)))
+                .build();
+    }
+
+    @FunctionalInterface
+    private interface Operation {
+        Object run() throws Exception;
+    }
+}
@@ -0,0 +1,90 @@
+package com.vserdiuk.casestudy.cache;
+
+import com.vserdiuk.casestudy.dto.ProductDTO;
+import com.vserdiuk.casestudy.entity.Product;
+import com.vserdiuk.casestudy.event.ProductsChangedEvent;
+import com.vserdiuk.casestudy.event.ProductsDeletedEvent;
+import com.vserdiuk.casestudy.repository.ProductRepository;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link ProductCache}, verifying batched loading of misses, caching and invalidation of Products.
+ */
+class ProductCacheTest {
+
+    private final ProductRepository productRepository = mock(ProductRepository.class);
+    private final ProductCache cache = new ProductCache(productRepository, 100);
+
+    /**
+     * Tests that all misses are loaded with a single query and then served from memory,
+     * while missing Products have no entry.
+     */
+    @Test
+    void shouldLoadMissesTogetherAndServeHitsFromMemory() {
+        // Arrange
+        when(productRepository.findAllById(List.of(1L, 2L, 3L))).thenReturn(List.of(product(1L, 5), product(2L, 7)));
+        when(productRepository.findAllById(List.of(3L))).thenReturn(List.of());
+
+        // Act
+        cache.getProducts(List.of(1L, 2L, 3L));
+        var result = cache.getProducts(List.of(1L, 2L, 3L));
+
+        // Assert
+        assertThat(result).containsOnlyKeys(1L, 2L);
+        assertThat(result.get(2L).getStockQuantity()).isEqualTo(7);
+        verify(productRepository).findAllById(List.of(1L, 2L, 3L));
+        verify(productRepository).findAllById(List.of(3L));
+    }
+
+    /**
+     * Tests that changed and deleted Products are evicted and reloaded on the next read.
+     */
+    @Test
+    void shouldEvictChangedAndDeletedProducts() {
+        // Arrange
+        when(productRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(product(1L, 5), product(2L, 7)));
+        when(productRepository.findAllById(List.of(1L))).thenReturn(List.of(product(1L, 4)));
+        when(productRepository.findAllById(List.of(2L))).thenReturn(List.of());
+        cache.getProducts(List.of(1L, 2L));
+
+        // Act
+        cache.onProductsChanged(new ProductsChangedEvent(List.of(ProductDTO.builder().id(1L).build())));
+        var changed = cache.getProducts(List.of(1L));
+        cache.onProductsDeleted(new ProductsDeletedEvent(List.of(2L)));
+        var deleted = cache.getProducts(List.of(2L));
+
+        // Assert
+        assertThat(changed.get(1L).getStockQuantity()).isEqualTo(4);
+        assertThat(deleted).isEmpty();
+    }
+
+    /**
+     * Tests that Products loaded while an invalidation happened are returned but not cached.
+     */
+    @Test
+    void shouldNotCacheProductsLoadedDuringInvalidation() {
+        // Arrange
+        when(productRepository.findAllById(List.of(1L))).thenAnswer(invocation -> {
+            cache.onProductsChanged(new ProductsChangedEvent(List.of(ProductDTO.builder().id(1L).build())));
+            return List.of(product(1L, 5));
+        });
+
+        // Act
+        cache.getProducts(List.of(1L));
+        var result = cache.getProducts(List.of(1L));
+
+        // Assert
+        assertThat(result).containsOnlyKeys(1L);
+        verify(productRepository, times(2)).findAllById(List.of(1L));
+    }
+
+    private static Product product(Long id, int stockQuantity) {
+        return Product.builder().id(id).name("Product " + id).price(BigDecimal.TEN).stockQuantity(stockQuantity).build();
+    }
+}
@@ -0,0 +1,75 @@
+package com.vserdiuk.casestudy.cache;
+
+import com.vserdiuk.casestudy.repository.ProductRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link ProductNameFilter}, verifying that it never rules out an existing name,
+ * keeps its false-positive rate near the target and follows additions and releases.
+ */
+class ProductNameFilterTest {
+
+    private final ProductRepository productRepository = mock(ProductRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ProductNameFilter filter = new ProductNameFilter(productRepository, meterRegistry, 10_000, 0.01);
+
+    /**
+     * Tests that every name is reported as possibly taken until the filter has been loaded.
+     */
+    @Test
+    void shouldReportEveryNameAsPossiblyTakenBeforeLoad() {
+        // Act & Assert
+        assertThat(filter.mightContain("Any Product")).isTrue();
+    }
+
+    /**
+     * Tests that all loaded names are reported as possibly taken and that unknown names are
+     * mostly ruled out, with each ruled-out check counted as a skipped query.
+     */
+    @Test
+    void shouldContainLoadedNamesAndRuleOutMostUnknownNames() {
+        // Arrange
+        when(productRepository.streamAllNames())
+                .thenReturn(IntStream.range(0, 10_000).mapToObj(i -> "Product " + i));
+
+        // Act
+        filter.load();
+
+        // Assert
+        assertThat(IntStream.range(0, 10_000)).allMatch(i -> filter.mightContain("Product " + i));
+        long falsePositives = IntStream.range(0, 10_000).filter(i -> filter.mightContain("Imported " + i)).count();
+        assertThat(falsePositives).isLessThan(300);
+        assertThat(meterRegistry.get("product.name.filter.skipped.queries").functionCounter().count())
+                .isEqualTo(10_000 - falsePositives);
+    }
+
+    /**
+     * Tests that added names are reported as possibly taken and released names are ruled out again,
+     * while names sharing the filter are kept.
+     */
+    @Test
+    void shouldFollowAddedAndReleasedNames() {
+        // Arrange
+        when(productRepository.streamAllNames()).thenReturn(Stream.of("Kept Product"));
+        filter.load();
+
+        // Act
+        filter.add("Renamed Product");
+        boolean containedAfterAdd = filter.mightContain("Renamed Product");
+        filter.releaseAfterCommit(List.of("Renamed Product"));
+
+        // Assert
+        assertThat(containedAfterAdd).isTrue();
+        assertThat(filter.mightContain("Renamed Product")).isFalse();
+        assertThat(filter.mightContain("Kept Product")).isTrue();
+    }
+}
@@ -0,0 +1,60 @@
+package com.vserdiuk.casestudy.cache;
+
+import com.vserdiuk.casestudy.dto.ProductDTO;
+import com.vserdiuk.casestudy.event.ProductsChangedEvent;
+import com.vserdiuk.casestudy.event.ProductsDeletedEvent;
+import com.vserdiuk.casestudy.repository.ProductRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link ProductVersionCache}, verifying lazy loading, caching and invalidation of Product versions.
+ */
+class ProductVersionCacheTest {
+
+    private final ProductRepository productRepository = mock(ProductRepository.class);
+    private final ProductVersionCache cache = new ProductVersionCache(productRepository);
+
+    /**
+     * Tests that a version is loaded once and then served from memory.
+     */
+    @Test
+    void shouldLoadVersionOnceAndServeFromMemory() {
+        // Arrange
+        when(productRepository.findVersionById(1L)).thenReturn(Optional.of(3L));
+
+        // Act & Assert
+        assertThat(cache.getVersion(1L)).isEqualTo(3L);
+        assertThat(cache.getVersion(1L)).isEqualTo(3L);
+        verify(productRepository, times(1)).findVersionById(1L);
+    }
+
+    /**
+     * Tests that changes and deletions evict cached versions and advance the catalog version.
+     */
+    @Test
+    void shouldEvictVersionsAndAdvanceCatalogVersionOnChanges() {
+        // Arrange
+        when(productRepository.findVersionById(1L)).thenReturn(Optional.of(3L)).thenReturn(Optional.of(4L));
+        when(productRepository.findVersionById(2L)).thenReturn(Optional.of(1L)).thenReturn(Optional.empty());
+        cache.getVersion(1L);
+        cache.getVersion(2L);
+        long catalogVersion = cache.getCatalogVersion();
+
+        // Act
+        cache.onProductsChanged(new ProductsChangedEvent(List.of(ProductDTO.builder().id(1L).build())));
+        cache.onProductsDeleted(new ProductsDeletedEvent(List.of(2L)));
+
+        // Assert
+        assertThat(cache.getVersion(1L)).isEqualTo(4L);
+        assertThatThrownBy(() -> cache.getVersion(2L)).isInstanceOf(EntityNotFoundException.class);
+        assertThat(cache.getCatalogVersion()).isEqualTo(catalogVersion + 2);
+    }
+}
@@ -0,0 +1,48 @@
+package com.vserdiuk.casestudy.config;
+
+import com.vserdiuk.casestudy.dto.OrderLineDTO;
+import com.vserdiuk.casestudy.dto.ProductDTO;
+import com.vserdiuk.casestudy.entity.ArchivedOrderProduct;
+import com.vserdiuk.casestudy.entity.Order;
+import com.vserdiuk.casestudy.entity.Product;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link NativeHintsConfig}, verifying the reachability metadata registered for the native image.
+ */
+class NativeHintsConfigTest {
+
+    /**
+     * Tests that entities, builders, Kafka serializers and Liquibase changelogs are registered.
+     */
+    @Test
+    void shouldRegisterRuntimeHints() {
+        // Arrange
+        RuntimeHints hints = new RuntimeHints();
+
+        // Act
+        new NativeHintsConfig.ApplicationRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        // Assert
+        assertThat(RuntimeHintsPredicates.reflection().onType(Product.class)
+                .withMemberCategories(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.DECLARED_FIELDS))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(ArchivedOrderProduct.class)
+                .withMemberCategories(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.DECLARED_FIELDS))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(Order.OrderBuilder.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(OrderLineDTO.OrderLineDTOBuilder.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(ProductDTO.ProductDTOBuilder.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(StringSerializer.class)
+                .withMemberCategory(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.resource().forResource("db/changelog/db.changelog-master.yaml")).accepts(hints);
+        assertThat(RuntimeHintsPredicates.resource().forResource("db/changelog/changeset-001-create-products.yaml"))
+                .accepts(hints);
+    }
+}
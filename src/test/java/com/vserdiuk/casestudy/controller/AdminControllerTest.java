@@ -0,0 +1,85 @@
+package com.vserdiuk.casestudy.controller;
+
+import com.vserdiuk.casestudy.dto.ExpirationReplayDTO;
+import com.vserdiuk.casestudy.service.ExpirationRecoveryService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.restdocs.AutoConfigureRestDocs;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.restdocs.RestDocumentationExtension;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
+import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
+import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
+import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
+import static org.springframework.restdocs.request.RequestDocumentation.queryParameters;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Unit tests for {@link AdminController}.
+ * <p>
+ * Verifies the replay of failed and parked Order expirations and generates REST documentation for it.
+ * </p>
+ */
+@ExtendWith({RestDocumentationExtension.class, SpringExtension.class})
+@WebMvcTest(AdminController.class)
+@AutoConfigureRestDocs
+class AdminControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ExpirationRecoveryService expirationRecoveryService;
+
+    /**
+     * Tests the replay of Order expirations via POST /api/admin/order-expirations/replay.
+     *
+     * @throws Exception if the test execution fails
+     */
+    @Test
+    void replayOrderExpirations_shouldReturnCounts_andDocument() throws Exception {
+        // Arrange
+        when(expirationRecoveryService.replay(500)).thenReturn(ExpirationReplayDTO.builder()
+                .requeuedTasks(3)
+                .replayedMessages(12)
+                .build());
+
+        // Act & Assert
+        mockMvc.perform(post("/api/admin/order-expirations/replay").param("maxMessages", "500"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.requeuedTasks").value(3))
+                .andExpect(jsonPath("$.replayedMessages").value(12))
+                .andDo(document("admin/order-expirations-replay",
+                        queryParameters(
+                                parameterWithName("maxMessages").description("Maximum number of parked events to replay, 1000 by default").optional()
+                        ),
+                        responseFields(
+                                fieldWithPath("requeuedTasks").description("Number of failed expiration tasks returned to the pending state"),
+                                fieldWithPath("replayedMessages").description("Number of parked expiration events republished")
+                        )));
+    }
+
+    /**
+     * Tests that a non-positive replay limit is rejected with HTTP status 400 (Bad Request).
+     *
+     * @throws Exception if the test execution fails
+     */
+    @Test
+    void replayOrderExpirations_shouldRejectNonPositiveLimit() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/api/admin/order-expirations/replay").param("maxMessages", "0"))
+                .andExpect(status().isBadRequest());
+        verify(expirationRecoveryService, never()).replay(anyInt());
+    }
+}
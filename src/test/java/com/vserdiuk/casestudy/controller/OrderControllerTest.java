@@ -2,10 +2,23 @@ package com.vserdiuk.casestudy.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.vserdiuk.casestudy.dto.CreateOrderDTO;
+import com.vserdiuk.casestudy.dto.OrderCreationResultDTO;
 import com.vserdiuk.casestudy.dto.OrderDTO;
+import com.vserdiuk.casestudy.dto.OrderLineDTO;
+import com.vserdiuk.casestudy.dto.OrderLineRejectionDTO;
+import com.vserdiuk.casestudy.dto.OrderLineRejectionReason;
 import com.vserdiuk.casestudy.dto.OrderProductDTO;
+import com.vserdiuk.casestudy.dto.OrderQuoteDTO;
+import com.vserdiuk.casestudy.dto.OrderQuoteLineDTO;
+import com.vserdiuk.casestudy.dto.OrderRejectionDTO;
+import com.vserdiuk.casestudy.dto.OrderRequestDTO;
+import com.vserdiuk.casestudy.dto.OrderRequestStatus;
+import com.vserdiuk.casestudy.dto.OrderTransitionDTO;
+import com.vserdiuk.casestudy.dto.OrderTransitionOutcome;
+import com.vserdiuk.casestudy.dto.ProductDTO;
 import com.vserdiuk.casestudy.entity.OrderStatus;
-import com.vserdiuk.casestudy.exception.BusinessException;
+import com.vserdiuk.casestudy.service.OrderBulkService;
+import com.vserdiuk.casestudy.service.OrderIntakeService;
 import com.vserdiuk.casestudy.service.OrderService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -18,6 +31,7 @@ import org.springframework.restdocs.RestDocumentationExtension;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -25,12 +39,16 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
 import static org.springframework.restdocs.payload.PayloadDocumentation.*;
 import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
 import static org.springframework.restdocs.request.RequestDocumentation.pathParameters;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -56,6 +74,12 @@ class OrderControllerTest {
     @MockBean
     private OrderService orderService;
 
+    @MockBean
+    private OrderIntakeService orderIntakeService;
+
+    @MockBean
+    private OrderBulkService orderBulkService;
+
     /**
      * Tests the creation of a new order via the POST /api/orders endpoint.
      * <p>
@@ -80,10 +104,12 @@ class OrderControllerTest {
                 .status(OrderStatus.CREATED)
                 .createdAt(LocalDateTime.now())
                 .paidAt(null)
-                .products(List.of())
+                .totalAmount(new BigDecimal("21.00"))
+                .lines(List.of())
                 .build();
 
-        when(orderService.createOrder(any(CreateOrderDTO.class))).thenReturn(response);
+        when(orderService.createOrder(any(CreateOrderDTO.class)))
+                .thenReturn(OrderCreationResultDTO.builder().order(response).build());
 
         // Act & Assert
         mockMvc.perform(post("/api/orders")
@@ -94,7 +120,7 @@ class OrderControllerTest {
                 .andExpect(jsonPath("$.status").value(OrderStatus.CREATED.name()))
                 .andExpect(jsonPath("$.createdAt").isNotEmpty())
                 .andExpect(jsonPath("$.paidAt").doesNotExist())
-                .andExpect(jsonPath("$.products").isArray())
+                .andExpect(jsonPath("$.lines").isArray())
                 .andDo(document("orders/create",
                         requestFields(
                                 fieldWithPath("items").description("List of order items"),
@@ -106,7 +132,128 @@ class OrderControllerTest {
                                 fieldWithPath("status").description("Status of the order"),
                                 fieldWithPath("createdAt").description("Timestamp when the order was created"),
                                 fieldWithPath("paidAt").description("Timestamp when the order was paid, null if not paid").optional(),
-                                fieldWithPath("products").description("List of products in the order")
+                                fieldWithPath("totalAmount").description("Total value of the order at the prices of the time of purchase"),
+                                fieldWithPath("lines").description("Lines of the order")
+                        )
+                ));
+    }
+
+    /**
+     * Tests quoting an order via the POST /api/orders/quote endpoint.
+     * <p>
+     * Verifies that the endpoint returns a 200 OK status with the line totals, the order total and
+     * the availability of each line, and generates REST documentation for the operation.
+     * </p>
+     *
+     * @throws Exception if the test execution fails
+     */
+    @Test
+    void quoteOrder_shouldReturnQuote_andDocument() throws Exception {
+        // Arrange
+        var first = new OrderProductDTO();
+        first.setProductId(1L);
+        first.setQuantity(2);
+        var second = new OrderProductDTO();
+        second.setProductId(2L);
+        second.setQuantity(3);
+
+        var request = new CreateOrderDTO();
+        request.setItems(List.of(first, second));
+
+        var response = OrderQuoteDTO.builder()
+                .lines(List.of(
+                        OrderQuoteLineDTO.builder().productId(1L).quantity(2).unitPrice(new BigDecimal("10.50"))
+                                .lineTotal(new BigDecimal("21.00")).available(true).build(),
+                        OrderQuoteLineDTO.builder().productId(2L).quantity(3).unitPrice(new BigDecimal("4.00"))
+                                .lineTotal(new BigDecimal("12.00")).available(false)
+                                .message("Insufficient stock for product: Mouse").build()))
+                .totalAmount(new BigDecimal("33.00"))
+                .available(false)
+                .build();
+
+        when(orderService.quoteOrder(any(CreateOrderDTO.class))).thenReturn(response);
+
+        // Act & Assert
+        mockMvc.perform(post("/api/orders/quote")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalAmount").value(33.00))
+                .andExpect(jsonPath("$.available").value(false))
+                .andExpect(jsonPath("$.lines[1].message").value("Insufficient stock for product: Mouse"))
+                .andDo(document("orders/quote",
+                        requestFields(
+                                fieldWithPath("items").description("List of order items"),
+                                fieldWithPath("items[].productId").description("ID of the product"),
+                                fieldWithPath("items[].quantity").description("Quantity of the product")
+                        ),
+                        responseFields(
+                                fieldWithPath("lines").description("Quoted lines in the order of the requested items"),
+                                fieldWithPath("lines[].productId").description("ID of the product"),
+                                fieldWithPath("lines[].quantity").description("Requested quantity"),
+                                fieldWithPath("lines[].unitPrice").description("Current price of the product, null if it does not exist").optional(),
+                                fieldWithPath("lines[].lineTotal").description("Unit price multiplied by the quantity, null if the product does not exist").optional(),
+                                fieldWithPath("lines[].available").description("Whether the product exists and has enough stock"),
+                                fieldWithPath("lines[].message").description("Reason the line is not available, null otherwise").optional(),
+                                fieldWithPath("totalAmount").description("Sum of the line totals"),
+                                fieldWithPath("available").description("Whether every line is available")
+                        )
+                ));
+        verify(orderService, never()).createOrder(any());
+    }
+
+    /**
+     * Tests the retrieval of an order via the GET /api/orders/{id} endpoint.
+     * <p>
+     * Verifies that the endpoint returns a 200 OK status with the order details, and generates
+     * REST documentation for the operation.
+     * </p>
+     *
+     * @throws Exception if the test execution fails
+     */
+    @Test
+    void getOrder_shouldReturnOrder_andDocument() throws Exception {
+        // Arrange
+        var response = OrderDTO.builder()
+                .id(1L)
+                .status(OrderStatus.PAID)
+                .createdAt(LocalDateTime.of(2025, 1, 10, 9, 30))
+                .paidAt(LocalDateTime.of(2025, 1, 10, 9, 45))
+                .totalAmount(new BigDecimal("21.00"))
+                .lines(List.of(OrderLineDTO.builder()
+                        .productId(1L)
+                        .name("Keyboard")
+                        .quantity(2)
+                        .unitPrice(new BigDecimal("10.50"))
+                        .lineTotal(new BigDecimal("21.00"))
+                        .build()))
+                .build();
+
+        when(orderService.getOrder(1L)).thenReturn(response);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/orders/{id}", 1L))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(1L))
+                .andExpect(jsonPath("$.status").value(OrderStatus.PAID.name()))
+                .andExpect(jsonPath("$.totalAmount").value(21.00))
+                .andExpect(jsonPath("$.lines[0].name").value("Keyboard"))
+                .andExpect(jsonPath("$.lines[0].unitPrice").value(10.50))
+                .andDo(document("orders/get",
+                        pathParameters(
+                                parameterWithName("id").description("ID of the order, live or archived")
+                        ),
+                        responseFields(
+                                fieldWithPath("id").description("ID of the order"),
+                                fieldWithPath("status").description("Status of the order"),
+                                fieldWithPath("createdAt").description("Timestamp when the order was created"),
+                                fieldWithPath("paidAt").description("Timestamp when the order was paid, null if not paid").optional(),
+                                fieldWithPath("totalAmount").description("Total value of the order at the prices of the time of purchase"),
+                                fieldWithPath("lines[].productId").description("ID of the ordered product"),
+                                fieldWithPath("lines[].name").description("Name of the product at the time of purchase"),
+                                fieldWithPath("lines[].quantity").description("Ordered quantity"),
+                                fieldWithPath("lines[].unitPrice").description("Price of the product at the time of purchase"),
+                                fieldWithPath("lines[].lineTotal").description("Unit price multiplied by the quantity")
                         )
                 ));
     }
@@ -161,11 +308,73 @@ class OrderControllerTest {
                 ));
     }
 
+    /**
+     * Tests the payment of a batch of orders via the POST /api/orders/batch/pay endpoint.
+     * <p>
+     * Verifies that the outcome is reported per order ID in request order, and generates REST documentation
+     * for the operation.
+     * </p>
+     *
+     * @throws Exception if the test execution fails
+     */
+    @Test
+    void payOrders_shouldReturnOutcomePerId_andDocument() throws Exception {
+        // Arrange
+        List<Long> ids = List.of(1L, 2L, 3L);
+        when(orderBulkService.payOrders(ids)).thenReturn(List.of(
+                OrderTransitionDTO.builder().orderId(1L).outcome(OrderTransitionOutcome.APPLIED).build(),
+                OrderTransitionDTO.builder().orderId(2L).outcome(OrderTransitionOutcome.INVALID_STATUS)
+                        .message("Only CREATED orders can be paid").build(),
+                OrderTransitionDTO.builder().orderId(3L).outcome(OrderTransitionOutcome.NOT_FOUND)
+                        .message("Order not found with ID: 3").build()));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/orders/batch/pay")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(ids)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].outcome").value("APPLIED"))
+                .andExpect(jsonPath("$[1].outcome").value("INVALID_STATUS"))
+                .andExpect(jsonPath("$[2].outcome").value("NOT_FOUND"))
+                .andDo(document("orders/pay-batch",
+                        responseFields(
+                                fieldWithPath("[].orderId").description("ID of the order"),
+                                fieldWithPath("[].outcome").description("Outcome of the transition: APPLIED, NOT_FOUND, INVALID_STATUS or FAILED"),
+                                fieldWithPath("[].message").description("Reason the transition was not applied").optional()
+                        )));
+    }
+
+    /**
+     * Tests the cancellation of a batch of orders via the POST /api/orders/batch/cancel endpoint.
+     * <p>
+     * Verifies that the outcome is reported per order ID, and generates REST documentation for the operation.
+     * </p>
+     *
+     * @throws Exception if the test execution fails
+     */
+    @Test
+    void cancelOrders_shouldReturnOutcomePerId_andDocument() throws Exception {
+        // Arrange
+        List<Long> ids = List.of(1L, 2L);
+        when(orderBulkService.cancelOrders(ids)).thenReturn(List.of(
+                OrderTransitionDTO.builder().orderId(1L).outcome(OrderTransitionOutcome.APPLIED).build(),
+                OrderTransitionDTO.builder().orderId(2L).outcome(OrderTransitionOutcome.APPLIED).build()));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/orders/batch/cancel")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(ids)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[1].orderId").value(2L))
+                .andExpect(jsonPath("$[1].outcome").value("APPLIED"))
+                .andDo(document("orders/cancel-batch"));
+    }
+
     /**
      * Tests the creation of an order with insufficient stock, expecting a 400 Bad Request.
      * <p>
-     * Verifies that the endpoint returns a 400 status when a BusinessException is thrown
-     * due to insufficient stock, and generates REST documentation for the error case.
+     * Verifies that the endpoint returns a 400 status with a reason per rejected line when the order
+     * is rejected due to insufficient stock, and generates REST documentation for the error case.
      * </p>
      *
      * @throws Exception if the test execution fails
@@ -180,20 +389,124 @@ class OrderControllerTest {
         var request = new CreateOrderDTO();
         request.setItems(List.of(productDTO));
 
-        when(orderService.createOrder(any(CreateOrderDTO.class)))
-                .thenThrow(new BusinessException("Insufficient stock for product: Test Product"));
+        when(orderService.createOrder(any(CreateOrderDTO.class))).thenReturn(OrderCreationResultDTO.builder()
+                .rejection(OrderRejectionDTO.builder()
+                        .message("Insufficient stock for product: Test Product")
+                        .lines(List.of(OrderLineRejectionDTO.builder()
+                                .productId(1L)
+                                .reason(OrderLineRejectionReason.INSUFFICIENT_STOCK)
+                                .message("Insufficient stock for product: Test Product")
+                                .build()))
+                        .build())
+                .build());
 
         // Act & Assert
         mockMvc.perform(post("/api/orders")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Insufficient stock for product: Test Product"))
+                .andExpect(jsonPath("$.lines[0].reason").value(OrderLineRejectionReason.INSUFFICIENT_STOCK.name()))
                 .andDo(document("orders/create-error",
                         requestFields(
                                 fieldWithPath("items").description("List of order items"),
                                 fieldWithPath("items[].productId").description("ID of the product"),
                                 fieldWithPath("items[].quantity").description("Quantity of the product")
+                        ),
+                        responseFields(
+                                fieldWithPath("message").description("Descriptions of all rejected lines"),
+                                fieldWithPath("lines").description("Rejected lines in the order of the requested items"),
+                                fieldWithPath("lines[].productId").description("ID of the product"),
+                                fieldWithPath("lines[].reason").description("Reason the line is rejected: PRODUCT_NOT_FOUND or INSUFFICIENT_STOCK"),
+                                fieldWithPath("lines[].message").description("Description of the reason")
+                        )
+                ));
+    }
+
+    /**
+     * Tests the asynchronous submission of an order via the POST /api/orders/async endpoint.
+     * <p>
+     * Verifies that the endpoint returns a 202 Accepted status with the request reference and a
+     * Location header pointing to the status endpoint, and generates REST documentation for the operation.
+     * </p>
+     *
+     * @throws Exception if the test execution fails
+     */
+    @Test
+    void submitOrder_shouldReturnAccepted_andDocument() throws Exception {
+        // Arrange
+        var productDTO = new OrderProductDTO();
+        productDTO.setProductId(1L);
+        productDTO.setQuantity(2);
+
+        var request = new CreateOrderDTO();
+        request.setItems(List.of(productDTO));
+
+        var response = OrderRequestDTO.builder()
+                .reference("4f1c2d3e-0000-0000-0000-000000000001")
+                .status(OrderRequestStatus.ACCEPTED)
+                .submittedAt(LocalDateTime.now())
+                .build();
+
+        when(orderIntakeService.submit(any(CreateOrderDTO.class))).thenReturn(response);
+
+        // Act & Assert
+        mockMvc.perform(post("/api/orders/async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/api/orders/requests/" + response.getReference()))
+                .andExpect(jsonPath("$.reference").value(response.getReference()))
+                .andExpect(jsonPath("$.status").value(OrderRequestStatus.ACCEPTED.name()))
+                .andDo(document("orders/submit-async",
+                        requestFields(
+                                fieldWithPath("items").description("List of order items"),
+                                fieldWithPath("items[].productId").description("ID of the product"),
+                                fieldWithPath("items[].quantity").description("Quantity of the product")
+                        ),
+                        responseFields(
+                                fieldWithPath("reference").description("Reference of the order request"),
+                                fieldWithPath("status").description("Processing status of the order request"),
+                                fieldWithPath("orderId").description("ID of the created order, null until completed").optional(),
+                                fieldWithPath("message").description("Rejection reason, null unless rejected").optional(),
+                                fieldWithPath("submittedAt").description("Timestamp when the request was accepted"),
+                                fieldWithPath("completedAt").description("Timestamp when the request was processed").optional()
+                        )
+                ));
+    }
+
+    /**
+     * Tests retrieving the status of an asynchronously submitted order via the GET /api/orders/requests/{reference} endpoint.
+     * <p>
+     * Verifies that the endpoint returns a 200 OK status with the final outcome of the request,
+     * and generates REST documentation for the operation.
+     * </p>
+     *
+     * @throws Exception if the test execution fails
+     */
+    @Test
+    void getOrderRequest_shouldReturnStatus_andDocument() throws Exception {
+        // Arrange
+        String reference = "4f1c2d3e-0000-0000-0000-000000000001";
+        var response = OrderRequestDTO.builder()
+                .reference(reference)
+                .status(OrderRequestStatus.COMPLETED)
+                .orderId(1L)
+                .submittedAt(LocalDateTime.now().minusSeconds(1))
+                .completedAt(LocalDateTime.now())
+                .build();
+
+        when(orderIntakeService.getStatus(reference)).thenReturn(response);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/orders/requests/{reference}", reference))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value(OrderRequestStatus.COMPLETED.name()))
+                .andExpect(jsonPath("$.orderId").value(1L))
+                .andDo(document("orders/request-status",
+                        pathParameters(
+                                parameterWithName("reference").description("Reference of the order request")
                         )
                 ));
     }
-}
\ No newline at end of file
+}
@@ -3,7 +3,14 @@ package com.vserdiuk.casestudy.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.vserdiuk.casestudy.dto.CreateProductDTO;
 import com.vserdiuk.casestudy.dto.ProductDTO;
+import com.vserdiuk.casestudy.dto.ProductFilterDTO;
+import com.vserdiuk.casestudy.dto.ProductLookupDTO;
+import com.vserdiuk.casestudy.dto.ProductSortField;
+import com.vserdiuk.casestudy.dto.ProductWindowDTO;
 import com.vserdiuk.casestudy.dto.UpdateProductDTO;
+import com.vserdiuk.casestudy.entity.Product;
+import com.vserdiuk.casestudy.exception.GlobalExceptionHandler;
+import com.vserdiuk.casestudy.exception.ProductInUseException;
 import com.vserdiuk.casestudy.service.ProductService;
 import org.hibernate.validator.messageinterpolation.ParameterMessageInterpolator;
 import org.junit.jupiter.api.BeforeEach;
@@ -20,6 +27,8 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.restdocs.RestDocumentationContextProvider;
 import org.springframework.restdocs.RestDocumentationExtension;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
@@ -30,11 +39,15 @@ import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
 import java.math.BigDecimal;
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.documentationConfiguration;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -75,6 +88,7 @@ class ProductControllerTest {
         this.mockMvc = MockMvcBuilders
                 .standaloneSetup(new ProductController(productServiceMock))
                 .setValidator(validator)
+                .setControllerAdvice(new GlobalExceptionHandler())
                 .setCustomArgumentResolvers(new PageableHandlerMethodArgumentResolver())
                 .apply(documentationConfiguration(restDocumentation))
                 .build();
@@ -169,6 +183,36 @@ class ProductControllerTest {
                 .andDo(document("products/create-batch"));
     }
 
+    /**
+     * Tests that invalid elements of a batch are reported by their index in a single 400 Bad Request response,
+     * without calling the service.
+     *
+     * @throws Exception if an error occurs during the test
+     */
+    @Test
+    void createProducts_withInvalidElements_shouldReturnErrorsPerIndex() throws Exception {
+        // Arrange
+        var valid = new CreateProductDTO();
+        valid.setName("Product 1");
+        valid.setPrice(BigDecimal.valueOf(10.0));
+        valid.setStockQuantity(100);
+
+        var invalid = new CreateProductDTO();
+        invalid.setName("");
+        invalid.setPrice(BigDecimal.valueOf(-1));
+        invalid.setStockQuantity(5);
+
+        // Act & Assert
+        mockMvc.perform(post("/api/products/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(valid, invalid))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors['[1].name']").isNotEmpty())
+                .andExpect(jsonPath("$.errors['[1].price']").isNotEmpty())
+                .andExpect(jsonPath("$.errors.length()").value(2));
+        verify(productServiceMock, never()).createProducts(any());
+    }
+
     /**
      * Tests the update of a product via the PUT /api/products endpoint.
      * Verifies that the endpoint returns a 200 OK status and the updated product details.
@@ -206,6 +250,31 @@ class ProductControllerTest {
                 .andDo(document("products/update"));
     }
 
+    /**
+     * Tests that updating a Product modified concurrently via the PUT /api/products endpoint
+     * returns a 409 Conflict status instead of an internal server error.
+     *
+     * @throws Exception if an error occurs during the test
+     */
+    @Test
+    void updateProduct_shouldReturnConflictForConcurrentModification() throws Exception {
+        // Arrange
+        var request = new UpdateProductDTO();
+        request.setId(1L);
+        request.setName("Updated Product");
+        request.setPrice(BigDecimal.valueOf(20.0));
+        request.setStockQuantity(50);
+        when(productServiceMock.updateProduct(any(UpdateProductDTO.class)))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Product.class, 1L));
+
+        // Act & Assert
+        mockMvc.perform(put("/api/products")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message").value("The resource was modified concurrently, please retry"));
+    }
+
     /**
      * Tests the update of multiple products via the PUT /api/products/batch endpoint.
      * Verifies that the endpoint returns a 200 OK status and the updated list of products.
@@ -296,6 +365,26 @@ class ProductControllerTest {
                 .andDo(document("products/delete-batch"));
     }
 
+    /**
+     * Tests that deleting Products still referenced by Orders via the DELETE /api/products endpoint
+     * returns a 409 Conflict status with the referenced IDs in the message.
+     *
+     * @throws Exception if an error occurs during the test
+     */
+    @Test
+    void deleteProductsBatch_shouldReturnConflictForReferencedProducts() throws Exception {
+        // Arrange
+        List<Long> ids = List.of(1L, 2L);
+        doThrow(new ProductInUseException(List.of(2L))).when(productServiceMock).deleteProducts(ids);
+
+        // Act & Assert
+        mockMvc.perform(delete("/api/products")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(ids)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message").value("Products referenced by orders cannot be deleted, ids: [2]"));
+    }
+
     /**
      * Tests the retrieval of a product by ID via the GET /api/products/{id} endpoint.
      * Verifies that the endpoint returns a 200 OK status and the correct product details.
@@ -323,9 +412,80 @@ class ProductControllerTest {
                 .andExpect(jsonPath("$.name").value("Test Product"))
                 .andExpect(jsonPath("$.price").value(10.0))
                 .andExpect(jsonPath("$.stockQuantity").value(100))
+                .andExpect(header().string("ETag", "\"1-0\""))
                 .andDo(document("products/get"));
     }
 
+    /**
+     * Tests that the GET /api/products/{id} endpoint returns an ETag and answers a matching
+     * If-None-Match header with 304 Not Modified without loading the product.
+     *
+     * @throws Exception if an error occurs during the test
+     */
+    @Test
+    void getProduct_shouldReturnNotModifiedWhenETagMatches() throws Exception {
+        // Arrange
+        when(productServiceMock.getProductVersion(1L)).thenReturn(7L);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/products/{id}", 1L)
+                        .header("If-None-Match", "\"1-7\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"1-7\""))
+                .andDo(document("products/get-not-modified"));
+        verify(productServiceMock, never()).getProduct(any());
+    }
+
+    /**
+     * Tests that the GET /api/products endpoint answers a matching If-None-Match header
+     * with 304 Not Modified without querying the products.
+     *
+     * @throws Exception if an error occurs during the test
+     */
+    @Test
+    void listProducts_shouldReturnNotModifiedWhenCatalogUnchanged() throws Exception {
+        // Arrange
+        when(productServiceMock.getCatalogVersion()).thenReturn(42L);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/products")
+                        .header("If-None-Match", "\"catalog-42\""))
+                .andExpect(status().isNotModified());
+        verify(productServiceMock, never()).getAllProducts(any());
+    }
+
+    /**
+     * Tests that the GET /api/products/{id} endpoint negotiates the binary CBOR encoding
+     * when the client sends {@code Accept: application/cbor}.
+     *
+     * @throws Exception if an error occurs during the test
+     */
+    @Test
+    void getProduct_shouldReturnCborWhenRequested() throws Exception {
+        // Arrange
+        var response = ProductDTO.builder()
+                .id(1L)
+                .name("Test Product")
+                .price(BigDecimal.valueOf(10.0))
+                .stockQuantity(100)
+                .build();
+
+        when(productServiceMock.getProduct(1L)).thenReturn(response);
+
+        // Act
+        byte[] body = mockMvc.perform(get("/api/products/{id}", 1L)
+                        .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+
+        // Assert
+        ObjectMapper cborMapper = Jackson2ObjectMapperBuilder.cbor().build();
+        assertThat(cborMapper.readValue(body, ProductDTO.class)).isEqualTo(response);
+    }
+
     /**
      * Tests the retrieval of a paginated list of products via the GET /api/products endpoint.
      * Verifies that the endpoint returns a 200 OK status and the correct product list.
@@ -361,6 +521,116 @@ class ProductControllerTest {
                 .andDo(document("products/list"));
     }
 
+    /**
+     * Tests the retrieval of multiple products via the GET /api/products?ids= endpoint.
+     * Verifies that the results keep the order of the requested IDs and mark missing products as not found.
+     * Generates REST documentation for the endpoint.
+     *
+     * @throws Exception if an error occurs during the test
+     */
+    @Test
+    void getProducts_shouldReturnProductsInRequestedOrder() throws Exception {
+        // Arrange
+        var product = ProductDTO.builder().id(2L).name("Product 2").price(BigDecimal.valueOf(20.0)).stockQuantity(200).build();
+        when(productServiceMock.getProducts(List.of(2L, 9L))).thenReturn(List.of(
+                ProductLookupDTO.builder().id(2L).found(true).product(product).build(),
+                ProductLookupDTO.builder().id(9L).found(false).build()));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/products")
+                        .param("ids", "2,9")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].id").value(2L))
+                .andExpect(jsonPath("$[0].found").value(true))
+                .andExpect(jsonPath("$[0].product.name").value("Product 2"))
+                .andExpect(jsonPath("$[1].id").value(9L))
+                .andExpect(jsonPath("$[1].found").value(false))
+                .andDo(document("products/get-multiple"));
+        verify(productServiceMock, never()).getAllProducts(any());
+    }
+
+    /**
+     * Tests filtering products via the GET /api/products/filter endpoint.
+     * Verifies that query parameters are bound to the filter and the page is returned with its next cursor.
+     * Generates REST documentation for the endpoint.
+     *
+     * @throws Exception if an error occurs during the test
+     */
+    @Test
+    void filterProducts_shouldReturnWindowWithNextCursor() throws Exception {
+        // Arrange
+        var product = ProductDTO.builder().id(1L).name("Product 1").price(BigDecimal.valueOf(15.0)).stockQuantity(100).build();
+        when(productServiceMock.filterProducts(any(ProductFilterDTO.class))).thenReturn(ProductWindowDTO.builder()
+                .content(List.of(product))
+                .nextCursor("MTUuMDoxMA")
+                .hasNext(true)
+                .build());
+
+        // Act & Assert
+        mockMvc.perform(get("/api/products/filter")
+                        .param("minPrice", "10")
+                        .param("maxPrice", "50")
+                        .param("inStock", "true")
+                        .param("sortBy", "PRICE")
+                        .param("direction", "ASC")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(1L))
+                .andExpect(jsonPath("$.nextCursor").value("MTUuMDoxMA"))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andDo(document("products/filter"));
+
+        verify(productServiceMock).filterProducts(argThat(filter -> filter.isInStock()
+                && filter.getMinPrice().compareTo(BigDecimal.TEN) == 0
+                && filter.getSortBy() == ProductSortField.PRICE
+                && filter.getSize() == 1));
+    }
+
+    /**
+     * Tests that the GET /api/products/filter endpoint rejects an out-of-range page size
+     * with HTTP status 400 (Bad Request).
+     *
+     * @throws Exception if an error occurs during the test
+     */
+    @Test
+    void filterProducts_shouldReturnBadRequestForInvalidSize() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/products/filter").param("size", "1000"))
+                .andExpect(status().isBadRequest());
+
+        verify(productServiceMock, never()).filterProducts(any());
+    }
+
+    /**
+     * Tests searching products by name via the GET /api/products/search endpoint.
+     * Verifies that the query and pagination are passed to the service and the ranked page is returned.
+     * Generates REST documentation for the endpoint.
+     *
+     * @throws Exception if an error occurs during the test
+     */
+    @Test
+    void searchProducts_shouldReturnMatchingProducts() throws Exception {
+        // Arrange
+        var product = ProductDTO.builder().id(1L).name("Wireless Keyboard").price(BigDecimal.valueOf(49.0)).stockQuantity(10).build();
+
+        Pageable pageable = PageRequest.of(0, 10);
+        when(productServiceMock.searchProducts(eq("keybo"), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(product), pageable, 1));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/products/search")
+                        .param("q", "keybo")
+                        .param("page", "0")
+                        .param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].id").value(1L))
+                .andExpect(jsonPath("$.content[0].name").value("Wireless Keyboard"))
+                .andDo(document("products/search"));
+    }
+
     /**
      * Test configuration to provide a mocked {@link ProductService} bean.
      */
@@ -0,0 +1,113 @@
+package com.vserdiuk.casestudy.controller;
+
+import com.vserdiuk.casestudy.analytics.OrderAnalytics;
+import com.vserdiuk.casestudy.dto.DailyOrderStatsDTO;
+import com.vserdiuk.casestudy.dto.ProductSalesDTO;
+import com.vserdiuk.casestudy.entity.OrderStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.restdocs.AutoConfigureRestDocs;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.restdocs.RestDocumentationExtension;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
+import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
+import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
+import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
+import static org.springframework.restdocs.request.RequestDocumentation.queryParameters;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Unit tests for {@link ReportController}.
+ * <p>
+ * Verifies that reports are served from the {@link OrderAnalytics} read model and generates
+ * REST documentation for the report endpoints.
+ * </p>
+ */
+@ExtendWith({RestDocumentationExtension.class, SpringExtension.class})
+@WebMvcTest(ReportController.class)
+@AutoConfigureRestDocs
+class ReportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private OrderAnalytics orderAnalytics;
+
+    /**
+     * Tests retrieval of the units reserved, sold and released per Product via GET /api/reports/products.
+     *
+     * @throws Exception if the test execution fails
+     */
+    @Test
+    void getProductSales_shouldReturnSales_andDocument() throws Exception {
+        // Arrange
+        when(orderAnalytics.getProductSales()).thenReturn(List.of(ProductSalesDTO.builder()
+                .productId(1L)
+                .unitsReserved(3)
+                .unitsSold(12)
+                .unitsReleased(2)
+                .build()));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/reports/products"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].productId").value(1L))
+                .andExpect(jsonPath("$[0].unitsSold").value(12))
+                .andDo(document("reports/products",
+                        responseFields(
+                                fieldWithPath("[].productId").description("ID of the product"),
+                                fieldWithPath("[].unitsReserved").description("Units reserved by orders awaiting payment"),
+                                fieldWithPath("[].unitsSold").description("Units sold by paid orders"),
+                                fieldWithPath("[].unitsReleased").description("Units released by canceled and expired orders")
+                        )));
+    }
+
+    /**
+     * Tests retrieval of order counts and revenue per day and status via GET /api/reports/orders/daily.
+     *
+     * @throws Exception if the test execution fails
+     */
+    @Test
+    void getDailyOrderStats_shouldReturnStatsForRange_andDocument() throws Exception {
+        // Arrange
+        LocalDate day = LocalDate.of(2025, 6, 1);
+        when(orderAnalytics.getDailyStats(day, day.plusDays(6))).thenReturn(List.of(DailyOrderStatsDTO.builder()
+                .date(day)
+                .status(OrderStatus.PAID)
+                .orderCount(42)
+                .revenue(new BigDecimal("1234.50"))
+                .build()));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/reports/orders/daily")
+                        .param("from", "2025-06-01")
+                        .param("to", "2025-06-07"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].date").value("2025-06-01"))
+                .andExpect(jsonPath("$[0].orderCount").value(42))
+                .andDo(document("reports/orders-daily",
+                        queryParameters(
+                                parameterWithName("from").description("First creation day to include (ISO date), 30 days before `to` by default"),
+                                parameterWithName("to").description("Last creation day to include (ISO date), today by default")
+                        ),
+                        responseFields(
+                                fieldWithPath("[].date").description("Day the orders were created on"),
+                                fieldWithPath("[].status").description("Current status of the orders"),
+                                fieldWithPath("[].orderCount").description("Number of orders"),
+                                fieldWithPath("[].revenue").description("Total value of the orders")
+                        )));
+    }
+}
@@ -0,0 +1,54 @@
+package com.vserdiuk.casestudy.jdbc;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test utility asserting the exact number of JDBC statements an operation executes on the calling thread.
+ * <p>
+ * Requires the application context, whose data source is proxied by {@code QueryStatsConfig}. Statements run
+ * by after-commit listeners on the same thread are included, statements of other threads are not.
+ * A failure lists the executed SQL, so an additional statement per row is easy to spot.
+ * </p>
+ */
+public final class QueryCounts {
+
+    private QueryCounts() {
+    }
+
+    /**
+     * Runs an operation and asserts that it executed exactly the expected number of statements.
+     *
+     * @param expected  the expected number of statements, a batch counting as one
+     * @param operation the operation to run
+     * @return the result of the operation
+     */
+    public static <T> T assertStatements(int expected, Supplier<T> operation) {
+        QueryStats.start(true);
+        T result;
+        QueryStats stats;
+        try {
+            result = operation.get();
+        } finally {
+            stats = QueryStats.stop();
+        }
+        assertThat(stats.getStatementCount())
+                .as("JDBC statements executed:%n%s", String.join(System.lineSeparator(), stats.getStatements()))
+                .isEqualTo(expected);
+        return result;
+    }
+
+    /**
+     * Runs an operation without a result and asserts that it executed exactly the expected number of statements.
+     *
+     * @param expected  the expected number of statements, a batch counting as one
+     * @param operation the operation to run
+     */
+    public static void assertStatements(int expected, Runnable operation) {
+        assertStatements(expected, () -> {
+            operation.run();
+            return null;
+        });
+    }
+}
@@ -0,0 +1,90 @@
+package com.vserdiuk.casestudy.jdbc;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link QueryStatsFilter} and {@link QueryStatsResponseAdvice}, verifying the per-request
+ * metrics and the debug response headers.
+ */
+class QueryStatsFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final QueryStatsListener listener = new QueryStatsListener(meterRegistry, 60_000);
+    private final QueryStatsFilter filter = new QueryStatsFilter(meterRegistry);
+    private final QueryStatsResponseAdvice advice = new QueryStatsResponseAdvice();
+
+    /**
+     * Tests that the statements of a request are published per request, written to the response headers
+     * before the body, and that the recording ends with the request.
+     */
+    @Test
+    void shouldRecordStatementsPerRequest() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/products/1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                executeStatement();
+                executeStatement();
+                ServletServerHttpResponse serverResponse = new ServletServerHttpResponse(resp);
+                advice.beforeBodyWrite("body", null, MediaType.APPLICATION_JSON, null,
+                        new ServletServerHttpRequest(req), serverResponse);
+                serverResponse.flush();
+                executeStatement();
+            }
+        });
+
+        // Act
+        filter.doFilter(request, response, chain);
+
+        // Assert
+        assertThat(response.getHeader(QueryStatsResponseAdvice.QUERY_COUNT_HEADER)).isEqualTo("2");
+        assertThat(response.getHeader(QueryStatsResponseAdvice.QUERY_TIME_HEADER)).isNotNull();
+        assertThat(meterRegistry.get("jdbc.request.statements").summary().totalAmount()).isEqualTo(3);
+        assertThat(meterRegistry.get("jdbc.request.time").timer().count()).isEqualTo(1);
+        assertThat(QueryStats.current()).isNull();
+    }
+
+    /**
+     * Tests that no headers are added to responses written outside a recording.
+     */
+    @Test
+    void shouldNotAddHeadersWithoutRecording() throws Exception {
+        // Arrange
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        ServletServerHttpResponse serverResponse = new ServletServerHttpResponse(response);
+
+        // Act
+        advice.beforeBodyWrite("body", null, MediaType.APPLICATION_JSON, null,
+                new ServletServerHttpRequest(new MockHttpServletRequest()), serverResponse);
+        serverResponse.flush();
+
+        // Assert
+        assertThat(response.getHeaderNames()).doesNotContain(QueryStatsResponseAdvice.QUERY_COUNT_HEADER);
+    }
+
+    private void executeStatement() {
+        ExecutionInfo execInfo = new ExecutionInfo();
+        List<QueryInfo> queries = List.of(new QueryInfo("select 1"));
+        listener.beforeQuery(execInfo, queries);
+        listener.afterQuery(execInfo, queries);
+    }
+}
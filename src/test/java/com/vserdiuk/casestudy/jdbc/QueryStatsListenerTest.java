@@ -0,0 +1,111 @@
+package com.vserdiuk.casestudy.jdbc;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link QueryStatsListener}, verifying the statement metrics, the recording of statements
+ * on the current thread and the description of slow statements with their bind parameters.
+ */
+class QueryStatsListenerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void stopRecording() {
+        QueryStats.stop();
+    }
+
+    /**
+     * Tests that statements are timed and recorded in the active recording, without SQL unless captured.
+     */
+    @Test
+    void shouldRecordStatementsInActiveRecording() throws Exception {
+        // Arrange
+        QueryStatsListener listener = new QueryStatsListener(meterRegistry, 60_000);
+        QueryStats stats = QueryStats.start(false);
+
+        // Act
+        execute(listener, query("select * from products where id=?", 1L));
+        execute(listener, query("select * from orders where id=?", 2L));
+
+        // Assert
+        assertThat(stats.getStatementCount()).isEqualTo(2);
+        assertThat(stats.getStatements()).isEmpty();
+        assertThat(stats.getSlowStatements()).isEmpty();
+        assertThat(meterRegistry.get("jdbc.statements").timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("jdbc.statements.slow").counter().count()).isZero();
+    }
+
+    /**
+     * Tests that slow statements are counted and kept with the bind parameters of each batch entry.
+     */
+    @Test
+    void shouldDescribeSlowStatementsWithBindParameters() throws Exception {
+        // Arrange
+        QueryStatsListener listener = new QueryStatsListener(meterRegistry, 0);
+        QueryStats stats = QueryStats.start(true);
+        QueryInfo batch = query("update products set stock_quantity=? where id=?", 5, 1L);
+        batch.getParametersList().add(List.of(
+                setParameter("setInt", int.class, 1, 7),
+                new ParameterSetOperation(PreparedStatement.class.getMethod("setNull", int.class, int.class), new Object[]{2, 4})));
+
+        // Act
+        execute(listener, batch);
+
+        // Assert
+        assertThat(stats.getStatementCount()).isEqualTo(1);
+        assertThat(stats.getStatements()).containsExactly("update products set stock_quantity=? where id=?");
+        assertThat(stats.getSlowStatements())
+                .containsExactly("update products set stock_quantity=? where id=? [5, 1], [7, null]");
+        assertThat(meterRegistry.get("jdbc.statements.slow").counter().count()).isEqualTo(1);
+    }
+
+    /**
+     * Tests that statements outside a recording are only published as metrics.
+     */
+    @Test
+    void shouldOnlyPublishMetricsWithoutRecording() throws Exception {
+        // Arrange
+        QueryStatsListener listener = new QueryStatsListener(meterRegistry, 60_000);
+
+        // Act
+        execute(listener, query("select 1"));
+
+        // Assert
+        assertThat(QueryStats.current()).isNull();
+        assertThat(meterRegistry.get("jdbc.statements").timer().count()).isEqualTo(1);
+    }
+
+    private static void execute(QueryStatsListener listener, QueryInfo query) {
+        ExecutionInfo execInfo = new ExecutionInfo();
+        listener.beforeQuery(execInfo, List.of(query));
+        listener.afterQuery(execInfo, List.of(query));
+    }
+
+    private static QueryInfo query(String sql, Object... parameters) throws Exception {
+        QueryInfo query = new QueryInfo(sql);
+        if (parameters.length > 0) {
+            List<ParameterSetOperation> operations = new ArrayList<>();
+            for (int i = 0; i < parameters.length; i++) {
+                operations.add(setParameter("setObject", Object.class, i + 1, parameters[i]));
+            }
+            query.getParametersList().add(operations);
+        }
+        return query;
+    }
+
+    private static ParameterSetOperation setParameter(String method, Class<?> type, int index, Object value) throws Exception {
+        return new ParameterSetOperation(PreparedStatement.class.getMethod(method, int.class, type), new Object[]{index, value});
+    }
+}
@@ -0,0 +1,185 @@
+package com.vserdiuk.casestudy.jdbc;
+
+import com.vserdiuk.casestudy.dto.CreateOrderDTO;
+import com.vserdiuk.casestudy.dto.CreateProductDTO;
+import com.vserdiuk.casestudy.dto.OrderCreationResultDTO;
+import com.vserdiuk.casestudy.dto.OrderDTO;
+import com.vserdiuk.casestudy.dto.OrderProductDTO;
+import com.vserdiuk.casestudy.dto.ProductDTO;
+import com.vserdiuk.casestudy.dto.ProductFilterDTO;
+import com.vserdiuk.casestudy.dto.UpdateProductDTO;
+import com.vserdiuk.casestudy.service.OrderService;
+import com.vserdiuk.casestudy.service.ProductService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static com.vserdiuk.casestudy.jdbc.QueryCounts.assertStatements;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Query count tests for the {@link OrderService} and {@link ProductService} operations, run against the
+ * in-memory database of the application context.
+ * <p>
+ * Each test pins the exact number of JDBC statements an operation executes. Batch operations are run with
+ * several elements, so an additional statement per element fails the test instead of reaching production.
+ * Every test creates its own Products, so caches start cold and counts do not depend on test order.
+ * The context is initialized eagerly, so it is not shared with the lazy context checked by
+ * {@code CasestudyApplicationTest}.
+ * </p>
+ */
+@SpringBootTest(properties = {"spring.kafka.listener.auto-startup=false", "spring.main.lazy-initialization=false"})
+@ActiveProfiles("fast")
+class ServiceQueryCountTest {
+
+    private static final int BATCH = 5;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private OrderService orderService;
+
+    /**
+     * Tests the statements of creating one Product and a batch of Products.
+     */
+    @Test
+    void createProducts() {
+        // Act & Assert
+        assertStatements(1, () -> productService.createProduct(createDto()));
+        assertStatements(5, () -> productService.createProducts(IntStream.range(0, BATCH).mapToObj(i -> createDto()).toList()));
+    }
+
+    /**
+     * Tests the statements of updating one Product and a batch of Products.
+     */
+    @Test
+    void updateProducts() {
+        // Arrange
+        List<ProductDTO> products = createProducts(BATCH);
+
+        // Act & Assert
+        assertStatements(2, () -> productService.updateProduct(updateDto(products.get(0))));
+        assertStatements(5, () -> productService.updateProducts(products.subList(1, BATCH).stream().map(this::updateDto).toList()));
+    }
+
+    /**
+     * Tests the statements of deleting one Product and a batch of Products.
+     */
+    @Test
+    void deleteProducts() {
+        // Arrange
+        List<ProductDTO> products = createProducts(BATCH + 1);
+
+        // Act & Assert
+        assertStatements(3, () -> productService.deleteProduct(products.get(0).getId()));
+        assertStatements(3, () -> productService.deleteProducts(products.subList(1, BATCH + 1).stream().map(ProductDTO::getId).toList()));
+    }
+
+    /**
+     * Tests the statements of the Product read operations.
+     */
+    @Test
+    void readProducts() {
+        // Arrange
+        List<ProductDTO> products = createProducts(BATCH);
+        List<Long> ids = products.stream().map(ProductDTO::getId).toList();
+
+        // Act & Assert
+        assertStatements(1, () -> productService.getProduct(ids.get(0)));
+        assertStatements(1, () -> productService.getProducts(ids));
+        assertStatements(2, () -> productService.getAllProducts(PageRequest.of(0, 20)));
+        assertStatements(1, () -> productService.filterProducts(new ProductFilterDTO()));
+        assertStatements(0, () -> productService.searchProducts(products.get(0).getName(), PageRequest.of(0, 20)));
+        assertStatements(1, () -> productService.getProductVersion(ids.get(0)));
+        assertStatements(0, () -> productService.getCatalogVersion());
+    }
+
+    /**
+     * Tests the statements of quoting and creating an Order, both for one Order and for a batch.
+     */
+    @Test
+    void createOrders() {
+        // Arrange
+        List<ProductDTO> products = createProducts(BATCH);
+
+        // Act & Assert
+        assertStatements(1, () -> orderService.quoteOrder(orderDto(products)));
+        OrderCreationResultDTO result = assertStatements(13, () -> orderService.createOrder(orderDto(products)));
+        assertThat(result.isCreated()).isTrue();
+        assertStatements(41, () -> orderService.createOrders(IntStream.range(0, BATCH).mapToObj(i -> orderDto(products)).toList()));
+    }
+
+    /**
+     * Tests the statements of reading an Order with several lines.
+     */
+    @Test
+    void getOrder() {
+        // Arrange
+        Long orderId = createOrder(createProducts(BATCH));
+
+        // Act & Assert
+        OrderDTO order = assertStatements(1, () -> orderService.getOrder(orderId));
+        assertThat(order.getLines()).hasSize(BATCH);
+    }
+
+    /**
+     * Tests the statements of the Order transitions, both for one Order and for a batch.
+     */
+    @Test
+    void transitionOrders() {
+        // Arrange
+        List<ProductDTO> products = createProducts(BATCH);
+        List<Long> orderIds = IntStream.range(0, 2 * BATCH + 3).mapToObj(i -> createOrder(products)).toList();
+
+        // Act & Assert
+        assertStatements(2, () -> orderService.payOrder(orderIds.get(0)));
+        assertStatements(8, () -> orderService.cancelOrder(orderIds.get(1)));
+        assertStatements(8, () -> orderService.expireOrderById(orderIds.get(2)));
+        assertStatements(3, () -> orderService.payOrders(orderIds.subList(3, 3 + BATCH)));
+        assertStatements(9, () -> orderService.cancelOrders(orderIds.subList(3 + BATCH, 3 + 2 * BATCH)));
+    }
+
+    private List<ProductDTO> createProducts(int count) {
+        return productService.createProducts(IntStream.range(0, count).mapToObj(i -> createDto()).toList());
+    }
+
+    private Long createOrder(List<ProductDTO> products) {
+        return orderService.createOrder(orderDto(products)).getOrder().getId();
+    }
+
+    private CreateProductDTO createDto() {
+        CreateProductDTO dto = new CreateProductDTO();
+        dto.setName("Query Count " + UUID.randomUUID());
+        dto.setPrice(new BigDecimal("10.00"));
+        dto.setStockQuantity(1_000);
+        return dto;
+    }
+
+    private UpdateProductDTO updateDto(ProductDTO product) {
+        UpdateProductDTO dto = new UpdateProductDTO();
+        dto.setId(product.getId());
+        dto.setName(product.getName() + " v2");
+        dto.setPrice(new BigDecimal("12.00"));
+        dto.setStockQuantity(product.getStockQuantity());
+        return dto;
+    }
+
+    private CreateOrderDTO orderDto(List<ProductDTO> products) {
+        CreateOrderDTO dto = new CreateOrderDTO();
+        dto.setItems(products.stream().map(product -> {
+            OrderProductDTO item = new OrderProductDTO();
+            item.setProductId(product.getId());
+            item.setQuantity(1);
+            return item;
+        }).toList());
+        return dto;
+    }
+}
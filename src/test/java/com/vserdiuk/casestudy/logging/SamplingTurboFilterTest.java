@@ -0,0 +1,81 @@
+package com.vserdiuk.casestudy.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link SamplingTurboFilter}, verifying which events are sampled and the sampled fraction.
+ */
+class SamplingTurboFilterTest {
+
+    private final LoggerContext context = new LoggerContext();
+
+    /**
+     * Tests that the sampled logger and its children pass at roughly the configured rate.
+     */
+    @Test
+    void shouldPassConfiguredFractionOfSampledEvents() {
+        // Arrange
+        SamplingTurboFilter filter = filter("org.hibernate.SQL_SLOW", 0.1);
+        Logger logger = context.getLogger("org.hibernate.SQL_SLOW");
+
+        // Act
+        long passed = IntStream.range(0, 100_000)
+                .filter(i -> filter.decide(null, logger, Level.INFO, "Slow query", null, null) == FilterReply.NEUTRAL)
+                .count();
+
+        // Assert
+        assertThat(passed).isBetween(9_000L, 11_000L);
+        assertThat(filter.decide(null, context.getLogger("org.hibernate.SQL_SLOW.child"), Level.INFO, "Slow query", null, null))
+                .isIn(FilterReply.NEUTRAL, FilterReply.DENY);
+    }
+
+    /**
+     * Tests that other loggers, loggers sharing only a name prefix and level checks are never denied.
+     */
+    @Test
+    void shouldNotAffectOtherLoggersOrLevelChecks() {
+        // Arrange
+        SamplingTurboFilter filter = filter("org.hibernate.SQL", 0.0);
+
+        // Act & Assert
+        assertThat(filter.decide(null, context.getLogger("org.hibernate.SQL"), Level.INFO, "select", null, null))
+                .isEqualTo(FilterReply.DENY);
+        assertThat(filter.decide(null, context.getLogger("org.hibernate.SQL"), Level.INFO, null, null, null))
+                .isEqualTo(FilterReply.NEUTRAL);
+        assertThat(filter.decide(null, context.getLogger("org.hibernate.SQL_SLOW"), Level.INFO, "select", null, null))
+                .isEqualTo(FilterReply.NEUTRAL);
+        assertThat(filter.decide(null, context.getLogger("com.vserdiuk"), Level.INFO, "message", null, null))
+                .isEqualTo(FilterReply.NEUTRAL);
+    }
+
+    /**
+     * Tests that a filter without a logger name or with a rate outside [0, 1] does not start.
+     */
+    @Test
+    void shouldNotStartWithInvalidConfiguration() {
+        // Arrange & Act
+        SamplingTurboFilter missingLogger = filter(null, 0.5);
+        SamplingTurboFilter invalidRate = filter("org.hibernate.SQL_SLOW", 1.5);
+
+        // Assert
+        assertThat(missingLogger.isStarted()).isFalse();
+        assertThat(invalidRate.isStarted()).isFalse();
+    }
+
+    private SamplingTurboFilter filter(String loggerName, double rate) {
+        SamplingTurboFilter filter = new SamplingTurboFilter();
+        filter.setContext(context);
+        filter.setLoggerName(loggerName);
+        filter.setRate(rate);
+        filter.start();
+        return filter;
+    }
+}
@@ -0,0 +1,59 @@
+package com.vserdiuk.casestudy.messaging;
+
+import com.vserdiuk.casestudy.repository.OrderExpirationTaskRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link ExpirationTaskPurgeJob}, verifying that a run deletes batches until the table is
+ * compacted or its time budget is spent.
+ */
+class ExpirationTaskPurgeJobTest {
+
+    private final OrderExpirationTaskRepository taskRepository = mock(OrderExpirationTaskRepository.class);
+
+    /**
+     * Tests that a run keeps deleting full batches and stops after the first partial one.
+     */
+    @Test
+    void shouldDeleteBatchesUntilPartialBatch() {
+        // Arrange
+        ExpirationTaskPurgeJob job = new ExpirationTaskPurgeJob(taskRepository, 24, 100, 60_000);
+        when(taskRepository.deleteFinishedBatch(eq("SENT"), any(LocalDateTime.class), eq(100)))
+                .thenReturn(100, 100, 42);
+
+        // Act
+        int purged = job.purge();
+
+        // Assert
+        assertThat(purged).isEqualTo(242);
+        verify(taskRepository, times(3)).deleteFinishedBatch(eq("SENT"), any(LocalDateTime.class), eq(100));
+    }
+
+    /**
+     * Tests that a run stops after one batch once its time budget is spent, even if more tasks are eligible.
+     */
+    @Test
+    void shouldStopWhenTimeBudgetIsSpent() {
+        // Arrange
+        ExpirationTaskPurgeJob job = new ExpirationTaskPurgeJob(taskRepository, 24, 100, 0);
+        when(taskRepository.deleteFinishedBatch(any(), any(LocalDateTime.class), anyInt())).thenReturn(100);
+
+        // Act
+        int purged = job.purge();
+
+        // Assert
+        assertThat(purged).isEqualTo(100);
+        verify(taskRepository, times(1)).deleteFinishedBatch(any(), any(LocalDateTime.class), anyInt());
+    }
+}
@@ -0,0 +1,81 @@
+package com.vserdiuk.casestudy.messaging;
+
+import com.vserdiuk.casestudy.entity.OrderExpirationTask;
+import com.vserdiuk.casestudy.entity.TaskStatus;
+import com.vserdiuk.casestudy.repository.OrderExpirationTaskRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link OrderExpirationProducer}, verifying that tasks whose event could not be sent are
+ * retried with a growing delay and marked failed once their attempts are exhausted.
+ */
+class OrderExpirationProducerTest {
+
+    private final OrderExpirationTaskRepository taskRepository = mock(OrderExpirationTaskRepository.class);
+    @SuppressWarnings("unchecked")
+    private final KafkaTemplate<String, String> kafkaTemplate = mock(KafkaTemplate.class);
+    private final OrderExpirationProducer producer = new OrderExpirationProducer(kafkaTemplate, taskRepository);
+
+    /**
+     * Tests that a failed send keeps the task pending and pushes its due time back exponentially.
+     */
+    @Test
+    void shouldRescheduleTaskWhenSendFails() {
+        // Arrange
+        OrderExpirationTask task = task(2);
+        when(taskRepository.findByStatusAndExpirationTimeBefore(eq(TaskStatus.PENDING), any(LocalDateTime.class)))
+                .thenReturn(List.of(task));
+        when(kafkaTemplate.send(anyString(), anyString()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+        LocalDateTime before = LocalDateTime.now();
+
+        // Act
+        producer.processExpiredTasks();
+
+        // Assert
+        assertThat(task.getStatus()).isEqualTo(TaskStatus.PENDING);
+        assertThat(task.getAttempts()).isEqualTo(3);
+        assertThat(task.getExpirationTime()).isAfterOrEqualTo(before.plus(OrderExpirationProducer.RETRY_BASE_DELAY.multipliedBy(4)));
+        verify(taskRepository).save(task);
+    }
+
+    /**
+     * Tests that a task is marked failed once its last attempt has failed.
+     */
+    @Test
+    void shouldMarkTaskFailedWhenAttemptsAreExhausted() {
+        // Arrange
+        OrderExpirationTask task = task(OrderExpirationProducer.MAX_SEND_ATTEMPTS - 1);
+
+        // Act
+        producer.handleSendFailure(task);
+
+        // Assert
+        assertThat(task.getStatus()).isEqualTo(TaskStatus.FAILED);
+        assertThat(task.getAttempts()).isEqualTo(OrderExpirationProducer.MAX_SEND_ATTEMPTS);
+        verify(taskRepository).save(task);
+    }
+
+    private OrderExpirationTask task(int attempts) {
+        return OrderExpirationTask.builder()
+                .id(1L)
+                .orderId(10L)
+                .expirationTime(LocalDateTime.now().minusMinutes(1))
+                .status(TaskStatus.PENDING)
+                .attempts(attempts)
+                .build();
+    }
+}
@@ -0,0 +1,58 @@
+package com.vserdiuk.casestudy.money;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link Money}, verifying conversion, arithmetic, ordering and formatting of fixed-point amounts.
+ */
+class MoneyTest {
+
+    /**
+     * Tests that decimal amounts are converted to minor units and back, rounding half up to two decimal places.
+     */
+    @Test
+    void shouldConvertFromAndToBigDecimal() {
+        // Act & Assert
+        assertThat(Money.of(new BigDecimal("12.5"))).isEqualTo(Money.ofMinor(1250));
+        assertThat(Money.of(new BigDecimal("0.005"))).isEqualTo(Money.ofMinor(1));
+        assertThat(Money.of(new BigDecimal("-3.10")).minorUnits()).isEqualTo(-310);
+        assertThat(Money.ofMinor(1250).toBigDecimal()).isEqualTo(new BigDecimal("12.50"));
+    }
+
+    /**
+     * Tests that line totals and sums are computed exactly and overflow fails instead of wrapping around.
+     */
+    @Test
+    void shouldComputeTotalsExactly() {
+        // Arrange
+        Money price = Money.of(new BigDecimal("19.99"));
+
+        // Act
+        Money total = price.times(3).plus(Money.of(new BigDecimal("0.03"))).minus(Money.ofMinor(100));
+
+        // Assert
+        assertThat(total.toBigDecimal()).isEqualByComparingTo("59.00");
+        assertThat(total.negate().plus(total)).isEqualTo(Money.ZERO);
+        assertThatThrownBy(() -> Money.ofMinor(Long.MAX_VALUE).times(2)).isInstanceOf(ArithmeticException.class);
+    }
+
+    /**
+     * Tests that amounts are ordered by value and formatted with two decimal places.
+     */
+    @Test
+    void shouldCompareAndFormat() {
+        // Arrange
+        List<Money> amounts = List.of(Money.ofMinor(500), Money.ofMinor(-5), Money.ofMinor(49));
+
+        // Act & Assert
+        assertThat(amounts.stream().sorted().toList())
+                .containsExactly(Money.ofMinor(-5), Money.ofMinor(49), Money.ofMinor(500));
+        assertThat(amounts).extracting(Money::toString).containsExactly("5.00", "-0.05", "0.49");
+    }
+}
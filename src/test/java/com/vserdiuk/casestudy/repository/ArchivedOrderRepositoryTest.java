@@ -0,0 +1,116 @@
+package com.vserdiuk.casestudy.repository;
+
+import com.vserdiuk.casestudy.entity.ArchivedOrder;
+import com.vserdiuk.casestudy.entity.Order;
+import com.vserdiuk.casestudy.entity.OrderExpirationTask;
+import com.vserdiuk.casestudy.entity.OrderProduct;
+import com.vserdiuk.casestudy.entity.OrderStatus;
+import com.vserdiuk.casestudy.entity.Product;
+import com.vserdiuk.casestudy.entity.TaskStatus;
+import com.vserdiuk.casestudy.service.impl.OrderArchivalServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the {@link ArchivedOrderRepository} class together with {@link OrderArchivalServiceImpl},
+ * verifying that closed Orders are moved into the archive in batches and stay readable there.
+ */
+@DataJpaTest
+@Import(OrderArchivalServiceImpl.class)
+class ArchivedOrderRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ArchivedOrderRepository archivedOrderRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderExpirationTaskRepository taskRepository;
+
+    @Autowired
+    private OrderArchivalServiceImpl orderArchivalService;
+
+    /**
+     * Tests that only closed Orders older than the cutoff are archived, in batches, with their lines,
+     * and that their expiration tasks are purged.
+     */
+    @Test
+    void shouldArchiveClosedOrdersBeforeCutoffInBatches() {
+        // Arrange
+        Product product = entityManager.persist(Product.builder()
+                .name("Keyboard")
+                .price(new BigDecimal("10.50"))
+                .stockQuantity(100)
+                .build());
+        LocalDateTime old = LocalDateTime.now().minusDays(100);
+        Order paid = persistOrder(OrderStatus.PAID, old, product);
+        Order cancelled = persistOrder(OrderStatus.CANCELLED, old, product);
+        Order expired = persistOrder(OrderStatus.EXPIRED, old, product);
+        Order open = persistOrder(OrderStatus.CREATED, old, product);
+        Order recent = persistOrder(OrderStatus.PAID, LocalDateTime.now(), product);
+        entityManager.flush();
+        entityManager.clear();
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(90);
+
+        // Act
+        int firstBatch = orderArchivalService.archiveClosedOrders(cutoff, 2);
+        int secondBatch = orderArchivalService.archiveClosedOrders(cutoff, 2);
+        int thirdBatch = orderArchivalService.archiveClosedOrders(cutoff, 2);
+        entityManager.clear();
+
+        // Assert
+        assertThat(List.of(firstBatch, secondBatch, thirdBatch)).containsExactly(2, 1, 0);
+        assertThat(orderRepository.findAll()).extracting(Order::getId).containsExactlyInAnyOrder(open.getId(), recent.getId());
+        assertThat(archivedOrderRepository.findAll()).extracting(ArchivedOrder::getId)
+                .containsExactlyInAnyOrder(paid.getId(), cancelled.getId(), expired.getId());
+        assertThat(taskRepository.findAll()).extracting(OrderExpirationTask::getOrderId)
+                .containsExactlyInAnyOrder(open.getId(), recent.getId());
+        ArchivedOrder archived = archivedOrderRepository.findById(paid.getId()).orElseThrow();
+        assertThat(archived.getTotalAmount()).isEqualByComparingTo("21.00");
+        assertThat(archived.getArchivedAt()).isNotNull();
+        assertThat(archived.getOrderProducts()).singleElement().satisfies(line -> {
+            assertThat(line.getProductName()).isEqualTo("Keyboard");
+            assertThat(line.getQuantity()).isEqualTo(2);
+            assertThat(line.getUnitPrice()).isEqualByComparingTo("10.50");
+        });
+        assertThat(archivedOrderRepository.summarizeByProductAndStatus())
+                .extracting(OrderRepository.ProductUnits::getUnits)
+                .containsOnly(2L);
+    }
+
+    private Order persistOrder(OrderStatus status, LocalDateTime createdAt, Product product) {
+        Order order = Order.builder()
+                .status(status)
+                .createdAt(createdAt)
+                .totalAmount(new BigDecimal("21.00"))
+                .build();
+        order.setOrderProducts(List.of(OrderProduct.builder()
+                .order(order)
+                .product(product)
+                .productName(product.getName())
+                .quantity(2)
+                .unitPrice(product.getPrice())
+                .lineTotal(new BigDecimal("21.00"))
+                .build()));
+        entityManager.persist(order);
+        entityManager.persist(OrderExpirationTask.builder()
+                .orderId(order.getId())
+                .expirationTime(createdAt.plusMinutes(30))
+                .status(status == OrderStatus.CREATED ? TaskStatus.PENDING : TaskStatus.SENT)
+                .build());
+        return order;
+    }
+}
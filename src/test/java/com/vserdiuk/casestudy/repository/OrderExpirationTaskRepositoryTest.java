@@ -10,6 +10,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -63,18 +64,22 @@ class OrderExpirationTaskRepositoryTest {
         Order order1 = Order.builder()
                 .status(OrderStatus.CREATED)
                 .createdAt(now)
+                .totalAmount(BigDecimal.ZERO)
                 .build();
         Order order2 = Order.builder()
                 .status(OrderStatus.CREATED)
                 .createdAt(now)
+                .totalAmount(BigDecimal.ZERO)
                 .build();
         Order order3 = Order.builder()
                 .status(OrderStatus.CREATED)
                 .createdAt(now)
+                .totalAmount(BigDecimal.ZERO)
                 .build();
         Order order4 = Order.builder()
                 .status(OrderStatus.CREATED)
                 .createdAt(now)
+                .totalAmount(BigDecimal.ZERO)
                 .build();
 
         entityManager.persist(order1);
@@ -139,6 +144,7 @@ class OrderExpirationTaskRepositoryTest {
         Order order = Order.builder()
                 .status(OrderStatus.CREATED)
                 .createdAt(now)
+                .totalAmount(BigDecimal.ZERO)
                 .build();
         entityManager.persist(order);
         entityManager.flush();
@@ -174,6 +180,7 @@ class OrderExpirationTaskRepositoryTest {
         Order order = Order.builder()
                 .status(OrderStatus.CREATED)
                 .createdAt(now)
+                .totalAmount(BigDecimal.ZERO)
                 .build();
         entityManager.persist(order);
         entityManager.flush();
@@ -194,4 +201,82 @@ class OrderExpirationTaskRepositoryTest {
         // Assert
         assertThat(result).isEmpty();
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests the {@code deleteFinishedBatch} method to ensure it deletes at most the batch size of finished tasks
+     * in the given status that expired before the cutoff, oldest first, and leaves all other tasks in place.
+     */
+    @Test
+    void deleteFinishedBatch_shouldDeleteOldestMatchingTasksUpToLimit() {
+        // Arrange
+        Order order = Order.builder()
+                .status(OrderStatus.CREATED)
+                .createdAt(now)
+                .totalAmount(BigDecimal.ZERO)
+                .build();
+        entityManager.persist(order);
+        OrderExpirationTask oldest = persistTask(order, now.minusDays(3), TaskStatus.SENT);
+        OrderExpirationTask older = persistTask(order, now.minusDays(2), TaskStatus.SENT);
+        OrderExpirationTask old = persistTask(order, now.minusDays(1).minusMinutes(1), TaskStatus.SENT);
+        OrderExpirationTask recent = persistTask(order, now.minusHours(1), TaskStatus.SENT);
+        OrderExpirationTask failed = persistTask(order, now.minusDays(3), TaskStatus.FAILED);
+        OrderExpirationTask pending = persistTask(order, now.minusDays(3), TaskStatus.PENDING);
+        entityManager.flush();
+        entityManager.clear();
+
+        // Act
+        int firstBatch = repository.deleteFinishedBatch(TaskStatus.SENT.name(), now.minusDays(1), 2);
+        int secondBatch = repository.deleteFinishedBatch(TaskStatus.SENT.name(), now.minusDays(1), 2);
+
+        // Assert
+        assertThat(firstBatch).isEqualTo(2);
+        assertThat(secondBatch).isEqualTo(1);
+        assertThat(repository.findAll()).extracting(OrderExpirationTask::getId)
+                .containsExactlyInAnyOrder(recent.getId(), failed.getId(), pending.getId())
+                .doesNotContain(oldest.getId(), older.getId(), old.getId());
+    }
+
+    /**
+     * Tests the {@code requeueFailed} method to ensure failed tasks become pending and due again
+     * with a fresh attempt budget, while other tasks are left untouched.
+     */
+    @Test
+    void requeueFailed_shouldResetFailedTasksOnly() {
+        // Arrange
+        Order order = Order.builder()
+                .status(OrderStatus.CREATED)
+                .createdAt(now)
+                .totalAmount(BigDecimal.ZERO)
+                .build();
+        entityManager.persist(order);
+        OrderExpirationTask failed = entityManager.persist(OrderExpirationTask.builder()
+                .orderId(order.getId())
+                .expirationTime(now.minusDays(1))
+                .status(TaskStatus.FAILED)
+                .attempts(5)
+                .build());
+        OrderExpirationTask sent = persistTask(order, now.minusDays(1), TaskStatus.SENT);
+        entityManager.flush();
+        entityManager.clear();
+
+        // Act
+        int requeued = repository.requeueFailed(now);
+
+        // Assert
+        assertThat(requeued).isEqualTo(1);
+        OrderExpirationTask requeuedTask = repository.findById(failed.getId()).orElseThrow();
+        assertThat(requeuedTask.getStatus()).isEqualTo(TaskStatus.PENDING);
+        assertThat(requeuedTask.getAttempts()).isZero();
+        assertThat(repository.findByStatusAndExpirationTimeBefore(TaskStatus.PENDING, now.plusSeconds(1)))
+                .extracting(OrderExpirationTask::getId).containsExactly(failed.getId());
+        assertThat(repository.findById(sent.getId()).orElseThrow().getStatus()).isEqualTo(TaskStatus.SENT);
+    }
+
+    private OrderExpirationTask persistTask(Order order, LocalDateTime expirationTime, TaskStatus status) {
+        return entityManager.persist(OrderExpirationTask.builder()
+                .orderId(order.getId())
+                .expirationTime(expirationTime)
+                .status(status)
+                .build());
+    }
+}
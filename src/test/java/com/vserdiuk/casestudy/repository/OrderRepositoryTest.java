@@ -0,0 +1,185 @@
+package com.vserdiuk.casestudy.repository;
+
+import com.vserdiuk.casestudy.entity.Order;
+import com.vserdiuk.casestudy.entity.OrderProduct;
+import com.vserdiuk.casestudy.entity.OrderStatus;
+import com.vserdiuk.casestudy.entity.Product;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Unit tests for the {@link OrderRepository} class, verifying the guarded status transitions and the
+ * grouped queries that build the Order analytics read model.
+ */
+@DataJpaTest
+class OrderRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private OrderRepository repository;
+
+    @Autowired
+    private OrderProductRepository orderProductRepository;
+
+    /**
+     * Tests that Orders are summarized per creation day and status, and units per Product and status.
+     * Revenue is taken from the Order totals, so repricing a Product afterwards does not change it.
+     */
+    @Test
+    void shouldSummarizeOrdersByDayAndProduct() {
+        // Arrange
+        Product keyboard = persistProduct("Keyboard", "10.00");
+        Product mouse = persistProduct("Mouse", "5.00");
+        LocalDateTime day = LocalDateTime.of(2025, 6, 1, 9, 0);
+        persistOrder(OrderStatus.PAID, day, keyboard, 2, mouse, 1);
+        persistOrder(OrderStatus.PAID, day.plusHours(5), keyboard, 1, mouse, 4);
+        persistOrder(OrderStatus.CREATED, day.plusDays(1), keyboard, 3, mouse, 1);
+        keyboard.setPrice(new BigDecimal("99.00"));
+        entityManager.flush();
+        entityManager.clear();
+
+        // Act
+        List<OrderRepository.DailyTotals> daily = repository.summarizeByDayAndStatus();
+        List<OrderRepository.ProductUnits> units = repository.summarizeByProductAndStatus();
+
+        // Assert
+        assertThat(daily).extracting(OrderRepository.DailyTotals::getDay, OrderRepository.DailyTotals::getStatus,
+                        OrderRepository.DailyTotals::getOrderCount)
+                .containsExactlyInAnyOrder(
+                        tuple(day.toLocalDate(), OrderStatus.PAID, 2L),
+                        tuple(day.toLocalDate().plusDays(1), OrderStatus.CREATED, 1L));
+        assertThat(daily).filteredOn(totals -> totals.getStatus() == OrderStatus.PAID)
+                .singleElement()
+                .satisfies(totals -> assertThat(totals.getRevenue()).isEqualByComparingTo("55.00"));
+        assertThat(units).extracting(OrderRepository.ProductUnits::getProductId, OrderRepository.ProductUnits::getStatus,
+                        OrderRepository.ProductUnits::getUnits)
+                .containsExactlyInAnyOrder(
+                        tuple(keyboard.getId(), OrderStatus.PAID, 3L),
+                        tuple(mouse.getId(), OrderStatus.PAID, 5L),
+                        tuple(keyboard.getId(), OrderStatus.CREATED, 3L),
+                        tuple(mouse.getId(), OrderStatus.CREATED, 1L));
+    }
+
+    /**
+     * Tests that guarded transitions only apply to CREATED Orders, so of two competing transitions
+     * only the first one updates the Order, and that the Order is then read back in its new status.
+     */
+    @Test
+    void shouldApplyGuardedTransitionsOnlyToCreatedOrders() {
+        // Arrange
+        Product keyboard = persistProduct("Keyboard", "10.00");
+        Product mouse = persistProduct("Mouse", "5.00");
+        Order order = persistOrder(OrderStatus.CREATED, LocalDateTime.now(), keyboard, 2, mouse, 1);
+        entityManager.flush();
+        LocalDateTime paidAt = LocalDateTime.of(2025, 6, 1, 12, 0);
+
+        // Act
+        int paid = repository.markPaidIfCreated(order.getId(), paidAt);
+        int cancelled = repository.updateStatusIfCreated(order.getId(), OrderStatus.CANCELLED);
+        int missing = repository.markPaidIfCreated(-1L, paidAt);
+
+        // Assert
+        assertThat(paid).isEqualTo(1);
+        assertThat(cancelled).isZero();
+        assertThat(missing).isZero();
+        Order reloaded = repository.findWithLinesById(order.getId()).orElseThrow();
+        assertThat(reloaded.getStatus()).isEqualTo(OrderStatus.PAID);
+        assertThat(reloaded.getPaidAt()).isEqualTo(paidAt);
+        assertThat(reloaded.getOrderProducts()).extracting(line -> line.getProduct().getName())
+                .containsExactlyInAnyOrder("Keyboard", "Mouse");
+    }
+
+    /**
+     * Tests that a batch transition locks and updates exactly the CREATED Orders of the batch, and that
+     * the remaining IDs can be told apart by an existence check.
+     */
+    @Test
+    void shouldTransitionCreatedOrdersOfBatch() {
+        // Arrange
+        Product keyboard = persistProduct("Keyboard", "10.00");
+        Product mouse = persistProduct("Mouse", "5.00");
+        Order first = persistOrder(OrderStatus.CREATED, LocalDateTime.now(), keyboard, 1, mouse, 1);
+        Order second = persistOrder(OrderStatus.CREATED, LocalDateTime.now(), keyboard, 2, mouse, 2);
+        Order paid = persistOrder(OrderStatus.PAID, LocalDateTime.now(), keyboard, 1, mouse, 1);
+        entityManager.flush();
+        List<Long> batch = List.of(second.getId(), paid.getId(), -1L, first.getId());
+
+        // Act
+        List<Long> createdIds = repository.lockCreatedIds(batch);
+        int cancelled = repository.updateStatusIfCreated(createdIds, OrderStatus.CANCELLED);
+        List<Long> existingIds = repository.findExistingIds(List.of(paid.getId(), -1L));
+
+        // Assert
+        assertThat(createdIds).containsExactly(first.getId(), second.getId());
+        assertThat(cancelled).isEqualTo(2);
+        assertThat(existingIds).containsExactly(paid.getId());
+        assertThat(repository.findWithLinesByIdIn(createdIds))
+                .allSatisfy(order -> assertThat(order.getStatus()).isEqualTo(OrderStatus.CANCELLED))
+                .flatExtracting(Order::getOrderProducts)
+                .hasSize(4);
+    }
+
+    /**
+     * Tests that only Products referenced by an Order line are reported, once each.
+     */
+    @Test
+    void shouldFindReferencedProductIds() {
+        // Arrange
+        Product keyboard = persistProduct("Keyboard", "10.00");
+        Product mouse = persistProduct("Mouse", "5.00");
+        Product lamp = persistProduct("Lamp", "20.00");
+        persistOrder(OrderStatus.PAID, LocalDateTime.now(), keyboard, 1, mouse, 1);
+        persistOrder(OrderStatus.CREATED, LocalDateTime.now(), keyboard, 2, mouse, 2);
+        entityManager.flush();
+
+        // Act
+        List<Long> referenced = orderProductRepository.findReferencedProductIds(
+                List.of(keyboard.getId(), lamp.getId()));
+
+        // Assert
+        assertThat(referenced).containsExactly(keyboard.getId());
+    }
+
+    private Product persistProduct(String name, String price) {
+        return entityManager.persist(Product.builder()
+                .name(name)
+                .price(new BigDecimal(price))
+                .stockQuantity(100)
+                .build());
+    }
+
+    private Order persistOrder(OrderStatus status, LocalDateTime createdAt,
+                              Product first, int firstQuantity, Product second, int secondQuantity) {
+        Order order = Order.builder()
+                .status(status)
+                .createdAt(createdAt)
+                .build();
+        order.setOrderProducts(List.of(line(order, first, firstQuantity), line(order, second, secondQuantity)));
+        order.setTotalAmount(order.getOrderProducts().stream()
+                .map(OrderProduct::getLineTotal)
+                .reduce(BigDecimal.ZERO, BigDecimal::add));
+        return entityManager.persist(order);
+    }
+
+    private static OrderProduct line(Order order, Product product, int quantity) {
+        return OrderProduct.builder()
+                .order(order)
+                .product(product)
+                .productName(product.getName())
+                .quantity(quantity)
+                .unitPrice(product.getPrice())
+                .lineTotal(product.getPrice().multiply(BigDecimal.valueOf(quantity)))
+                .build();
+    }
+}
@@ -1,15 +1,26 @@
 package com.vserdiuk.casestudy.repository;
 
+import com.vserdiuk.casestudy.dto.ProductSortField;
 import com.vserdiuk.casestudy.entity.Product;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 
+import javax.sql.DataSource;
 import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -19,16 +30,22 @@ import static org.assertj.core.api.Assertions.assertThat;
  * This test class verifies the functionality of the {@link ProductRepository} using
  * Spring Data JPA's {@link DataJpaTest} environment. It tests various repository methods,
  * including existence checks by name, finding products by multiple names, and retrieving
- * products by IDs with optimistic locking. Each test ensures correct behavior for both
+ * products by IDs with a row lock. Each test ensures correct behavior for both
  * positive and negative scenarios, including edge cases like empty input collections.
+ * Filtered queries are additionally checked with {@code EXPLAIN} on the SQL Hibernate generates,
+ * to verify that they are served by the composite indexes.
  * </p>
  */
-@DataJpaTest
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.vserdiuk.casestudy.repository.ProductRepositoryTest$SqlCapture")
 class ProductRepositoryTest {
 
     @Autowired
     private ProductRepository productRepository;
 
+    @Autowired
+    private DataSource dataSource;
+
     /**
      * Tests that {@link ProductRepository#existsByName(String)} returns {@code true}
      * when a product with the given name exists in the database.
@@ -151,14 +168,14 @@ class ProductRepositoryTest {
 
     /**
      * Tests that {@link ProductRepository#findAllByIdWithLock(Set)} returns all products
-     * whose IDs match the provided set, using optimistic locking.
+     * whose IDs match the provided set, locking their rows.
      * <p>
      * Saves two {@link Product} entities and queries the repository with their IDs,
      * verifying that both products are returned with correct IDs.
      * </p>
      */
     @Test
-    @DisplayName("Should find products by IDs with optimistic lock")
+    @DisplayName("Should find products by IDs with pessimistic lock")
     void shouldFindProductsByIdsWithLock() {
         // Arrange
         Product product1 = Product.builder()
@@ -224,4 +241,230 @@ class ProductRepositoryTest {
         // Assert
         assertThat(foundProducts).isEmpty();
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests that {@link ProductRepository#findVersionById(Long)} returns the current version
+     * of a product and that the version advances when the product is modified.
+     */
+    @Test
+    @DisplayName("Should return product version and advance it on update")
+    void shouldReturnVersionAndAdvanceItOnUpdate() {
+        // Arrange
+        Product product = productRepository.saveAndFlush(Product.builder()
+                .name("Versioned Product")
+                .price(BigDecimal.valueOf(10.0))
+                .stockQuantity(100)
+                .build());
+        Long initialVersion = productRepository.findVersionById(product.getId()).orElseThrow();
+
+        // Act
+        product.setStockQuantity(99);
+        productRepository.saveAndFlush(product);
+
+        // Assert
+        assertThat(productRepository.findVersionById(product.getId())).contains(initialVersion + 1);
+        assertThat(productRepository.findVersionById(999L)).isEmpty();
+    }
+
+    /**
+     * Tests that {@link ProductRepository#incrementStock(Long, long)} adds units to the stock with a single
+     * statement and advances the version, so writers holding the previous version fail their optimistic check.
+     */
+    @Test
+    @DisplayName("Should increment stock and advance version")
+    void shouldIncrementStockAndAdvanceVersion() {
+        // Arrange
+        Product product = productRepository.saveAndFlush(Product.builder()
+                .name("Released Product")
+                .price(BigDecimal.valueOf(10.0))
+                .stockQuantity(5)
+                .build());
+        Long initialVersion = product.getVersion();
+
+        // Act
+        int updated = productRepository.incrementStock(product.getId(), 7);
+
+        // Assert
+        assertThat(updated).isEqualTo(1);
+        Product reloaded = productRepository.findById(product.getId()).orElseThrow();
+        assertThat(reloaded.getStockQuantity()).isEqualTo(12);
+        assertThat(reloaded.getVersion()).isEqualTo(initialVersion + 1);
+    }
+
+    /**
+     * Tests that {@link ProductRepository#findNameById(Long)} and {@link ProductRepository#streamAllNames()}
+     * return product names without loading the entities.
+     */
+    @Test
+    @DisplayName("Should return product names by ID and stream all names")
+    void shouldReturnNameByIdAndStreamAllNames() {
+        // Arrange
+        Product product = productRepository.save(Product.builder()
+                .name("Named Product")
+                .price(BigDecimal.valueOf(10.0))
+                .stockQuantity(100)
+                .build());
+
+        // Act
+        List<String> allNames;
+        try (Stream<String> names = productRepository.streamAllNames()) {
+            allNames = names.toList();
+        }
+
+        // Assert
+        assertThat(productRepository.findNameById(product.getId())).contains("Named Product");
+        assertThat(productRepository.findNameById(999L)).isEmpty();
+        assertThat(allNames).containsExactly("Named Product");
+    }
+
+    /**
+     * Tests that {@link ProductRepository#findIdAndNameByIdIn(java.util.Collection)} returns only existing products
+     * and that {@link ProductRepository#deleteByIdIn(java.util.Collection)} deletes them with a single statement.
+     */
+    @Test
+    @DisplayName("Should find IDs and names and delete products by IDs")
+    void shouldFindIdsAndNamesAndDeleteByIds() {
+        // Arrange
+        Product first = productRepository.save(Product.builder()
+                .name("First Product")
+                .price(BigDecimal.valueOf(10.0))
+                .stockQuantity(100)
+                .build());
+        Product second = productRepository.save(Product.builder()
+                .name("Second Product")
+                .price(BigDecimal.valueOf(20.0))
+                .stockQuantity(100)
+                .build());
+        Product kept = productRepository.save(Product.builder()
+                .name("Kept Product")
+                .price(BigDecimal.valueOf(30.0))
+                .stockQuantity(100)
+                .build());
+        List<Long> ids = List.of(first.getId(), second.getId(), 999L);
+
+        // Act
+        List<ProductRepository.IdAndName> existing = productRepository.findIdAndNameByIdIn(ids);
+        int deleted = productRepository.deleteByIdIn(ids);
+
+        // Assert
+        assertThat(existing).extracting(ProductRepository.IdAndName::getName)
+                .containsExactlyInAnyOrder("First Product", "Second Product");
+        assertThat(deleted).isEqualTo(2);
+        assertThat(productRepository.findAll()).extracting(Product::getId).containsExactly(kept.getId());
+    }
+
+    /**
+     * Tests that a price-range, in-stock query sorted by price returns the matching products in order
+     * and that the keyset predicate continues exactly after the last product of the previous page.
+     */
+    @Test
+    @DisplayName("Should filter by price and stock and continue after a keyset position")
+    void shouldFilterAndContinueAfterKeysetPosition() {
+        // Arrange
+        List<Product> products = productRepository.saveAll(IntStream.rangeClosed(1, 6)
+                .mapToObj(i -> Product.builder()
+                        .name("Filtered " + i)
+                        .price(BigDecimal.valueOf(i <= 3 ? 10 : i * 10L))
+                        .stockQuantity(i == 5 ? 0 : 10)
+                        .build())
+                .toList());
+        Specification<Product> filter = Specification.allOf(
+                ProductSpecifications.priceAtLeast(BigDecimal.TEN),
+                ProductSpecifications.priceAtMost(BigDecimal.valueOf(60)),
+                ProductSpecifications.inStock(true));
+        Sort sort = Sort.by(Sort.Direction.ASC, "price", "id");
+
+        // Act
+        List<Product> firstPage = productRepository.findBy(filter, query -> query.sortBy(sort).limit(2).all());
+        Product last = firstPage.get(1);
+        List<Product> secondPage = productRepository.findBy(
+                filter.and(ProductSpecifications.after(ProductSortField.PRICE, Sort.Direction.ASC, last.getPrice(), last.getId())),
+                query -> query.sortBy(sort).limit(10).all());
+
+        // Assert
+        assertThat(firstPage).extracting(Product::getId)
+                .containsExactly(products.get(0).getId(), products.get(1).getId());
+        assertThat(secondPage).extracting(Product::getId)
+                .containsExactly(products.get(2).getId(), products.get(3).getId(), products.get(5).getId());
+    }
+
+    /**
+     * Tests with {@code EXPLAIN} that a keyset page filtered by price range and stock and sorted by price
+     * is served by a range seek on the {@code (price, id)} index without sorting.
+     */
+    @Test
+    @DisplayName("Should use the price index for price-sorted keyset pages")
+    void shouldUsePriceIndexForPriceSortedKeysetPage() throws Exception {
+        // Arrange
+        Specification<Product> filter = Specification.allOf(
+                ProductSpecifications.priceAtLeast(BigDecimal.TEN),
+                ProductSpecifications.priceAtMost(BigDecimal.valueOf(100)),
+                ProductSpecifications.inStock(true),
+                ProductSpecifications.after(ProductSortField.PRICE, Sort.Direction.ASC, BigDecimal.valueOf(20), 5L));
+
+        // Act
+        String plan = explain(() -> productRepository.findBy(filter,
+                query -> query.sortBy(Sort.by("price", "id")).limit(20).all()));
+
+        // Assert
+        assertThat(plan).contains("IDX_PRODUCTS_PRICE_ID").contains("index sorted");
+    }
+
+    /**
+     * Tests with {@code EXPLAIN} that a descending keyset page sorted by stock quantity is served by the
+     * {@code (stock_quantity, id)} index without sorting.
+     */
+    @Test
+    @DisplayName("Should use the stock index for stock-sorted keyset pages")
+    void shouldUseStockIndexForStockSortedKeysetPage() throws Exception {
+        // Arrange
+        Specification<Product> filter = Specification.allOf(
+                ProductSpecifications.inStock(true),
+                ProductSpecifications.after(ProductSortField.STOCK_QUANTITY, Sort.Direction.DESC, 50, 5L));
+
+        // Act
+        String plan = explain(() -> productRepository.findBy(filter,
+                query -> query.sortBy(Sort.by(Sort.Direction.DESC, "stockQuantity", "id")).limit(20).all()));
+
+        // Assert
+        assertThat(plan).contains("IDX_PRODUCTS_STOCK_QUANTITY_ID").contains("index sorted");
+    }
+
+    /**
+     * Runs a repository query, captures the SQL Hibernate generated for it and returns the
+     * database's execution plan for that SQL. Every parameter is bound to {@code 1}, which
+     * does not affect index selection.
+     */
+    private String explain(Runnable repositoryQuery) throws Exception {
+        SqlCapture.STATEMENTS.clear();
+        repositoryQuery.run();
+        String sql = SqlCapture.STATEMENTS.stream()
+                .filter(statement -> statement.startsWith("select"))
+                .reduce((first, second) -> second)
+                .orElseThrow();
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+            for (int i = 1; i <= statement.getParameterMetaData().getParameterCount(); i++) {
+                statement.setInt(i, 1);
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getString(1);
+            }
+        }
+    }
+
+    /**
+     * Hibernate {@link StatementInspector} recording the SQL of every executed statement.
+     */
+    public static class SqlCapture implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.vserdiuk.casestudy.search;
+
+import com.vserdiuk.casestudy.dto.ProductDTO;
+import com.vserdiuk.casestudy.entity.Product;
+import com.vserdiuk.casestudy.event.ProductsChangedEvent;
+import com.vserdiuk.casestudy.event.ProductsDeletedEvent;
+import com.vserdiuk.casestudy.repository.ProductRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link ProductSearchIndex}, verifying token, prefix and typo-tolerant matching,
+ * ranking, pagination and maintenance of the index on Product changes.
+ */
+class ProductSearchIndexTest {
+
+    private final ProductRepository productRepository = mock(ProductRepository.class);
+    private final ProductSearchIndex index = new ProductSearchIndex(productRepository);
+
+    /**
+     * Tests that exact token matches rank above prefix matches and shorter names break ties.
+     */
+    @Test
+    void shouldRankExactMatchesAbovePrefixMatches() {
+        // Arrange
+        index(1L, "Keyboard Cover");
+        index(2L, "Wireless Key");
+        index(3L, "Key");
+        index(4L, "Mouse");
+
+        // Act
+        Page<ProductDTO> result = index.search("key", PageRequest.of(0, 10));
+
+        // Assert
+        assertThat(result.getContent()).extracting(ProductDTO::getId).containsExactly(3L, 2L, 1L);
+        assertThat(result.getTotalElements()).isEqualTo(3);
+    }
+
+    /**
+     * Tests that misspelled query tokens still find the Product, and that all query tokens must match.
+     */
+    @Test
+    void shouldTolerateTyposAndRequireAllTokens() {
+        // Arrange
+        index(1L, "Wireless Keyboard");
+        index(2L, "Wired Keyboard");
+
+        // Act & Assert
+        assertThat(index.search("wireles keybaord", PageRequest.of(0, 10)).getContent())
+                .extracting(ProductDTO::getId).containsExactly(1L);
+        assertThat(index.search("KEYBORD", PageRequest.of(0, 10)).getContent())
+                .extracting(ProductDTO::getId).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(index.search("keyboard mouse", PageRequest.of(0, 10)).getContent()).isEmpty();
+        assertThat(index.search("  ", PageRequest.of(0, 10)).getContent()).isEmpty();
+    }
+
+    /**
+     * Tests that results are paginated after ranking.
+     */
+    @Test
+    void shouldPaginateRankedResults() {
+        // Arrange
+        for (long id = 1; id <= 5; id++) {
+            index(id, "Product " + id);
+        }
+
+        // Act
+        Page<ProductDTO> result = index.search("product", PageRequest.of(1, 2));
+
+        // Assert
+        assertThat(result.getContent()).extracting(ProductDTO::getId).containsExactly(3L, 4L);
+        assertThat(result.getTotalElements()).isEqualTo(5);
+        assertThat(result.getTotalPages()).isEqualTo(3);
+    }
+
+    /**
+     * Tests that reading stops once the page is settled, reporting a lower bound that signals the next page,
+     * and that better matches found in other postings still rank first.
+     */
+    @Test
+    void shouldStopReadingOnceThePageIsSettled() {
+        // Arrange
+        for (long id = 1; id <= 300; id++) {
+            index(id, (id % 2 == 0 ? "Keyboard " : "Keypad ") + id);
+        }
+        index(301L, "Key for a very long product name");
+
+        // Act
+        Page<ProductDTO> result = index.search("key", PageRequest.of(0, 3));
+        Page<ProductDTO> farPage = index.search("key", PageRequest.of(40, 5));
+
+        // Assert
+        assertThat(result.getContent()).extracting(ProductDTO::getId).containsExactly(301L, 1L, 3L);
+        assertThat(result.getTotalElements()).isBetween(100L, 300L);
+        assertThat(result.hasNext()).isTrue();
+        assertThat(farPage.getContent()).extracting(ProductDTO::getId).containsExactly(100L, 102L, 104L, 106L, 108L);
+        assertThat(farPage.hasNext()).isTrue();
+    }
+
+    /**
+     * Tests that renamed Products are re-tokenized and deleted Products disappear from results.
+     */
+    @Test
+    void shouldFollowRenamesAndDeletions() {
+        // Arrange
+        index(1L, "Desk Lamp");
+        index(2L, "Desk Chair");
+
+        // Act
+        index(1L, "Floor Lamp");
+        index.onProductsDeleted(new ProductsDeletedEvent(List.of(2L)));
+
+        // Assert
+        assertThat(index.search("desk", PageRequest.of(0, 10)).getContent()).isEmpty();
+        assertThat(index.search("floor", PageRequest.of(0, 10)).getContent())
+                .extracting(ProductDTO::getName).containsExactly("Floor Lamp");
+    }
+
+    /**
+     * Tests that loading keeps newer snapshots delivered by change events and pages through all Products.
+     */
+    @Test
+    void shouldLoadAllProductsWithoutOverwritingNewerSnapshots() {
+        // Arrange
+        Product stale = Product.builder().id(1L).name("Old Name").price(BigDecimal.ONE).stockQuantity(1).build();
+        Product other = Product.builder().id(2L).name("Lamp").price(BigDecimal.ONE).stockQuantity(1).build();
+        when(productRepository.findAll(any(Pageable.class))).thenAnswer(invocation -> {
+            index(1L, "New Name");
+            return new PageImpl<>(List.of(stale, other), invocation.getArgument(0), 2);
+        });
+
+        // Act
+        index.load();
+
+        // Assert
+        assertThat(index.search("name", PageRequest.of(0, 10)).getContent())
+                .extracting(ProductDTO::getName).containsExactly("New Name");
+        assertThat(index.search("lamp", PageRequest.of(0, 10)).getContent())
+                .extracting(ProductDTO::getId).containsExactly(2L);
+    }
+
+    private void index(Long id, String name) {
+        index.onProductsChanged(new ProductsChangedEvent(List.of(ProductDTO.builder()
+                .id(id)
+                .name(name)
+                .price(BigDecimal.TEN)
+                .stockQuantity(1)
+                .build())));
+    }
+}
@@ -0,0 +1,106 @@
+package com.vserdiuk.casestudy.service.impl;
+
+import com.vserdiuk.casestudy.dto.ExpirationReplayDTO;
+import com.vserdiuk.casestudy.repository.OrderExpirationTaskRepository;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+
+import static com.vserdiuk.casestudy.config.KafkaTopicsConfig.ORDER_EXPIRATION_PARKING_LOT_TOPIC;
+import static com.vserdiuk.casestudy.config.KafkaTopicsConfig.ORDER_EXPIRATION_TOPIC;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link ExpirationRecoveryServiceImpl}, verifying that failed tasks are requeued and parked
+ * events are republished once, using a {@link MockConsumer} in place of the parking lot consumer.
+ */
+class ExpirationRecoveryServiceImplTest {
+
+    private final TopicPartition partition = new TopicPartition(ORDER_EXPIRATION_PARKING_LOT_TOPIC, 0);
+    private final OrderExpirationTaskRepository taskRepository = mock(OrderExpirationTaskRepository.class);
+    @SuppressWarnings("unchecked")
+    private final ConsumerFactory<String, String> consumerFactory = mock(ConsumerFactory.class);
+    @SuppressWarnings("unchecked")
+    private final KafkaTemplate<String, String> kafkaTemplate = mock(KafkaTemplate.class);
+    private final ExpirationRecoveryServiceImpl service =
+            new ExpirationRecoveryServiceImpl(taskRepository, consumerFactory, kafkaTemplate);
+    private MockConsumer<String, String> consumer;
+
+    /**
+     * Sets up a parking lot with three parked events and a broker acknowledging every send.
+     */
+    @BeforeEach
+    void setUp() {
+        consumer = spy(new MockConsumer<>(OffsetResetStrategy.EARLIEST));
+        consumer.updatePartitions(ORDER_EXPIRATION_PARKING_LOT_TOPIC,
+                List.of(new PartitionInfo(ORDER_EXPIRATION_PARKING_LOT_TOPIC, 0, null, null, null)));
+        consumer.updateBeginningOffsets(Map.of(partition, 0L));
+        consumer.schedulePollTask(() -> {
+            for (long offset = 0; offset < 3; offset++) {
+                consumer.addRecord(new ConsumerRecord<>(ORDER_EXPIRATION_PARKING_LOT_TOPIC, 0, offset, null, String.valueOf(offset + 100)));
+            }
+        });
+        when(consumerFactory.createConsumer(eq(ExpirationRecoveryServiceImpl.REPLAY_GROUP_ID), isNull(), isNull(), any(Properties.class)))
+                .thenReturn(consumer);
+        when(kafkaTemplate.send(anyString(), anyString())).thenReturn(CompletableFuture.completedFuture(null));
+    }
+
+    /**
+     * Tests that failed tasks are requeued and at most the requested number of parked events is republished,
+     * committing the offset after the last republished event.
+     */
+    @Test
+    void shouldRequeueFailedTasksAndReplayParkedEventsUpToLimit() {
+        // Arrange
+        when(taskRepository.requeueFailed(any(LocalDateTime.class))).thenReturn(4);
+
+        // Act
+        ExpirationReplayDTO result = service.replay(2);
+
+        // Assert
+        assertThat(result.getRequeuedTasks()).isEqualTo(4);
+        assertThat(result.getReplayedMessages()).isEqualTo(2);
+        verify(kafkaTemplate).send(ORDER_EXPIRATION_TOPIC, "100");
+        verify(kafkaTemplate).send(ORDER_EXPIRATION_TOPIC, "101");
+        verify(kafkaTemplate, never()).send(ORDER_EXPIRATION_TOPIC, "102");
+        verify(consumer).commitSync(Map.of(partition, new OffsetAndMetadata(2)));
+        assertThat(consumer.closed()).isTrue();
+    }
+
+    /**
+     * Tests that offsets are not committed when a republished event is not acknowledged, so it is replayed again.
+     */
+    @Test
+    void shouldNotCommitWhenRepublishingFails() {
+        // Arrange
+        when(kafkaTemplate.send(ORDER_EXPIRATION_TOPIC, "101")).thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+
+        // Act & Assert
+        assertThatThrownBy(() -> service.replay(10))
+                .hasCauseInstanceOf(IllegalStateException.class);
+        verify(consumer, never()).commitSync(any(Map.class));
+    }
+}
@@ -0,0 +1,83 @@
+package com.vserdiuk.casestudy.service.impl;
+
+import com.vserdiuk.casestudy.dto.OrderTransitionDTO;
+import com.vserdiuk.casestudy.dto.OrderTransitionOutcome;
+import com.vserdiuk.casestudy.exception.BusinessException;
+import com.vserdiuk.casestudy.service.OrderService;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link OrderBulkServiceImpl}, verifying chunking, per-ID outcomes and isolation of failed chunks.
+ */
+class OrderBulkServiceImplTest {
+
+    private final OrderService orderService = mock(OrderService.class);
+    private final OrderBulkServiceImpl orderBulkService = new OrderBulkServiceImpl(orderService, 2, 5);
+
+    /**
+     * Tests that distinct IDs are transitioned in chunks and the outcomes are mapped back onto the requested IDs.
+     */
+    @Test
+    void shouldTransitionDistinctIdsInChunksAndKeepRequestOrder() {
+        // Arrange
+        when(orderService.payOrders(any())).thenAnswer(invocation -> applied(invocation.getArgument(0)));
+
+        // Act
+        List<OrderTransitionDTO> result = orderBulkService.payOrders(List.of(3L, 1L, 3L, 2L));
+
+        // Assert
+        assertThat(result).extracting(OrderTransitionDTO::getOrderId).containsExactly(3L, 1L, 3L, 2L);
+        assertThat(result).extracting(OrderTransitionDTO::getOutcome).containsOnly(OrderTransitionOutcome.APPLIED);
+        verify(orderService).payOrders(List.of(3L, 1L));
+        verify(orderService).payOrders(List.of(2L));
+    }
+
+    /**
+     * Tests that a failing chunk is reported as failed per ID without affecting the other chunks.
+     */
+    @Test
+    void shouldReportFailedChunkAndContinue() {
+        // Arrange
+        when(orderService.cancelOrders(List.of(1L, 2L))).thenThrow(new BusinessException("Concurrent modification"));
+        when(orderService.cancelOrders(List.of(3L))).thenReturn(applied(List.of(3L)));
+
+        // Act
+        List<OrderTransitionDTO> result = orderBulkService.cancelOrders(List.of(1L, 2L, 3L));
+
+        // Assert
+        assertThat(result).extracting(OrderTransitionDTO::getOutcome).containsExactly(
+                OrderTransitionOutcome.FAILED, OrderTransitionOutcome.FAILED, OrderTransitionOutcome.APPLIED);
+    }
+
+    /**
+     * Tests that empty batches, batches with null IDs and batches above the limit are rejected.
+     */
+    @Test
+    void shouldRejectInvalidBatches() {
+        // Act & Assert
+        assertThatThrownBy(() -> orderBulkService.payOrders(List.of())).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> orderBulkService.payOrders(Arrays.asList(1L, null))).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> orderBulkService.payOrders(List.of(1L, 2L, 3L, 4L, 5L, 6L)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("At most 5");
+        verify(orderService, never()).payOrders(any());
+    }
+
+    private static List<OrderTransitionDTO> applied(Collection<Long> ids) {
+        return ids.stream()
+                .map(id -> OrderTransitionDTO.builder().orderId(id).outcome(OrderTransitionOutcome.APPLIED).build())
+                .toList();
+    }
+}
@@ -0,0 +1,148 @@
+/**
+ * Unit tests for the {@link OrderIntakeServiceImpl} class, which accepts orders into a bounded
+ * queue and processes them asynchronously in batches.
+ */
+package com.vserdiuk.casestudy.service.impl;
+
+import com.vserdiuk.casestudy.dto.CreateOrderDTO;
+import com.vserdiuk.casestudy.dto.OrderCreationResultDTO;
+import com.vserdiuk.casestudy.dto.OrderDTO;
+import com.vserdiuk.casestudy.dto.OrderRejectionDTO;
+import com.vserdiuk.casestudy.dto.OrderRequestDTO;
+import com.vserdiuk.casestudy.dto.OrderRequestStatus;
+import com.vserdiuk.casestudy.exception.ServiceOverloadedException;
+import com.vserdiuk.casestudy.service.OrderService;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class for {@link OrderIntakeServiceImpl} using Mockito for mocking dependencies and AssertJ for assertions.
+ */
+class OrderIntakeServiceImplTest {
+
+    private final OrderService orderService = mock(OrderService.class);
+
+    private OrderIntakeServiceImpl intakeService;
+
+    /**
+     * Stops the intake workers after each test method.
+     */
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (intakeService != null) {
+            intakeService.stop();
+        }
+    }
+
+    /**
+     * Tests that an accepted request is processed by the workers and its final status becomes available.
+     */
+    @Test
+    void shouldCompleteSubmittedRequest() throws InterruptedException {
+        // Arrange
+        when(orderService.createOrders(anyList())).thenReturn(List.of(OrderRequestDTO.builder()
+                .status(OrderRequestStatus.COMPLETED)
+                .orderId(42L)
+                .build()));
+        intakeService = startIntake(10);
+
+        // Act
+        OrderRequestDTO accepted = intakeService.submit(new CreateOrderDTO());
+
+        // Assert
+        assertThat(accepted.getStatus()).isEqualTo(OrderRequestStatus.ACCEPTED);
+        OrderRequestDTO completed = awaitFinalStatus(accepted.getReference());
+        assertThat(completed.getStatus()).isEqualTo(OrderRequestStatus.COMPLETED);
+        assertThat(completed.getOrderId()).isEqualTo(42L);
+        assertThat(completed.getCompletedAt()).isNotNull();
+    }
+
+    /**
+     * Tests that requests are retried one by one when the batch transaction fails,
+     * so business rejections are reported per request.
+     */
+    @Test
+    void shouldFallBackToSingleProcessingWhenBatchFails() throws InterruptedException {
+        // Arrange
+        when(orderService.createOrders(anyList())).thenThrow(new IllegalStateException("Batch failed"));
+        when(orderService.createOrder(any(CreateOrderDTO.class))).thenReturn(OrderCreationResultDTO.builder()
+                .rejection(OrderRejectionDTO.builder().message("Insufficient stock for product: Product 1").build())
+                .build());
+        intakeService = startIntake(10);
+
+        // Act
+        OrderRequestDTO accepted = intakeService.submit(new CreateOrderDTO());
+
+        // Assert
+        OrderRequestDTO rejected = awaitFinalStatus(accepted.getReference());
+        assertThat(rejected.getStatus()).isEqualTo(OrderRequestStatus.REJECTED);
+        assertThat(rejected.getMessage()).isEqualTo("Insufficient stock for product: Product 1");
+    }
+
+    /**
+     * Tests that submissions are refused once the bounded queue is full.
+     */
+    @Test
+    void shouldRejectSubmissionWhenQueueIsFull() {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        when(orderService.createOrders(anyList())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return List.of(OrderRequestDTO.builder().status(OrderRequestStatus.COMPLETED).orderId(1L).build());
+        });
+        when(orderService.createOrder(any(CreateOrderDTO.class)))
+                .thenReturn(OrderCreationResultDTO.builder().order(OrderDTO.builder().id(1L).build()).build());
+        intakeService = startIntake(1);
+
+        // Act & Assert
+        assertThatThrownBy(() -> {
+            for (int i = 0; i < 10; i++) {
+                intakeService.submit(new CreateOrderDTO());
+            }
+        }).isInstanceOf(ServiceOverloadedException.class)
+                .hasMessageContaining("queue is full");
+        release.countDown();
+    }
+
+    /**
+     * Tests that looking up an unknown reference fails with {@link EntityNotFoundException}.
+     */
+    @Test
+    void shouldThrowWhenReferenceIsUnknown() {
+        // Arrange
+        intakeService = startIntake(10);
+
+        // Act & Assert
+        assertThatThrownBy(() -> intakeService.getStatus("unknown"))
+                .isInstanceOf(EntityNotFoundException.class)
+                .hasMessageContaining("Order request not found with reference: unknown");
+    }
+
+    private OrderIntakeServiceImpl startIntake(int queueCapacity) {
+        OrderIntakeServiceImpl service = new OrderIntakeServiceImpl(orderService, queueCapacity, 1, 10, 100);
+        service.start();
+        return service;
+    }
+
+    private OrderRequestDTO awaitFinalStatus(String reference) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(5);
+        OrderRequestDTO request = intakeService.getStatus(reference);
+        while (request.getStatus() == OrderRequestStatus.ACCEPTED && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+            request = intakeService.getStatus(reference);
+        }
+        return request;
+    }
+}
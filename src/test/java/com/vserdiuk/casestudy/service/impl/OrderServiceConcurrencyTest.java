@@ -0,0 +1,158 @@
+package com.vserdiuk.casestudy.service.impl;
+
+import com.vserdiuk.casestudy.dto.CreateOrderDTO;
+import com.vserdiuk.casestudy.dto.CreateProductDTO;
+import com.vserdiuk.casestudy.dto.OrderCreationResultDTO;
+import com.vserdiuk.casestudy.dto.OrderProductDTO;
+import com.vserdiuk.casestudy.dto.OrderRequestDTO;
+import com.vserdiuk.casestudy.dto.OrderRequestStatus;
+import com.vserdiuk.casestudy.dto.ProductDTO;
+import com.vserdiuk.casestudy.repository.ProductRepository;
+import com.vserdiuk.casestudy.service.OrderService;
+import com.vserdiuk.casestudy.service.ProductService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Concurrency tests for {@link OrderServiceImpl} against the in-memory database of the application context,
+ * verifying that reservations and releases of the same Product wait for each other instead of failing.
+ */
+@SpringBootTest(properties = {"spring.kafka.listener.auto-startup=false", "spring.main.lazy-initialization=false"})
+@ActiveProfiles("fast")
+class OrderServiceConcurrencyTest {
+
+    private static final int ORDERS = 20;
+    private static final int INITIAL_STOCK = 1_000;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    /**
+     * Tests that cancellations and expirations running concurrently with reservations of the same Product
+     * all succeed, and that every released and reserved unit is accounted for in the stock.
+     */
+    @Test
+    void shouldReleaseStockWhileProductIsReservedConcurrently() throws Exception {
+        // Arrange
+        ProductDTO product = productService.createProduct(createDto());
+        List<Long> orderIds = IntStream.range(0, 2 * ORDERS)
+                .mapToObj(i -> orderService.createOrder(orderDto(product)).getOrder().getId())
+                .toList();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> releases = new ArrayList<>();
+        List<Future<OrderCreationResultDTO>> reservations = new ArrayList<>();
+
+        // Act
+        try {
+            for (int i = 0; i < ORDERS; i++) {
+                Long cancelId = orderIds.get(i);
+                Long expireId = orderIds.get(ORDERS + i);
+                releases.add(executor.submit(awaiting(start, () -> {
+                    orderService.cancelOrder(cancelId);
+                    return null;
+                })));
+                releases.add(executor.submit(awaiting(start, () -> {
+                    orderService.expireOrderById(expireId);
+                    return null;
+                })));
+                reservations.add(executor.submit(awaiting(start, () -> orderService.createOrder(orderDto(product)))));
+            }
+            start.countDown();
+            for (Future<?> release : releases) {
+                release.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // Assert
+        for (Future<OrderCreationResultDTO> reservation : reservations) {
+            assertThat(reservation.get().isCreated()).isTrue();
+        }
+        assertThat(productRepository.findById(product.getId()).orElseThrow().getStockQuantity())
+                .isEqualTo(INITIAL_STOCK - ORDERS);
+    }
+
+    /**
+     * Tests that single and batch orders of the same Product placed concurrently all succeed,
+     * waiting for each other's row lock, and that every reserved unit is accounted for in the stock.
+     */
+    @Test
+    void shouldReserveStockForConcurrentOrdersOfTheSameProduct() throws Exception {
+        // Arrange
+        ProductDTO product = productService.createProduct(createDto());
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<OrderCreationResultDTO>> orders = new ArrayList<>();
+        List<Future<List<OrderRequestDTO>>> batches = new ArrayList<>();
+
+        // Act
+        try {
+            for (int i = 0; i < ORDERS; i++) {
+                orders.add(executor.submit(awaiting(start, () -> orderService.createOrder(orderDto(product)))));
+                batches.add(executor.submit(awaiting(start,
+                        () -> orderService.createOrders(List.of(orderDto(product), orderDto(product))))));
+            }
+            start.countDown();
+            for (Future<OrderCreationResultDTO> order : orders) {
+                assertThat(order.get().isCreated()).isTrue();
+            }
+            for (Future<List<OrderRequestDTO>> batch : batches) {
+                assertThat(batch.get()).extracting(OrderRequestDTO::getStatus)
+                        .containsOnly(OrderRequestStatus.COMPLETED);
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // Assert
+        assertThat(productRepository.findById(product.getId()).orElseThrow().getStockQuantity())
+                .isEqualTo(INITIAL_STOCK - 3 * ORDERS);
+    }
+
+    private static <T> Callable<T> awaiting(CountDownLatch start, Callable<T> task) {
+        return () -> {
+            start.await();
+            return task.call();
+        };
+    }
+
+    private CreateProductDTO createDto() {
+        CreateProductDTO dto = new CreateProductDTO();
+        dto.setName("Concurrency " + UUID.randomUUID());
+        dto.setPrice(new BigDecimal("10.00"));
+        dto.setStockQuantity(INITIAL_STOCK);
+        return dto;
+    }
+
+    private CreateOrderDTO orderDto(ProductDTO product) {
+        OrderProductDTO item = new OrderProductDTO();
+        item.setProductId(product.getId());
+        item.setQuantity(1);
+        CreateOrderDTO dto = new CreateOrderDTO();
+        dto.setItems(List.of(item));
+        return dto;
+    }
+}
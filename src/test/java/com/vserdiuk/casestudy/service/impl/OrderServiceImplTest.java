@@ -4,32 +4,56 @@
  */
 package com.vserdiuk.casestudy.service.impl;
 
+import com.vserdiuk.casestudy.cache.ProductCache;
 import com.vserdiuk.casestudy.dto.CreateOrderDTO;
+import com.vserdiuk.casestudy.dto.OrderCreationResultDTO;
 import com.vserdiuk.casestudy.dto.OrderDTO;
+import com.vserdiuk.casestudy.dto.OrderLineRejectionDTO;
+import com.vserdiuk.casestudy.dto.OrderLineRejectionReason;
 import com.vserdiuk.casestudy.dto.OrderProductDTO;
+import com.vserdiuk.casestudy.dto.OrderQuoteDTO;
+import com.vserdiuk.casestudy.dto.OrderQuoteLineDTO;
+import com.vserdiuk.casestudy.dto.OrderRequestDTO;
+import com.vserdiuk.casestudy.dto.OrderRequestStatus;
+import com.vserdiuk.casestudy.dto.OrderTransitionDTO;
+import com.vserdiuk.casestudy.dto.OrderTransitionOutcome;
+import com.vserdiuk.casestudy.dto.ProductDTO;
+import com.vserdiuk.casestudy.entity.ArchivedOrder;
+import com.vserdiuk.casestudy.entity.ArchivedOrderProduct;
 import com.vserdiuk.casestudy.entity.Order;
 import com.vserdiuk.casestudy.entity.OrderProduct;
 import com.vserdiuk.casestudy.entity.OrderStatus;
 import com.vserdiuk.casestudy.entity.Product;
+import com.vserdiuk.casestudy.event.OrderStatusChangedEvent;
 import com.vserdiuk.casestudy.exception.BusinessException;
 import com.vserdiuk.casestudy.messaging.OrderExpirationProducer;
+import com.vserdiuk.casestudy.money.Money;
+import com.vserdiuk.casestudy.repository.ArchivedOrderRepository;
 import com.vserdiuk.casestudy.repository.OrderRepository;
 import com.vserdiuk.casestudy.repository.ProductRepository;
 import com.vserdiuk.casestudy.validator.OrderValidator;
+import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -40,15 +64,24 @@ class OrderServiceImplTest {
     @Mock
     private OrderRepository orderRepository;
 
+    @Mock
+    private ArchivedOrderRepository archivedOrderRepository;
+
     @Mock
     private ProductRepository productRepository;
 
+    @Mock
+    private ProductCache productCache;
+
     @Mock
     private OrderExpirationProducer orderExpirationProducer;
 
     @Mock
     private OrderValidator orderValidator;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private OrderServiceImpl orderService;
 
@@ -61,7 +94,7 @@ class OrderServiceImplTest {
     }
 
     /**
-     * Tests successful order creation, verifying stock reduction and order persistence.
+     * Tests successful order creation, verifying stock reduction, order persistence and the price snapshot.
      */
     @Test
     void shouldCreateOrderSuccessfully() {
@@ -92,21 +125,67 @@ class OrderServiceImplTest {
         when(productRepository.saveAll(any())).thenReturn(List.of(product));
 
         // Act
-        OrderDTO result = orderService.createOrder(createOrderDTO);
+        OrderCreationResultDTO creation = orderService.createOrder(createOrderDTO);
+        OrderDTO result = creation.getOrder();
 
         // Assert
-        assertThat(result).isNotNull();
+        assertThat(creation.isCreated()).isTrue();
+        assertThat(creation.getRejection()).isNull();
         verify(productRepository).saveAll(any());
         verify(orderRepository).save(any(Order.class));
         verify(orderExpirationProducer).scheduleExpiration(1L, 30);
         assertThat(product.getStockQuantity()).isEqualTo(8); // Stock reduced by 2
+        assertThat(result.getTotalAmount()).isEqualByComparingTo("20.00");
+        ArgumentCaptor<Order> savedOrder = ArgumentCaptor.forClass(Order.class);
+        verify(orderRepository).save(savedOrder.capture());
+        assertThat(savedOrder.getValue().getOrderProducts()).singleElement().satisfies(line -> {
+            assertThat(line.getProductName()).isEqualTo(product.getName());
+            assertThat(line.getUnitPrice()).isEqualByComparingTo("10.00");
+            assertThat(line.getLineTotal()).isEqualByComparingTo("20.00");
+        });
+        assertThat(result.getLines()).singleElement().satisfies(line -> {
+            assertThat(line.getProductId()).isEqualTo(product.getId());
+            assertThat(line.getName()).isEqualTo(product.getName());
+            assertThat(line.getQuantity()).isEqualTo(2);
+            assertThat(line.getUnitPrice()).isEqualByComparingTo("10.00");
+            assertThat(line.getLineTotal()).isEqualByComparingTo("20.00");
+        });
     }
 
     /**
-     * Tests order creation failure due to insufficient product stock.
+     * Tests that a quote prices each line from the Product cache, reports unavailable lines with the
+     * same messages as order creation, and neither locks nor changes any Product.
      */
     @Test
-    void shouldFailToCreateOrderDueToInsufficientStock() {
+    void shouldQuoteOrderFromCacheWithoutLocking() {
+        // Arrange
+        ProductDTO keyboard = ProductDTO.builder().id(1L).name("Keyboard").price(new BigDecimal("10.00")).stockQuantity(5).build();
+        ProductDTO mouse = ProductDTO.builder().id(2L).name("Mouse").price(new BigDecimal("4.50")).stockQuantity(1).build();
+        CreateOrderDTO dto = new CreateOrderDTO();
+        dto.setItems(List.of(item(1L, 2), item(2L, 3), item(3L, 1)));
+        when(productCache.getProducts(Set.of(1L, 2L, 3L))).thenReturn(Map.of(1L, keyboard, 2L, mouse));
+
+        // Act
+        OrderQuoteDTO quote = orderService.quoteOrder(dto);
+
+        // Assert
+        assertThat(quote.getLines())
+                .extracting(OrderQuoteLineDTO::getProductId, OrderQuoteLineDTO::getLineTotal,
+                        OrderQuoteLineDTO::isAvailable, OrderQuoteLineDTO::getMessage)
+                .containsExactly(
+                        tuple(1L, new BigDecimal("20.00"), true, null),
+                        tuple(2L, new BigDecimal("13.50"), false, "Insufficient stock for product: Mouse"),
+                        tuple(3L, null, false, "Product not found with id: 3"));
+        assertThat(quote.getTotalAmount()).isEqualByComparingTo("33.50");
+        assertThat(quote.isAvailable()).isFalse();
+        verifyNoInteractions(productRepository, orderRepository, eventPublisher);
+    }
+
+    /**
+     * Tests that an order exceeding the product stock is rejected with a reason per line instead of an exception.
+     */
+    @Test
+    void shouldRejectOrderDueToInsufficientStock() {
         // Arrange
         Product product = Product.builder()
                 .id(1L)
@@ -122,20 +201,25 @@ class OrderServiceImplTest {
 
         when(productRepository.findAllByIdWithLock(Set.of(1L))).thenReturn(List.of(product));
 
-        // Act & Assert
-        assertThatThrownBy(() -> orderService.createOrder(createOrderDTO))
-                .isInstanceOf(BusinessException.class)
-                .hasMessageContaining("Insufficient stock for product: Product 1");
+        // Act
+        OrderCreationResultDTO result = orderService.createOrder(createOrderDTO);
 
+        // Assert
+        assertThat(result.isCreated()).isFalse();
+        assertThat(result.getRejection().getMessage()).isEqualTo("Insufficient stock for product: Product 1");
+        assertThat(result.getRejection().getLines())
+                .extracting(OrderLineRejectionDTO::getProductId, OrderLineRejectionDTO::getReason)
+                .containsExactly(tuple(1L, OrderLineRejectionReason.INSUFFICIENT_STOCK));
+        assertThat(product.getStockQuantity()).isEqualTo(1);
         verify(productRepository, never()).saveAll(any());
         verify(orderRepository, never()).save(any());
     }
 
     /**
-     * Tests order creation failure when a product does not exist.
+     * Tests that an order referring to a non-existing product is rejected with a reason per line.
      */
     @Test
-    void shouldFailToCreateOrderDueToNonExistingProduct() {
+    void shouldRejectOrderDueToNonExistingProduct() {
         // Arrange
         OrderProductDTO orderProductDTO = new OrderProductDTO();
         orderProductDTO.setProductId(99L);
@@ -145,90 +229,179 @@ class OrderServiceImplTest {
 
         when(productRepository.findAllByIdWithLock(Set.of(99L))).thenReturn(List.of());
 
-        // Act & Assert
-        assertThatThrownBy(() -> orderService.createOrder(createOrderDTO))
-                .isInstanceOf(BusinessException.class)
-                .hasMessageContaining("Product not found with id: 99");
+        // Act
+        OrderCreationResultDTO result = orderService.createOrder(createOrderDTO);
+
+        // Assert
+        assertThat(result.isCreated()).isFalse();
+        assertThat(result.getRejection().getLines())
+                .extracting(OrderLineRejectionDTO::getReason, OrderLineRejectionDTO::getMessage)
+                .containsExactly(tuple(OrderLineRejectionReason.PRODUCT_NOT_FOUND, "Product not found with id: 99"));
 
         verify(productRepository, never()).saveAll(any());
         verify(orderRepository, never()).save(any());
     }
 
     /**
-     * Tests successful order cancellation, verifying stock restoration and status update.
+     * Tests batch order creation, verifying that orders are reserved in sequence against shared stock
+     * and that an order exceeding the remaining stock is rejected without affecting the others.
      */
     @Test
-    void shouldCancelOrderSuccessfully() {
+    void shouldCreateOrdersInBatchAndRejectUnfulfillableOnes() {
         // Arrange
         Product product = Product.builder()
                 .id(1L)
                 .name("Product 1")
                 .price(BigDecimal.valueOf(10.0))
-                .stockQuantity(8)
+                .stockQuantity(5)
                 .build();
-        OrderProduct orderProduct = OrderProduct.builder()
-                .product(product)
-                .quantity(2)
+        CreateOrderDTO first = createOrderDTO(1L, 3);
+        CreateOrderDTO second = createOrderDTO(1L, 3);
+        CreateOrderDTO third = createOrderDTO(1L, 2);
+
+        when(productRepository.findAllByIdWithLock(Set.of(1L))).thenReturn(List.of(product));
+        when(orderRepository.saveAll(any())).thenAnswer(invocation -> {
+            long id = 1L;
+            for (Order order : invocation.<Iterable<Order>>getArgument(0)) {
+                order.setId(id++);
+            }
+            return List.of();
+        });
+
+        // Act
+        List<OrderRequestDTO> results = orderService.createOrders(List.of(first, second, third));
+
+        // Assert
+        assertThat(results).extracting(OrderRequestDTO::getStatus)
+                .containsExactly(OrderRequestStatus.COMPLETED, OrderRequestStatus.REJECTED, OrderRequestStatus.COMPLETED);
+        assertThat(results.get(0).getOrderId()).isEqualTo(1L);
+        assertThat(results.get(1).getMessage()).contains("Insufficient stock for product: Product 1");
+        assertThat(results.get(2).getOrderId()).isEqualTo(2L);
+        assertThat(product.getStockQuantity()).isZero();
+        verify(productRepository).findAllByIdWithLock(Set.of(1L));
+        verify(orderExpirationProducer).scheduleExpiration(1L, 30);
+        verify(orderExpirationProducer).scheduleExpiration(2L, 30);
+    }
+
+    /**
+     * Tests that an order missing from the live tables is read from the archive.
+     */
+    @Test
+    void shouldGetArchivedOrderWhenNotLive() {
+        // Arrange
+        ArchivedOrder archived = ArchivedOrder.builder()
+                .id(7L)
+                .status(OrderStatus.PAID)
+                .createdAt(LocalDateTime.of(2024, 1, 10, 9, 30))
+                .totalAmount(new BigDecimal("21.00"))
+                .orderProducts(List.of(ArchivedOrderProduct.builder()
+                        .productId(3L)
+                        .productName("Keyboard")
+                        .quantity(2)
+                        .unitPrice(new BigDecimal("10.50"))
+                        .lineTotal(new BigDecimal("21.00"))
+                        .build()))
                 .build();
-        Order order = Order.builder()
+        when(orderRepository.findWithLinesById(7L)).thenReturn(Optional.empty());
+        when(archivedOrderRepository.findById(7L)).thenReturn(Optional.of(archived));
+        when(orderRepository.findWithLinesById(8L)).thenReturn(Optional.empty());
+        when(archivedOrderRepository.findById(8L)).thenReturn(Optional.empty());
+
+        // Act
+        OrderDTO result = orderService.getOrder(7L);
+
+        // Assert
+        assertThat(result.getStatus()).isEqualTo(OrderStatus.PAID);
+        assertThat(result.getTotalAmount()).isEqualByComparingTo("21.00");
+        assertThat(result.getLines()).singleElement().satisfies(line -> {
+            assertThat(line.getProductId()).isEqualTo(3L);
+            assertThat(line.getName()).isEqualTo("Keyboard");
+            assertThat(line.getQuantity()).isEqualTo(2);
+            assertThat(line.getUnitPrice()).isEqualByComparingTo("10.50");
+            assertThat(line.getLineTotal()).isEqualByComparingTo("21.00");
+        });
+        assertThatThrownBy(() -> orderService.getOrder(8L)).isInstanceOf(EntityNotFoundException.class);
+    }
+
+    /**
+     * Tests successful order cancellation, verifying the guarded transition and the relative stock restoration.
+     */
+    @Test
+    void shouldCancelOrderSuccessfully() {
+        // Arrange
+        Product product = Product.builder()
                 .id(1L)
-                .status(OrderStatus.CREATED)
-                .orderProducts(List.of(orderProduct))
+                .name("Product 1")
+                .price(BigDecimal.valueOf(10.0))
+                .stockQuantity(8)
                 .build();
+        Order order = orderWithLine(OrderStatus.CANCELLED, product, 2);
 
-        when(orderValidator.validateOrderIsCreated(1L, "canceled")).thenReturn(order);
-        when(productRepository.saveAll(any())).thenReturn(List.of(product));
-        when(orderRepository.save(any(Order.class))).thenReturn(order);
+        when(orderRepository.updateStatusIfCreated(1L, OrderStatus.CANCELLED)).thenReturn(1);
+        when(orderRepository.findWithLinesById(1L)).thenReturn(Optional.of(order));
+        when(productRepository.findAllById(Set.of(1L))).thenReturn(List.of(product));
 
         // Act
         orderService.cancelOrder(1L);
 
         // Assert
-        verify(productRepository).saveAll(any());
-        verify(orderRepository).save(order);
-        assertThat(order.getStatus()).isEqualTo(OrderStatus.CANCELLED);
-        assertThat(product.getStockQuantity()).isEqualTo(10); // Stock restored
+        verify(orderValidator).validateTransitionApplied(1, 1L, "canceled");
+        verify(productRepository).incrementStock(1L, 2L); // Stock restored
+        verify(productRepository, never()).saveAll(any());
+        verify(orderRepository, never()).save(any());
     }
 
     /**
-     * Tests failure to cancel an order that is not in CREATED status.
+     * Tests failure to cancel an order that is not in CREATED status, leaving stock untouched.
      */
     @Test
     void shouldFailToCancelNonCreatedOrder() {
         // Arrange
-        when(orderValidator.validateOrderIsCreated(1L, "canceled"))
-                .thenThrow(new BusinessException("Only CREATED orders can be canceled"));
+        when(orderRepository.updateStatusIfCreated(1L, OrderStatus.CANCELLED)).thenReturn(0);
+        doThrow(new BusinessException("Only CREATED orders can be canceled"))
+                .when(orderValidator).validateTransitionApplied(0, 1L, "canceled");
 
         // Act & Assert
         assertThatThrownBy(() -> orderService.cancelOrder(1L))
                 .isInstanceOf(BusinessException.class)
                 .hasMessageContaining("Only CREATED orders can be canceled");
 
+        verify(orderRepository, never()).findWithLinesById(any());
         verify(productRepository, never()).saveAll(any());
-        verify(orderRepository, never()).save(any());
     }
 
     /**
-     * Tests successful order payment, verifying status update and payment timestamp.
+     * Tests successful order payment, verifying the guarded transition and the published transition.
      */
     @Test
     void shouldPayOrderSuccessfully() {
         // Arrange
-        Order order = Order.builder()
+        Product product = Product.builder()
                 .id(1L)
-                .status(OrderStatus.CREATED)
+                .name("Product 1")
+                .price(BigDecimal.valueOf(10.0))
+                .stockQuantity(8)
                 .build();
+        Order order = orderWithLine(OrderStatus.PAID, product, 2);
 
-        when(orderValidator.validateOrderIsCreated(1L, "paid")).thenReturn(order);
-        when(orderRepository.save(any(Order.class))).thenReturn(order);
+        when(orderRepository.markPaidIfCreated(eq(1L), any(LocalDateTime.class))).thenReturn(1);
+        when(orderRepository.findWithLinesById(1L)).thenReturn(Optional.of(order));
 
         // Act
         orderService.payOrder(1L);
 
         // Assert
-        verify(orderRepository).save(order);
-        assertThat(order.getStatus()).isEqualTo(OrderStatus.PAID);
-        assertThat(order.getPaidAt()).isNotNull();
+        verify(orderValidator).validateTransitionApplied(1, 1L, "paid");
+        verify(orderRepository, never()).save(any());
+        verify(productRepository, never()).saveAll(any());
+        ArgumentCaptor<OrderStatusChangedEvent> event = ArgumentCaptor.forClass(OrderStatusChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().createdOn()).isEqualTo(order.getCreatedAt().toLocalDate());
+        assertThat(event.getValue().previousStatus()).isEqualTo(OrderStatus.CREATED);
+        assertThat(event.getValue().status()).isEqualTo(OrderStatus.PAID);
+        assertThat(event.getValue().amount()).isEqualTo(Money.ofMinor(2000));
+        assertThat(event.getValue().items()).singleElement()
+                .satisfies(item -> assertThat(item.getQuantity()).isEqualTo(2));
     }
 
     /**
@@ -237,19 +410,21 @@ class OrderServiceImplTest {
     @Test
     void shouldFailToPayNonCreatedOrder() {
         // Arrange
-        when(orderValidator.validateOrderIsCreated(1L, "paid"))
-                .thenThrow(new BusinessException("Only CREATED orders can be paid"));
+        when(orderRepository.markPaidIfCreated(eq(1L), any(LocalDateTime.class))).thenReturn(0);
+        doThrow(new BusinessException("Only CREATED orders can be paid"))
+                .when(orderValidator).validateTransitionApplied(0, 1L, "paid");
 
         // Act & Assert
         assertThatThrownBy(() -> orderService.payOrder(1L))
                 .isInstanceOf(BusinessException.class)
                 .hasMessageContaining("Only CREATED orders can be paid");
 
-        verify(orderRepository, never()).save(any());
+        verify(orderRepository, never()).findWithLinesById(any());
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
     /**
-     * Tests successful order expiration, verifying stock restoration and status update.
+     * Tests successful order expiration, verifying the guarded transition and the relative stock restoration.
      */
     @Test
     void shouldExpireOrderByIdSuccessfully() {
@@ -260,43 +435,119 @@ class OrderServiceImplTest {
                 .price(BigDecimal.valueOf(10.0))
                 .stockQuantity(8)
                 .build();
-        OrderProduct orderProduct = OrderProduct.builder()
-                .product(product)
-                .quantity(2)
-                .build();
-        Order order = Order.builder()
-                .id(1L)
-                .status(OrderStatus.CREATED)
-                .orderProducts(List.of(orderProduct))
-                .build();
+        Order order = orderWithLine(OrderStatus.EXPIRED, product, 2);
 
-        when(orderValidator.validateOrderForExpiration(1L)).thenReturn(order);
-        when(productRepository.saveAll(any())).thenReturn(List.of(product));
-        when(orderRepository.save(any(Order.class))).thenReturn(order);
+        when(orderRepository.updateStatusIfCreated(1L, OrderStatus.EXPIRED)).thenReturn(1);
+        when(orderRepository.findWithLinesById(1L)).thenReturn(Optional.of(order));
+        when(productRepository.findAllById(Set.of(1L))).thenReturn(List.of(product));
 
         // Act
         orderService.expireOrderById(1L);
 
         // Assert
-        verify(productRepository).saveAll(any());
-        verify(orderRepository).save(order);
-        assertThat(order.getStatus()).isEqualTo(OrderStatus.EXPIRED);
-        assertThat(product.getStockQuantity()).isEqualTo(10); // Stock restored
+        verify(productRepository).incrementStock(1L, 2L); // Stock restored
+        verify(productRepository, never()).saveAll(any());
+        verify(orderRepository, never()).save(any());
     }
 
     /**
-     * Tests skipping expiration for an order that is not in CREATED status.
+     * Tests skipping expiration for an existing order that is not in CREATED status.
      */
     @Test
     void shouldSkipExpirationIfOrderIsNotCreated() {
         // Arrange
-        when(orderValidator.validateOrderForExpiration(1L)).thenReturn(null);
+        when(orderRepository.updateStatusIfCreated(1L, OrderStatus.EXPIRED)).thenReturn(0);
 
         // Act
         orderService.expireOrderById(1L);
 
         // Assert
+        verify(orderValidator).validateOrderExists(1L);
+        verify(orderRepository, never()).findWithLinesById(any());
         verify(productRepository, never()).saveAll(any());
-        verify(orderRepository, never()).save(any());
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests batch cancellation, verifying per-ID outcomes and that released units are summed into one
+     * stock update per Product.
+     */
+    @Test
+    void shouldCancelOrdersInBatchWithOneStockUpdatePerProduct() {
+        // Arrange
+        Product product = Product.builder()
+                .id(1L)
+                .name("Product 1")
+                .price(BigDecimal.valueOf(10.0))
+                .stockQuantity(8)
+                .build();
+        Order first = orderWithLine(OrderStatus.CANCELLED, product, 2);
+        Order second = orderWithLine(OrderStatus.CANCELLED, product, 3);
+        second.setId(2L);
+
+        when(orderRepository.lockCreatedIds(Set.of(1L, 2L, 3L, 4L))).thenReturn(List.of(1L, 2L));
+        when(orderRepository.findWithLinesByIdIn(List.of(1L, 2L))).thenReturn(List.of(first, second));
+        when(productRepository.findAllById(Set.of(1L))).thenReturn(List.of(product));
+        when(orderRepository.findExistingIds(List.of(3L, 4L))).thenReturn(List.of(3L));
+        when(archivedOrderRepository.findExistingIds(List.of(3L, 4L))).thenReturn(List.of());
+
+        // Act
+        List<OrderTransitionDTO> result = orderService.cancelOrders(List.of(1L, 2L, 3L, 4L));
+
+        // Assert
+        verify(orderRepository).updateStatusIfCreated(List.of(1L, 2L), OrderStatus.CANCELLED);
+        verify(productRepository).incrementStock(1L, 5L);
+        verify(eventPublisher, times(2)).publishEvent(any(OrderStatusChangedEvent.class));
+        assertThat(result).extracting(OrderTransitionDTO::getOrderId, OrderTransitionDTO::getOutcome).containsExactly(
+                tuple(1L, OrderTransitionOutcome.APPLIED),
+                tuple(2L, OrderTransitionOutcome.APPLIED),
+                tuple(3L, OrderTransitionOutcome.INVALID_STATUS),
+                tuple(4L, OrderTransitionOutcome.NOT_FOUND));
+    }
+
+    /**
+     * Tests batch payment, verifying that only the locked CREATED Orders are updated and nothing is published
+     * when none of them can be paid.
+     */
+    @Test
+    void shouldReportUnpayableOrdersInBatchWithoutUpdating() {
+        // Arrange
+        when(orderRepository.lockCreatedIds(Set.of(5L))).thenReturn(List.of());
+        when(orderRepository.findExistingIds(List.of(5L))).thenReturn(List.of());
+        when(archivedOrderRepository.findExistingIds(List.of(5L))).thenReturn(List.of(5L));
+
+        // Act
+        List<OrderTransitionDTO> result = orderService.payOrders(List.of(5L));
+
+        // Assert
+        verify(orderRepository, never()).markPaidIfCreated(anyCollection(), any(LocalDateTime.class));
+        verify(eventPublisher, never()).publishEvent(any());
+        assertThat(result).singleElement().satisfies(outcome -> {
+            assertThat(outcome.getOutcome()).isEqualTo(OrderTransitionOutcome.INVALID_STATUS);
+            assertThat(outcome.getMessage()).isEqualTo("Only CREATED orders can be paid");
+        });
+    }
+
+    private static Order orderWithLine(OrderStatus status, Product product, int quantity) {
+        Order order = Order.builder()
+                .id(1L)
+                .status(status)
+                .createdAt(LocalDateTime.of(2025, 6, 1, 12, 0))
+                .totalAmount(new BigDecimal("20.00"))
+                .build();
+        order.setOrderProducts(List.of(OrderProduct.builder().order(order).product(product).productName(product.getName()).quantity(quantity).build()));
+        return order;
+    }
+
+    private static CreateOrderDTO createOrderDTO(Long productId, int quantity) {
+        CreateOrderDTO dto = new CreateOrderDTO();
+        dto.setItems(List.of(item(productId, quantity)));
+        return dto;
+    }
+
+    private static OrderProductDTO item(Long productId, int quantity) {
+        OrderProductDTO item = new OrderProductDTO();
+        item.setProductId(productId);
+        item.setQuantity(quantity);
+        return item;
+    }
+}
@@ -4,29 +4,45 @@
  */
 package com.vserdiuk.casestudy.service.impl;
 
+import com.vserdiuk.casestudy.cache.ProductCache;
+import com.vserdiuk.casestudy.cache.ProductNameFilter;
+import com.vserdiuk.casestudy.cache.ProductVersionCache;
 import com.vserdiuk.casestudy.dto.CreateProductDTO;
 import com.vserdiuk.casestudy.dto.ProductDTO;
+import com.vserdiuk.casestudy.dto.ProductFilterDTO;
+import com.vserdiuk.casestudy.dto.ProductLookupDTO;
+import com.vserdiuk.casestudy.dto.ProductWindowDTO;
 import com.vserdiuk.casestudy.dto.UpdateProductDTO;
 import com.vserdiuk.casestudy.entity.Product;
+import com.vserdiuk.casestudy.event.ProductsChangedEvent;
+import com.vserdiuk.casestudy.event.ProductsDeletedEvent;
+import com.vserdiuk.casestudy.exception.ProductInUseException;
+import com.vserdiuk.casestudy.repository.OrderProductRepository;
 import com.vserdiuk.casestudy.repository.ProductRepository;
-import com.vserdiuk.casestudy.validator.ProductValidator;
+import com.vserdiuk.casestudy.search.ProductSearchIndex;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -39,17 +55,34 @@ class ProductServiceImplTest {
     private ProductRepository productRepository;
 
     @Mock
-    private ProductValidator productValidator;
+    private OrderProductRepository orderProductRepository;
+
+    @Mock
+    private ProductVersionCache productVersionCache;
+
+    @Mock
+    private ProductCache productCache;
+
+    @Mock
+    private ProductNameFilter productNameFilter;
+
+    @Mock
+    private ProductSearchIndex productSearchIndex;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     private ProductServiceImpl productService;
 
     /**
-     * Initializes mocks before each test method.
+     * Initializes mocks before each test method. The name filter reports every name as possibly taken,
+     * so uniqueness checks go to the repository unless a test says otherwise.
      */
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        when(productNameFilter.mightContain(any())).thenReturn(true);
     }
 
     /**
@@ -82,7 +115,6 @@ class ProductServiceImplTest {
         assertThat(result.getName()).isEqualTo(dto.getName());
         assertThat(result.getPrice()).isEqualTo(dto.getPrice());
         assertThat(result.getStockQuantity()).isEqualTo(dto.getStockQuantity());
-        verify(productValidator).validateDTO(dto);
         verify(productRepository).save(any(Product.class));
     }
 
@@ -103,7 +135,6 @@ class ProductServiceImplTest {
         assertThatThrownBy(() -> productService.createProduct(dto))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("Product with name " + dto.getName() + " already exists");
-        verify(productValidator).validateDTO(dto);
         verify(productRepository, never()).save(any(Product.class));
     }
 
@@ -149,7 +180,6 @@ class ProductServiceImplTest {
         assertThat(result).hasSize(2);
         assertThat(result.get(0).getName()).isEqualTo("Product 1");
         assertThat(result.get(1).getName()).isEqualTo("Product 2");
-        verify(productValidator, times(2)).validateDTO(any(CreateProductDTO.class));
         verify(productRepository).saveAll(any());
     }
 
@@ -211,7 +241,6 @@ class ProductServiceImplTest {
         assertThat(result.getName()).isEqualTo(dto.getName());
         assertThat(result.getPrice()).isEqualTo(dto.getPrice());
         assertThat(result.getStockQuantity()).isEqualTo(dto.getStockQuantity());
-        verify(productValidator).validateDTO(dto);
         verify(productRepository).save(existingProduct);
     }
 
@@ -230,12 +259,12 @@ class ProductServiceImplTest {
         assertThatThrownBy(() -> productService.updateProduct(dto))
                 .isInstanceOf(EntityNotFoundException.class)
                 .hasMessageContaining("Product not found with id: " + dto.getId());
-        verify(productValidator).validateDTO(dto);
         verify(productRepository, never()).save(any(Product.class));
     }
 
     /**
-     * Tests successful update of multiple products, verifying the updated products' details.
+     * Tests successful update of multiple products, verifying the updated products' details and that
+     * the products are loaded with one query.
      */
     @Test
     void shouldUpdateMultipleProductsSuccessfully() {
@@ -269,8 +298,7 @@ class ProductServiceImplTest {
                 .build();
 
         when(productRepository.findByNameIn(any())).thenReturn(List.of());
-        when(productRepository.findById(1L)).thenReturn(Optional.of(product1));
-        when(productRepository.findById(2L)).thenReturn(Optional.of(product2));
+        when(productRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(product2, product1));
         when(productRepository.saveAll(any())).thenReturn(List.of(product1, product2));
 
         // Act
@@ -280,10 +308,33 @@ class ProductServiceImplTest {
         assertThat(result).hasSize(2);
         assertThat(result.get(0).getName()).isEqualTo("Updated Product 1");
         assertThat(result.get(1).getName()).isEqualTo("Updated Product 2");
-        verify(productValidator, times(2)).validateDTO(any(UpdateProductDTO.class));
         verify(productRepository).saveAll(any());
     }
 
+    /**
+     * Tests failure to update multiple products when some of them do not exist, listing every missing ID.
+     */
+    @Test
+    void shouldThrowEntityNotFoundExceptionWhenUpdatingMultipleNonExistingProducts() {
+        // Arrange
+        UpdateProductDTO dto1 = new UpdateProductDTO();
+        dto1.setId(1L);
+        UpdateProductDTO dto2 = new UpdateProductDTO();
+        dto2.setId(2L);
+        UpdateProductDTO dto3 = new UpdateProductDTO();
+        dto3.setId(3L);
+
+        Product product2 = Product.builder().id(2L).name("Product 2").price(BigDecimal.ONE).stockQuantity(1).build();
+        when(productRepository.findAllById(List.of(1L, 2L, 3L))).thenReturn(List.of(product2));
+
+        // Act & Assert
+        assertThatThrownBy(() -> productService.updateProducts(List.of(dto1, dto2, dto3)))
+                .isInstanceOf(EntityNotFoundException.class)
+                .hasMessage("Products not found with ids: [1, 3]");
+        verify(productRepository, never()).findById(any());
+        verify(productRepository, never()).saveAll(any());
+    }
+
     /**
      * Tests failure to update multiple products with duplicate names.
      */
@@ -313,7 +364,7 @@ class ProductServiceImplTest {
     void shouldDeleteProductSuccessfully() {
         // Arrange
         Long productId = 1L;
-        when(productRepository.existsById(productId)).thenReturn(true);
+        when(productRepository.findNameById(productId)).thenReturn(Optional.of("Product 1"));
 
         // Act
         productService.deleteProduct(productId);
@@ -329,7 +380,7 @@ class ProductServiceImplTest {
     void shouldThrowEntityNotFoundExceptionWhenDeletingNonExistingProduct() {
         // Arrange
         Long productId = 1L;
-        when(productRepository.existsById(productId)).thenReturn(false);
+        when(productRepository.findNameById(productId)).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThatThrownBy(() -> productService.deleteProduct(productId))
@@ -339,22 +390,50 @@ class ProductServiceImplTest {
     }
 
     /**
-     * Tests successful deletion of multiple products by IDs.
+     * Tests successful deletion of multiple products by IDs with set-based statements,
+     * releasing their names and publishing a single deletion event.
      */
     @Test
     void shouldDeleteMultipleProductsSuccessfully() {
         // Arrange
         List<Long> ids = List.of(1L, 2L);
-        Product product1 = Product.builder().id(1L).build();
-        Product product2 = Product.builder().id(2L).build();
+        when(productRepository.findIdAndNameByIdIn(ids))
+                .thenReturn(List.of(idAndName(1L, "Keyboard"), idAndName(2L, "Mouse")));
+        when(orderProductRepository.findReferencedProductIds(ids)).thenReturn(List.of());
+
+        // Act
+        productService.deleteProducts(ids);
 
-        when(productRepository.findAllById(ids)).thenReturn(List.of(product1, product2));
+        // Assert
+        verify(productRepository).deleteByIdIn(ids);
+        verify(productRepository, never()).findAllById(any());
+        verify(productRepository, never()).deleteAllById(any());
+        verify(productNameFilter).releaseAfterCommit(List.of("Keyboard", "Mouse"));
+        verify(eventPublisher).publishEvent(new ProductsDeletedEvent(ids));
+    }
+
+    /**
+     * Tests that large deletions run one existence query, one reference check and one delete per chunk.
+     */
+    @Test
+    void shouldDeleteProductsInChunks() {
+        // Arrange
+        List<Long> ids = LongStream.rangeClosed(1, 2500).boxed().toList();
+        when(productRepository.findIdAndNameByIdIn(any())).thenAnswer(invocation -> {
+            List<Long> chunk = invocation.getArgument(0);
+            return chunk.stream().map(id -> idAndName(id, "Product " + id)).toList();
+        });
+        when(orderProductRepository.findReferencedProductIds(any())).thenReturn(List.of());
 
         // Act
         productService.deleteProducts(ids);
 
         // Assert
-        verify(productRepository).deleteAllById(ids);
+        verify(productRepository, times(3)).findIdAndNameByIdIn(any());
+        verify(orderProductRepository, times(3)).findReferencedProductIds(any());
+        verify(productRepository).deleteByIdIn(ids.subList(0, 1000));
+        verify(productRepository).deleteByIdIn(ids.subList(1000, 2000));
+        verify(productRepository).deleteByIdIn(ids.subList(2000, 2500));
     }
 
     /**
@@ -369,7 +448,7 @@ class ProductServiceImplTest {
         assertThatThrownBy(() -> productService.deleteProducts(ids))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("Duplicate Product IDs found");
-        verify(productRepository, never()).deleteAllById(any());
+        verify(productRepository, never()).deleteByIdIn(any());
     }
 
     /**
@@ -379,13 +458,72 @@ class ProductServiceImplTest {
     void shouldThrowEntityNotFoundExceptionWhenDeletingNonExistingProducts() {
         // Arrange
         List<Long> ids = List.of(1L, 2L);
-        when(productRepository.findAllById(ids)).thenReturn(List.of(Product.builder().id(1L).build()));
+        when(productRepository.findIdAndNameByIdIn(ids)).thenReturn(List.of(idAndName(1L, "Keyboard")));
+        when(orderProductRepository.findReferencedProductIds(ids)).thenReturn(List.of());
 
         // Act & Assert
         assertThatThrownBy(() -> productService.deleteProducts(ids))
                 .isInstanceOf(EntityNotFoundException.class)
                 .hasMessageContaining("Products not found with ids: [2]");
-        verify(productRepository, never()).deleteAllById(any());
+        verify(productRepository, never()).deleteByIdIn(any());
+    }
+
+    /**
+     * Tests that no product is deleted when any of them is referenced by an order.
+     */
+    @Test
+    void shouldThrowProductInUseExceptionWhenDeletingReferencedProducts() {
+        // Arrange
+        List<Long> ids = List.of(1L, 2L);
+        when(productRepository.findIdAndNameByIdIn(ids))
+                .thenReturn(List.of(idAndName(1L, "Keyboard"), idAndName(2L, "Mouse")));
+        when(orderProductRepository.findReferencedProductIds(ids)).thenReturn(List.of(2L));
+
+        // Act & Assert
+        assertThatThrownBy(() -> productService.deleteProducts(ids))
+                .isInstanceOf(ProductInUseException.class)
+                .hasMessageContaining("Products referenced by orders cannot be deleted, ids: [2]");
+        verify(productRepository, never()).deleteByIdIn(any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    /**
+     * Tests that multiple products are read through the cache once per distinct ID and returned
+     * in the requested order with not-found markers.
+     */
+    @Test
+    void shouldGetProductsInRequestedOrder() {
+        // Arrange
+        ProductDTO keyboard = ProductDTO.builder().id(1L).name("Keyboard").build();
+        ProductDTO mouse = ProductDTO.builder().id(2L).name("Mouse").build();
+        when(productCache.getProducts(Set.of(1L, 2L, 3L))).thenReturn(Map.of(1L, keyboard, 2L, mouse));
+
+        // Act
+        List<ProductLookupDTO> result = productService.getProducts(List.of(2L, 3L, 1L, 2L));
+
+        // Assert
+        assertThat(result).extracting(ProductLookupDTO::getId, ProductLookupDTO::isFound, ProductLookupDTO::getProduct)
+                .containsExactly(
+                        tuple(2L, true, mouse),
+                        tuple(3L, false, null),
+                        tuple(1L, true, keyboard),
+                        tuple(2L, true, mouse));
+        verify(productRepository, never()).findAllById(any());
+    }
+
+    /**
+     * Tests that a multi-ID read is rejected when more IDs are requested than allowed.
+     */
+    @Test
+    void shouldRejectTooManyProductIds() {
+        // Arrange
+        List<Long> ids = LongStream.rangeClosed(1, 501).boxed().toList();
+
+        // Act & Assert
+        assertThatThrownBy(() -> productService.getProducts(ids))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("At most 500 Product IDs");
+        verifyNoInteractions(productCache);
     }
 
     /**
@@ -461,4 +599,222 @@ class ProductServiceImplTest {
         assertThat(result.getContent().get(1).getName()).isEqualTo("Product 2");
         verify(productRepository).findAll(pageable);
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests that updating a product publishes a {@link ProductsChangedEvent} with the updated state.
+     */
+    @Test
+    void shouldPublishProductsChangedEventOnUpdate() {
+        // Arrange
+        UpdateProductDTO dto = new UpdateProductDTO();
+        dto.setId(1L);
+        dto.setStockQuantity(5);
+
+        Product product = Product.builder()
+                .id(1L)
+                .name("Product 1")
+                .price(BigDecimal.valueOf(10.0))
+                .stockQuantity(100)
+                .build();
+
+        when(productRepository.findById(1L)).thenReturn(Optional.of(product));
+        when(productRepository.save(product)).thenReturn(product);
+
+        // Act
+        productService.updateProduct(dto);
+
+        // Assert
+        verify(eventPublisher).publishEvent(new ProductsChangedEvent(List.of(ProductDTO.builder()
+                .id(1L)
+                .name("Product 1")
+                .price(BigDecimal.valueOf(10.0))
+                .stockQuantity(5)
+                .build())));
+    }
+
+    /**
+     * Tests that deleting a product publishes a {@link ProductsDeletedEvent}.
+     */
+    @Test
+    void shouldPublishProductsDeletedEventOnDelete() {
+        // Arrange
+        when(productRepository.findNameById(1L)).thenReturn(Optional.of("Product 1"));
+
+        // Act
+        productService.deleteProduct(1L);
+
+        // Assert
+        verify(eventPublisher).publishEvent(new ProductsDeletedEvent(List.of(1L)));
+    }
+
+    /**
+     * Tests that the product version is served from the version cache.
+     */
+    @Test
+    void shouldReturnProductVersionFromCache() {
+        // Arrange
+        when(productVersionCache.getVersion(1L)).thenReturn(3L);
+
+        // Act & Assert
+        assertThat(productService.getProductVersion(1L)).isEqualTo(3L);
+        verify(productRepository, never()).findById(any());
+    }
+
+    /**
+     * Tests that product search is served from the search index without querying the repository.
+     */
+    @Test
+    void shouldSearchProductsFromIndex() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 10);
+        Page<ProductDTO> page = new PageImpl<>(List.of(ProductDTO.builder().id(1L).name("Product 1").build()), pageable, 1);
+        when(productSearchIndex.search("prod", pageable)).thenReturn(page);
+
+        // Act
+        Page<ProductDTO> result = productService.searchProducts("prod", pageable);
+
+        // Assert
+        assertThat(result).isSameAs(page);
+        verifyNoInteractions(productRepository);
+    }
+
+    /**
+     * Tests that a filtered query returns one page plus a cursor when more products match,
+     * and that the cursor is accepted for the next page.
+     */
+    @Test
+    void shouldFilterProductsWithKeysetCursor() {
+        // Arrange
+        ProductFilterDTO filter = new ProductFilterDTO();
+        filter.setMinPrice(BigDecimal.TEN);
+        filter.setInStock(true);
+        filter.setSize(2);
+        List<Product> products = List.of(
+                Product.builder().id(1L).name("Product 1").price(BigDecimal.valueOf(10.5)).stockQuantity(5).build(),
+                Product.builder().id(2L).name("Product 2").price(BigDecimal.valueOf(12.5)).stockQuantity(5).build(),
+                Product.builder().id(3L).name("Product 3").price(BigDecimal.valueOf(15.0)).stockQuantity(5).build());
+        when(productRepository.<Product, List<Product>>findBy(any(Specification.class), any())).thenReturn(products, List.of(products.get(2)));
+
+        // Act
+        ProductWindowDTO firstPage = productService.filterProducts(filter);
+        filter.setCursor(firstPage.getNextCursor());
+        ProductWindowDTO secondPage = productService.filterProducts(filter);
+
+        // Assert
+        assertThat(firstPage.getContent()).extracting(ProductDTO::getId).containsExactly(1L, 2L);
+        assertThat(firstPage.isHasNext()).isTrue();
+        assertThat(firstPage.getNextCursor()).isNotNull();
+        assertThat(secondPage.getContent()).extracting(ProductDTO::getId).containsExactly(3L);
+        assertThat(secondPage.isHasNext()).isFalse();
+        assertThat(secondPage.getNextCursor()).isNull();
+    }
+
+    /**
+     * Tests that a malformed cursor is rejected with {@link IllegalArgumentException}.
+     */
+    @Test
+    void shouldThrowIllegalArgumentExceptionWhenCursorIsMalformed() {
+        // Arrange
+        ProductFilterDTO filter = new ProductFilterDTO();
+        filter.setCursor("not-a-cursor");
+
+        // Act & Assert
+        assertThatThrownBy(() -> productService.filterProducts(filter))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid cursor: not-a-cursor");
+        verifyNoInteractions(productRepository);
+    }
+
+    /**
+     * Tests that names ruled out by the name filter are not checked against the repository,
+     * and that created names are added to the filter.
+     */
+    @Test
+    void shouldSkipUniquenessQueriesForNamesRuledOutByFilter() {
+        // Arrange
+        CreateProductDTO dto1 = new CreateProductDTO();
+        dto1.setName("New Product 1");
+        dto1.setPrice(BigDecimal.valueOf(10.0));
+        dto1.setStockQuantity(5);
+        CreateProductDTO dto2 = new CreateProductDTO();
+        dto2.setName("New Product 2");
+        dto2.setPrice(BigDecimal.valueOf(20.0));
+        dto2.setStockQuantity(5);
+        when(productNameFilter.mightContain(any())).thenReturn(false);
+        when(productRepository.save(any(Product.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(productRepository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        productService.createProduct(dto1);
+        productService.createProducts(List.of(dto2));
+
+        // Assert
+        verify(productRepository, never()).existsByName(any());
+        verify(productRepository, never()).findByNameIn(any());
+        verify(productNameFilter).add("New Product 1");
+        verify(productNameFilter).add("New Product 2");
+    }
+
+    /**
+     * Tests that only the names the name filter cannot rule out are queried in a batch check.
+     */
+    @Test
+    void shouldQueryOnlyProbableNamesInBatchCheck() {
+        // Arrange
+        CreateProductDTO dto1 = new CreateProductDTO();
+        dto1.setName("Existing Product");
+        dto1.setPrice(BigDecimal.valueOf(10.0));
+        dto1.setStockQuantity(5);
+        CreateProductDTO dto2 = new CreateProductDTO();
+        dto2.setName("New Product");
+        dto2.setPrice(BigDecimal.valueOf(20.0));
+        dto2.setStockQuantity(5);
+        when(productNameFilter.mightContain("New Product")).thenReturn(false);
+        when(productRepository.findByNameIn(List.of("Existing Product")))
+                .thenReturn(List.of(Product.builder().id(1L).name("Existing Product").build()));
+
+        // Act & Assert
+        assertThatThrownBy(() -> productService.createProducts(List.of(dto1, dto2)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Products already exist: Existing Product");
+        verify(productRepository).findByNameIn(List.of("Existing Product"));
+    }
+
+    /**
+     * Tests that renaming and deleting products release the old names from the name filter.
+     */
+    @Test
+    void shouldReleaseNamesOnRenameAndDelete() {
+        // Arrange
+        Product product = Product.builder().id(1L).name("Old Name").price(BigDecimal.TEN).stockQuantity(5).build();
+        UpdateProductDTO dto = new UpdateProductDTO();
+        dto.setId(1L);
+        dto.setName("New Name");
+        when(productRepository.findById(1L)).thenReturn(Optional.of(product));
+        when(productRepository.save(any(Product.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(productRepository.findNameById(1L)).thenReturn(Optional.of("New Name"));
+
+        // Act
+        productService.updateProduct(dto);
+        productService.deleteProduct(1L);
+
+        // Assert
+        verify(productNameFilter).add("New Name");
+        verify(productNameFilter).releaseAfterCommit(List.of("Old Name"));
+        verify(productNameFilter).releaseAfterCommit(List.of("New Name"));
+    }
+
+    private static ProductRepository.IdAndName idAndName(Long id, String name) {
+        return new ProductRepository.IdAndName() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getName() {
+                return name;
+            }
+        };
+    }
+}
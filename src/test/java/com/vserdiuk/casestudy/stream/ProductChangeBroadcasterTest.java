@@ -0,0 +1,174 @@
+package com.vserdiuk.casestudy.stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vserdiuk.casestudy.dto.ProductDTO;
+import com.vserdiuk.casestudy.event.ProductsChangedEvent;
+import com.vserdiuk.casestudy.event.ProductsDeletedEvent;
+import com.vserdiuk.casestudy.exception.ServiceOverloadedException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link ProductChangeBroadcaster}, verifying coalescing of changes, fan-out to subscribers
+ * and disconnection of subscribers that fall behind.
+ */
+class ProductChangeBroadcasterTest {
+
+    private final ProductChangeBroadcaster broadcaster =
+            new ProductChangeBroadcaster(new ObjectMapper(), 60_000, 60_000, 2, 2, 2);
+
+    @BeforeEach
+    void setUp() {
+        broadcaster.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.stop();
+    }
+
+    /**
+     * Tests that several changes to the same Product within a window are sent once, with the latest state,
+     * to every subscriber.
+     */
+    @Test
+    void shouldCoalesceChangesPerProductAndFanOut() throws Exception {
+        // Arrange
+        CapturingEmitter first = new CapturingEmitter();
+        CapturingEmitter second = new CapturingEmitter();
+        broadcaster.register(first);
+        broadcaster.register(second);
+
+        // Act
+        broadcaster.onProductsChanged(new ProductsChangedEvent(List.of(product(1L, 10))));
+        broadcaster.onProductsChanged(new ProductsChangedEvent(List.of(product(1L, 8))));
+        broadcaster.onProductsDeleted(new ProductsDeletedEvent(List.of(2L)));
+        broadcaster.flush();
+        broadcaster.flush();
+
+        // Assert
+        List<String> events = first.take(2);
+        assertThat(events.get(0))
+                .contains("event:products")
+                .contains("\"stockQuantity\":8")
+                .doesNotContain("\"stockQuantity\":10");
+        assertThat(events.get(1)).contains("event:deleted").contains("[2]");
+        assertThat(second.take(2)).isEqualTo(events);
+        assertThat(first.events).isEmpty();
+    }
+
+    /**
+     * Tests that a subscriber blocked in a write neither delays the others nor stays subscribed
+     * once its buffer is full.
+     */
+    @Test
+    void shouldDisconnectSlowSubscriberWithoutDelayingOthers() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        BlockingEmitter slow = new BlockingEmitter(release);
+        CapturingEmitter fast = new CapturingEmitter();
+        broadcaster.register(slow);
+        broadcaster.register(fast);
+
+        // Act & Assert
+        try {
+            for (int stock = 1; stock <= 4; stock++) {
+                broadcaster.onProductsChanged(new ProductsChangedEvent(List.of(product(1L, stock))));
+                broadcaster.flush();
+                assertThat(fast.take(1)).singleElement().asString().contains("\"stockQuantity\":" + stock);
+            }
+            assertThat(broadcaster.subscriberCount()).isEqualTo(1);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    /**
+     * Tests that new subscriptions are refused once the subscriber limit is reached.
+     */
+    @Test
+    void shouldRejectSubscribersBeyondLimit() {
+        // Arrange
+        broadcaster.subscribe();
+        broadcaster.subscribe();
+
+        // Act & Assert
+        assertThatThrownBy(broadcaster::subscribe)
+                .isInstanceOf(ServiceOverloadedException.class)
+                .hasMessageContaining("Too many Product change subscribers");
+    }
+
+    private static ProductDTO product(Long id, int stockQuantity) {
+        return ProductDTO.builder()
+                .id(id)
+                .name("Product " + id)
+                .price(BigDecimal.valueOf(10.0))
+                .stockQuantity(stockQuantity)
+                .build();
+    }
+
+    /**
+     * Emitter capturing the text of every event sent to it.
+     */
+    private static class CapturingEmitter extends SseEmitter {
+
+        private final BlockingQueue<String> events = new LinkedBlockingQueue<>();
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            events.add(builder.build().stream()
+                    .map(part -> String.valueOf(part.getData()))
+                    .collect(Collectors.joining()));
+        }
+
+        /**
+         * Waits for the next events, which are sent by the sender threads of the broadcaster.
+         */
+        List<String> take(int count) throws InterruptedException {
+            List<String> taken = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                String event = events.poll(5, TimeUnit.SECONDS);
+                assertThat(event).as("event %d of %d", i + 1, count).isNotNull();
+                taken.add(event);
+            }
+            return taken;
+        }
+    }
+
+    /**
+     * Emitter whose writes block until released, like a client that stopped reading.
+     */
+    private static class BlockingEmitter extends SseEmitter {
+
+        private final CountDownLatch release;
+
+        BlockingEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+        }
+    }
+}